@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.spi.encrypt;
+
+import java.util.List;
+
+/**
+ * Sharding batch encryptor.
+ * 
+ * <p>Encrypts or decrypts all values of one column in a single call, so implementations can reuse ciphers or hand the values to vectorized or native libraries.</p>
+ *
+ * @author agent
+ */
+public interface ShardingBatchEncryptor extends ShardingEncryptor {
+    
+    /**
+     * Encode values in batch.
+     * 
+     * @param plaintexts plaintexts
+     * @return ciphertexts in the same order of plaintexts
+     */
+    List<String> encryptBatch(List<?> plaintexts);
+    
+    /**
+     * Decode values in batch.
+     * 
+     * @param ciphertexts ciphertexts
+     * @return plaintexts in the same order of ciphertexts
+     */
+    List<Object> decryptBatch(List<String> ciphertexts);
+}
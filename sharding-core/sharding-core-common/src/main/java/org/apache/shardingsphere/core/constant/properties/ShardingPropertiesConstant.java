@@ -80,6 +80,128 @@ public enum ShardingPropertiesConstant {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max rows kept in memory for each memory merged query.
+     *
+     * <p>
+     * Rows exceeding this threshold spill to local temporary files, and the merge continues on disk.
+     * Default: 0, means no limit.
+     * </p>
+     */
+    MAX_MEMORY_MERGE_ROWS_PER_QUERY("max.memory.merge.rows.per.query", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable parallel aggregation for group by memory merge.
+     *
+     * <p>
+     * Each query result is aggregated by its own thread, then partial aggregations are combined and sorted in parallel.
+     * Parallel aggregation is used only when rows are not spilled.
+     * Default: false
+     * </p>
+     */
+    MERGE_GROUP_BY_PARALLEL_ENABLED("merge.group.by.parallel.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to prefetch rows of stream query results in background.
+     *
+     * <p>
+     * Rows of each routed result set are read by a prefetch thread into a buffer bounded by fetch size,
+     * so merging rows overlaps with fetching rows from databases. Only works for MEMORY_STRICTLY connection mode.
+     * Default: false
+     * </p>
+     */
+    QUERY_RESULT_PREFETCH_ENABLED("query.result.prefetch.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable driver streaming for routed queries of Sharding-JDBC.
+     *
+     * <p>
+     * Statements of MEMORY_STRICTLY connection mode fetch rows by streaming policy of database,
+     * MySQL streams rows one by one, others fetch rows in rounds of fetch size.
+     * Sharding-Proxy always streams rows of MEMORY_STRICTLY connection mode.
+     * Default: false
+     * </p>
+     */
+    QUERY_STREAMING_ENABLED("query.streaming.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Fetch size of streaming routed queries of Sharding-JDBC if fetch size of logic statement is not set.
+     *
+     * <p>
+     * Sharding-Proxy keeps fetching one row at a time for MEMORY_STRICTLY connection mode.
+     * Default: 1000
+     * </p>
+     */
+    QUERY_STREAMING_FETCH_SIZE("query.streaming.fetch.size", String.valueOf(1000), int.class),
+    
+    /**
+     * Max estimated heap bytes buffered by each query.
+     *
+     * <p>
+     * Default: 0, means no limit.
+     * </p>
+     */
+    MAX_MEMORY_BYTES_PER_QUERY("max.memory.bytes.per.query", String.valueOf(0), long.class),
+    
+    /**
+     * Max estimated heap bytes buffered by all queries in this JVM.
+     *
+     * <p>
+     * Default: 0, means no limit.
+     * </p>
+     */
+    MAX_MEMORY_BYTES_GLOBAL("max.memory.bytes.global", String.valueOf(0), long.class),
+    
+    /**
+     * Behavior when query exceeds memory limits.
+     *
+     * <p>
+     * FAIL: abort the query.
+     * STREAM: stop buffering and read the rest rows from database directly.
+     * SPILL: spill buffered rows to local temporary files if possible, otherwise same as STREAM.
+     * Default: FAIL
+     * </p>
+     */
+    MEMORY_LIMIT_EXCEEDED_BEHAVIOR("memory.limit.exceeded.behavior", "FAIL", String.class),
+    
+    /**
+     * Enable or Disable hedged read for slave routed queries.
+     *
+     * <p>
+     * If the routed slave does not return in hedge delay, the same query is sent to another slave and the first returned one wins.
+     * Default: false
+     * </p>
+     */
+    MASTER_SLAVE_HEDGED_READ_ENABLED("master.slave.hedged.read.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Percentile of recent slave read latencies used as hedge delay.
+     * 
+     * <p>
+     * Default: 95
+     * </p>
+     */
+    MASTER_SLAVE_HEDGED_READ_DELAY_PERCENTILE("master.slave.hedged.read.delay.percentile", String.valueOf(95), int.class),
+    
+    /**
+     * Max percentage of hedged reads to all slave reads.
+     *
+     * <p>
+     * Default: 10
+     * </p>
+     */
+    MASTER_SLAVE_HEDGED_READ_BUDGET_PERCENT("master.slave.hedged.read.budget.percent", String.valueOf(10), int.class),
+    
+    /**
+     * Min count of values of one encrypted column to encrypt in parallel for insert statement.
+     *
+     * <p>
+     * Values are encrypted by worker threads of executor if count reaches this threshold.
+     * Default: 1000, 0 means never encrypt in parallel.
+     * </p>
+     */
+    ENCRYPT_PARALLEL_THRESHOLD("encrypt.parallel.threshold", String.valueOf(1000), int.class),
+    
     /**
      * Sharding-Proxy's flush threshold for every records from databases.
      */
@@ -114,7 +236,45 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Load table meta data in bulk.
+     *
+     * <p>
+     * Meta data of all tables in one data source are loaded by few queries on information schema with one connection, if database supports.
+     * MySQL and PostgreSQL are supported now, others still load meta data by each table.
+     * Default: false.
+     * </p>
+     */
+    LOAD_TABLE_METADATA_IN_BULK("load.table.metadata.in.bulk", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Local snapshot file of table meta data.
+     *
+     * <p>
+     * Table meta data are loaded from snapshot on start and revalidated against databases in background, and loaded from databases if snapshot is absent or stale.
+     * Sharding-Proxy appends {@code .} and schema name to the file name for each logic schema.
+     * Default: empty, means table meta data are always loaded from databases.
+     * </p>
+     */
+    TABLE_METADATA_SNAPSHOT_FILE("table.metadata.snapshot.file", "", String.class),
+    
+    /**
+     * Load table meta data lazily.
+     *
+     * <p>
+     * Meta data of each table are loaded when the table is used by SQL at the first time, except tables configured in {@code eager.loaded.tables}.
+     * Local snapshot file of table meta data is not used if loading lazily.
+     * Default: false.
+     * </p>
+     */
+    LOAD_TABLE_METADATA_LAZILY("load.table.metadata.lazily", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Tables whose meta data are loaded on start when loading table meta data lazily, separated by comma.
+     */
+    EAGER_LOADED_TABLES("eager.loaded.tables", "", String.class);
     
     private final String key;
     
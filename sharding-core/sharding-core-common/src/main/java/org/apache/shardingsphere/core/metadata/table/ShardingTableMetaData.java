@@ -18,16 +18,25 @@
 package org.apache.shardingsphere.core.metadata.table;
 
 import com.google.common.base.Optional;
-import lombok.Getter;
+import lombok.SneakyThrows;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * Sharding table meta data.
+ * 
+ * <p>Meta data of lazy tables are loaded when they are used at the first time.</p>
+ * 
+ * <p>Loaded meta data are published only if the loading task is still registered, so {@code put} or {@code remove} during loading wins.</p>
  *
  * @author panjuan
  * @author zhaojun
@@ -36,20 +45,84 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class ShardingTableMetaData {
     
-    @Getter
-    private final Map<String, TableMetaData> tables;
+    private final ConcurrentMap<String, TableMetaData> tables;
+    
+    private final ConcurrentMap<String, FutureTask<TableMetaData>> lazyTables;
+    
+    private final LazyTableMetaDataLoader lazyTableMetaDataLoader;
+    
+    private final Map<String, Long> versions = new HashMap<>();
+    
+    private long latestVersion;
     
     public ShardingTableMetaData(final Map<String, TableMetaData> tables) {
+        this(tables, Collections.<String>emptyList(), null);
+    }
+    
+    public ShardingTableMetaData(final Map<String, TableMetaData> tables, final Collection<String> lazyTableNames, final LazyTableMetaDataLoader lazyTableMetaDataLoader) {
         this.tables = new ConcurrentHashMap<>(tables);
+        this.lazyTableMetaDataLoader = lazyTableMetaDataLoader;
+        lazyTables = new ConcurrentHashMap<>(lazyTableNames.size(), 1);
+        for (String each : lazyTableNames) {
+            if (!tables.containsKey(each)) {
+                lazyTables.put(each, createLazyLoadingTask(each));
+            }
+        }
+    }
+    
+    private FutureTask<TableMetaData> createLazyLoadingTask(final String logicTableName) {
+        return new FutureTask<>(new Callable<TableMetaData>() {
+            
+            @Override
+            public TableMetaData call() {
+                return lazyTableMetaDataLoader.load(logicTableName);
+            }
+        });
+    }
+    
+    /**
+     * Get loaded table meta data.
+     * 
+     * <p>Lazy tables which are not loaded yet are not contained, use {@code get} to load and get table meta data of them.</p>
+     * 
+     * @return loaded table meta data
+     */
+    public ConcurrentMap<String, TableMetaData> getTables() {
+        return tables;
     }
     
     /**
      * Get table meta data by table name.
+     * 
+     * <p>Table meta data are loaded if not loaded yet, and loading of the same table is only once for concurrent calls.</p>
+     * 
      * @param logicTableName logicTableName logic table name
      * @return table mata data
      */
     public TableMetaData get(final String logicTableName) {
-        return tables.get(logicTableName);
+        TableMetaData result = tables.get(logicTableName);
+        return null == result ? loadLazily(logicTableName) : result;
+    }
+    
+    @SneakyThrows
+    private TableMetaData loadLazily(final String logicTableName) {
+        FutureTask<TableMetaData> task = lazyTables.get(logicTableName);
+        if (null == task) {
+            return tables.get(logicTableName);
+        }
+        task.run();
+        TableMetaData result;
+        try {
+            result = task.get();
+        } catch (final ExecutionException ex) {
+            lazyTables.replace(logicTableName, task, createLazyLoadingTask(logicTableName));
+            throw ex.getCause();
+        }
+        if (lazyTables.remove(logicTableName, task)) {
+            tables.putIfAbsent(logicTableName, result);
+        }
+        TableMetaData current = tables.get(logicTableName);
+        return null == current ? result : current;
     }
     
     /**
@@ -58,8 +131,26 @@ public final class ShardingTableMetaData {
      * @param logicTableName logic table name
      * @param tableMetaData table meta data
      */
-    public void put(final String logicTableName, final TableMetaData tableMetaData) {
+    public synchronized void put(final String logicTableName, final TableMetaData tableMetaData) {
         tables.put(logicTableName, tableMetaData);
+        lazyTables.remove(logicTableName);
+        versions.put(logicTableName, ++latestVersion);
+    }
+    
+    /**
+     * Add table meta data if they are not changed since the version.
+     * 
+     * @param logicTableName logic table name
+     * @param tableMetaData table meta data
+     * @param expectedVersion expected version of table meta data
+     * @return table meta data are added or not
+     */
+    public synchronized boolean put(final String logicTableName, final TableMetaData tableMetaData, final long expectedVersion) {
+        if (expectedVersion != getVersion(logicTableName)) {
+            return false;
+        }
+        put(logicTableName, tableMetaData);
+        return true;
     }
     
     /**
@@ -67,8 +158,38 @@ public final class ShardingTableMetaData {
      *
      * @param logicTableName logic table name
      */
-    public void remove(final String logicTableName) {
+    public synchronized void remove(final String logicTableName) {
+        lazyTables.remove(logicTableName);
         tables.remove(logicTableName);
+        versions.put(logicTableName, ++latestVersion);
+    }
+    
+    /**
+     * Remove table meta data if they are not changed since the version.
+     *
+     * @param logicTableName logic table name
+     * @param expectedVersion expected version of table meta data
+     * @return table meta data are removed or not
+     */
+    public synchronized boolean remove(final String logicTableName, final long expectedVersion) {
+        if (expectedVersion != getVersion(logicTableName)) {
+            return false;
+        }
+        remove(logicTableName);
+        return true;
+    }
+    
+    /**
+     * Get version of table meta data.
+     * 
+     * <p>Version is increased whenever table meta data are added or removed, and is 0 if they are never changed.</p>
+     *
+     * @param logicTableName logic table name
+     * @return version of table meta data
+     */
+    public synchronized long getVersion(final String logicTableName) {
+        Long result = versions.get(logicTableName);
+        return null == result ? 0L : result;
     }
     
     /**
@@ -78,7 +199,7 @@ public final class ShardingTableMetaData {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName);
+        return tables.containsKey(tableName) || lazyTables.containsKey(tableName);
     }
     
     /**
@@ -89,7 +210,8 @@ public final class ShardingTableMetaData {
      * @return contains column from table meta data or not
      */
     public boolean containsColumn(final String tableName, final String column) {
-        return containsTable(tableName) && tables.get(tableName).getColumns().keySet().contains(column.toLowerCase());
+        TableMetaData tableMetaData = containsTable(tableName) ? get(tableName) : null;
+        return null != tableMetaData && tableMetaData.getColumns().keySet().contains(column.toLowerCase());
     }
     
     /**
@@ -99,12 +221,15 @@ public final class ShardingTableMetaData {
      * @return column names
      */
     public Collection<String> getAllColumnNames(final String tableName) {
-        return tables.containsKey(tableName) ? tables.get(tableName).getColumns().keySet() : Collections.<String>emptyList();
+        TableMetaData tableMetaData = containsTable(tableName) ? get(tableName) : null;
+        return null == tableMetaData ? Collections.<String>emptyList() : tableMetaData.getColumns().keySet();
     }
     
     /**
      * Get logic table name.
      * 
+     * <p>Loaded tables are searched first, lazy tables are loaded one by one only if the index is not found in loaded tables.</p>
+     * 
      * @param logicIndexName logic index name
      * @return logic table name
      */
@@ -114,6 +239,12 @@ public final class ShardingTableMetaData {
                 return Optional.of(entry.getKey());
             }
         }
+        for (String each : lazyTables.keySet()) {
+            TableMetaData tableMetaData = get(each);
+            if (null != tableMetaData && tableMetaData.getLogicIndexes().contains(logicIndexName)) {
+                return Optional.of(each);
+            }
+        }
         return Optional.absent();
     }
 }
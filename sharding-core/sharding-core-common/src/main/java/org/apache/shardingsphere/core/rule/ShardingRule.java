@@ -34,6 +34,8 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
+import org.apache.shardingsphere.spi.keygen.ShardingBatchKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.ShardingEmbeddedKeyGenerator;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
@@ -353,12 +355,67 @@ public class ShardingRule implements BaseRule {
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getShardingKeyGenerator(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     * 
+     * <p>Keys are reserved in one call if sharding key generator supports batch generation.</p>
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to generate
+     * @return generated keys
+     */
+    public List<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        ShardingKeyGenerator shardingKeyGenerator = getShardingKeyGenerator(logicTableName);
+        if (shardingKeyGenerator instanceof ShardingBatchKeyGenerator) {
+            return ((ShardingBatchKeyGenerator) shardingKeyGenerator).generateKeys(count);
+        }
+        List<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(shardingKeyGenerator.generateKey());
+        }
+        return result;
+    }
+    
+    /**
+     * Find name of sharding column embedded into generated keys.
+     *
+     * @param logicTableName logic table name
+     * @return name of sharding column embedded into generated keys
+     */
+    public Optional<String> findShardingEmbeddedColumnName(final String logicTableName) {
+        ShardingKeyGenerator shardingKeyGenerator = getShardingKeyGenerator(logicTableName);
+        return shardingKeyGenerator instanceof ShardingEmbeddedKeyGenerator 
+                ? Optional.fromNullable(((ShardingEmbeddedKeyGenerator) shardingKeyGenerator).getShardingColumn()) : Optional.<String>absent();
+    }
+    
+    /**
+     * Generate keys embedding shards of sharding values.
+     *
+     * @param logicTableName logic table name
+     * @param shardingValues values of sharding column embedded into generated keys, one for each row
+     * @return generated keys
+     */
+    public List<Comparable<?>> generateKeys(final String logicTableName, final List<Comparable<?>> shardingValues) {
+        ShardingKeyGenerator shardingKeyGenerator = getShardingKeyGenerator(logicTableName);
+        if (!(shardingKeyGenerator instanceof ShardingEmbeddedKeyGenerator)) {
+            return generateKeys(logicTableName, shardingValues.size());
+        }
+        List<Comparable<?>> result = new ArrayList<>(shardingValues.size());
+        for (Comparable<?> each : shardingValues) {
+            result.add(((ShardingEmbeddedKeyGenerator) shardingKeyGenerator).generateKey(each));
+        }
+        return result;
+    }
+    
+    private ShardingKeyGenerator getShardingKeyGenerator(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
         }
-        ShardingKeyGenerator shardingKeyGenerator = null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
-        return shardingKeyGenerator.generateKey();
+        return null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
     }
     
     /**
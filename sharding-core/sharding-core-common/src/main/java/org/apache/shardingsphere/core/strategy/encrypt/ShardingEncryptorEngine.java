@@ -17,10 +17,8 @@
 
 package org.apache.shardingsphere.core.strategy.encrypt;
 
-import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.config.encryptor.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.encryptor.EncryptorRuleConfiguration;
@@ -28,6 +26,7 @@ import org.apache.shardingsphere.core.rule.ColumnNode;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -156,16 +155,14 @@ public final class ShardingEncryptorEngine {
      * @return assisted column values
      */
     public List<Comparable<?>> getEncryptAssistedColumnValues(final ColumnNode columnNode, final List<Comparable<?>> originalColumnValues) {
-        final Optional<ShardingEncryptor> shardingEncryptor = getShardingEncryptor(columnNode.getTableName(), columnNode.getColumnName());
+        Optional<ShardingEncryptor> shardingEncryptor = getShardingEncryptor(columnNode.getTableName(), columnNode.getColumnName());
         Preconditions.checkArgument(shardingEncryptor.isPresent() && shardingEncryptor.get() instanceof ShardingQueryAssistedEncryptor,
                 String.format("Can not find ShardingQueryAssistedEncryptor by %s.", columnNode));
-        return Lists.transform(originalColumnValues, new Function<Comparable<?>, Comparable<?>>() {
-            
-            @Override
-            public Comparable<?> apply(final Comparable<?> input) {
-                return ((ShardingQueryAssistedEncryptor) shardingEncryptor.get()).queryAssistedEncrypt(input.toString());
-            }
-        });
+        List<Comparable<?>> result = new ArrayList<>(originalColumnValues.size());
+        for (Comparable<?> each : originalColumnValues) {
+            result.add(((ShardingQueryAssistedEncryptor) shardingEncryptor.get()).queryAssistedEncrypt(each.toString()));
+        }
+        return result;
     }
     
     /**
@@ -176,14 +173,16 @@ public final class ShardingEncryptorEngine {
      * @return encrypt column values
      */
     public List<Comparable<?>> getEncryptColumnValues(final ColumnNode columnNode, final List<Comparable<?>> originalColumnValues) {
-        final Optional<ShardingEncryptor> shardingEncryptor = getShardingEncryptor(columnNode.getTableName(), columnNode.getColumnName());
+        Optional<ShardingEncryptor> shardingEncryptor = getShardingEncryptor(columnNode.getTableName(), columnNode.getColumnName());
         Preconditions.checkArgument(shardingEncryptor.isPresent(), String.format("Can not find ShardingEncryptor by %s.", columnNode));
-        return Lists.transform(originalColumnValues, new Function<Comparable<?>, Comparable<?>>() {
-            
-            @Override
-            public Comparable<?> apply(final Comparable<?> input) {
-                return String.valueOf(shardingEncryptor.get().encrypt(input.toString()));
-            }
-        });
+        List<String> plaintexts = new ArrayList<>(originalColumnValues.size());
+        for (Comparable<?> each : originalColumnValues) {
+            plaintexts.add(each.toString());
+        }
+        List<Comparable<?>> result = new ArrayList<>(plaintexts.size());
+        for (String each : ShardingEncryptorUtil.encrypt(shardingEncryptor.get(), plaintexts)) {
+            result.add(String.valueOf(each));
+        }
+        return result;
     }
 }
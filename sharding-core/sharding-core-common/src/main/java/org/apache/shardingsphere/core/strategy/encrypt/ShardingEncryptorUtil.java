@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Lists;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Sharding encryptor utility.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingEncryptorUtil {
+    
+    /**
+     * Encrypt values of one column.
+     * 
+     * <p>Use batch encryption if sharding encryptor supports, otherwise encrypt values one by one.</p>
+     * 
+     * @param shardingEncryptor sharding encryptor
+     * @param plaintexts plaintexts
+     * @return ciphertexts in the same order of plaintexts
+     */
+    public static List<String> encrypt(final ShardingEncryptor shardingEncryptor, final List<?> plaintexts) {
+        if (shardingEncryptor instanceof ShardingBatchEncryptor) {
+            return ((ShardingBatchEncryptor) shardingEncryptor).encryptBatch(plaintexts);
+        }
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(shardingEncryptor.encrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt values of one column.
+     * 
+     * <p>Use batch decryption if sharding encryptor supports, otherwise decrypt values one by one.</p>
+     * 
+     * @param shardingEncryptor sharding encryptor
+     * @param ciphertexts ciphertexts
+     * @return plaintexts in the same order of ciphertexts
+     */
+    public static List<Object> decrypt(final ShardingEncryptor shardingEncryptor, final List<String> ciphertexts) {
+        if (shardingEncryptor instanceof ShardingBatchEncryptor) {
+            return ((ShardingBatchEncryptor) shardingEncryptor).decryptBatch(ciphertexts);
+        }
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(shardingEncryptor.decrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Encrypt values of one column in parallel.
+     * 
+     * <p>Values are encrypted on calling thread if count of values is less than parallel threshold or executor service is absent.</p>
+     * 
+     * @param shardingEncryptor sharding encryptor
+     * @param plaintexts plaintexts
+     * @param executorService executor service, null means serial encryption
+     * @param parallelThreshold min count of values to encrypt in parallel, 0 means always serial
+     * @return ciphertexts in the same order of plaintexts
+     */
+    public static List<String> encrypt(final ShardingEncryptor shardingEncryptor, final List<?> plaintexts, final ExecutorService executorService, final int parallelThreshold) {
+        return execute(plaintexts, new Function<List<?>, List<String>>() {
+            
+            @Override
+            public List<String> apply(final List<?> input) {
+                return encrypt(shardingEncryptor, input);
+            }
+        }, executorService, parallelThreshold);
+    }
+    
+    /**
+     * Query assisted encrypt values of one column in parallel.
+     *
+     * <p>Values are encrypted on calling thread if count of values is less than parallel threshold or executor service is absent.</p>
+     * 
+     * @param shardingEncryptor sharding query assisted encryptor
+     * @param plaintexts plaintexts
+     * @param executorService executor service, null means serial encryption
+     * @param parallelThreshold min count of values to encrypt in parallel, 0 means always serial
+     * @return assisted query ciphertexts in the same order of plaintexts
+     */
+    public static List<String> queryAssistedEncrypt(
+            final ShardingQueryAssistedEncryptor shardingEncryptor, final List<?> plaintexts, final ExecutorService executorService, final int parallelThreshold) {
+        return execute(plaintexts, new Function<List<?>, List<String>>() {
+            
+            @Override
+            public List<String> apply(final List<?> input) {
+                List<String> result = new ArrayList<>(input.size());
+                for (Object each : input) {
+                    result.add(shardingEncryptor.queryAssistedEncrypt(each.toString()));
+                }
+                return result;
+            }
+        }, executorService, parallelThreshold);
+    }
+    
+    @SneakyThrows
+    private static List<String> execute(final List<?> values, final Function<List<?>, List<String>> function, final ExecutorService executorService, final int parallelThreshold) {
+        if (null == executorService || parallelThreshold <= 0 || values.size() < parallelThreshold) {
+            return function.apply(values);
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int partitionSize = (values.size() + parallelism - 1) / parallelism;
+        Iterator<? extends List<?>> partitions = Lists.partition(values, partitionSize).iterator();
+        List<?> firstPartition = partitions.next();
+        List<FutureTask<List<String>>> tasks = new ArrayList<>();
+        while (partitions.hasNext()) {
+            FutureTask<List<String>> task = createTask(partitions.next(), function);
+            tasks.add(task);
+            try {
+                executorService.execute(task);
+            } catch (final RejectedExecutionException ignore) {
+            }
+        }
+        List<String> result = new ArrayList<>(values.size());
+        result.addAll(function.apply(firstPartition));
+        for (FutureTask<List<String>> each : tasks) {
+            // run on calling thread if not started by executor yet, to avoid waiting for busy workers
+            each.run();
+            try {
+                result.addAll(each.get());
+            } catch (final ExecutionException ex) {
+                throw ex.getCause();
+            }
+        }
+        return result;
+    }
+    
+    private static FutureTask<List<String>> createTask(final List<?> partition, final Function<List<?>, List<String>> function) {
+        return new FutureTask<>(new Callable<List<String>>() {
+            
+            @Override
+            public List<String> call() {
+                return function.apply(partition);
+            }
+        });
+    }
+}
@@ -19,69 +19,133 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES sharding encryptor.
+ * 
+ * <p>Secret key is derived once, and ciphers are cached per thread because cipher is not thread safe.</p>
  *
  * @author panjuan
  */
-@Getter
-@Setter
-public final class AESShardingEncryptor implements ShardingEncryptor {
+public final class AESShardingEncryptor implements ShardingBatchEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
+    @Getter
     private Properties properties = new Properties();
     
+    private volatile SecretKeySpec secretKey;
+    
+    private volatile ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    
+    private volatile ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
+    
     @Override
     public String getType() {
         return "AES";
     }
     
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        reset();
+    }
+    
     @Override
     public void init() {
+        reset();
+        if (null != properties.get(AES_KEY)) {
+            secretKey = createSecretKey();
+        }
+    }
+    
+    private void reset() {
+        secretKey = null;
+        encryptCipher = new ThreadLocal<>();
+        decryptCipher = new ThreadLocal<>();
     }
     
     @Override
     @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        byte[] result = doFinal(Cipher.ENCRYPT_MODE, StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
+    @Override
+    public List<String> encryptBatch(final List<?> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(encrypt(each));
+        }
+        return result;
+    }
+    
     @Override
     @SneakyThrows
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        byte[] result = doFinal(Cipher.DECRYPT_MODE, Base64.decodeBase64(String.valueOf(ciphertext)));
         return new String(result);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+    @Override
+    public List<Object> decryptBatch(final List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
+    
+    private byte[] doFinal(final int mode, final byte[] input) throws GeneralSecurityException {
+        ThreadLocal<Cipher> cipherHolder = Cipher.ENCRYPT_MODE == mode ? encryptCipher : decryptCipher;
+        Cipher cipher = getCipher(cipherHolder, mode);
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipherHolder.remove();
+            throw ex;
+        }
+    }
+    
+    private Cipher getCipher(final ThreadLocal<Cipher> cipherHolder, final int mode) throws GeneralSecurityException {
+        Cipher result = cipherHolder.get();
+        if (null == result) {
+            result = Cipher.getInstance(getType());
+            result.init(mode, getSecretKey());
+            cipherHolder.set(result);
+        }
         return result;
     }
     
-    private byte[] createSecretKey() {
+    private SecretKeySpec getSecretKey() {
+        SecretKeySpec result = secretKey;
+        if (null == result) {
+            result = createSecretKey();
+            secretKey = result;
+        }
+        return result;
+    }
+    
+    private SecretKeySpec createSecretKey() {
+        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
         Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
-        return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
+        return new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16), getType());
     }
 }
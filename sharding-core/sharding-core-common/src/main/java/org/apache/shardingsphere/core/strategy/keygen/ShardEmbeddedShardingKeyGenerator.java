@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.spi.keygen.ShardingEmbeddedKeyGenerator;
+
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shard embedded distributed primary key generator.
+ * 
+ * <p>
+ * Use snowflake layout whose lowest bits are replaced by sharding code of the row. Length is 64 bit.
+ * </p>
+ * 
+ * <pre>
+ * 1bit sign bit.
+ * 41bits timestamp offset from 2016.11.01(ShardingSphere distributed primary key published data) to now.
+ * 10bits worker process id.
+ * (12 - shard.bits)bits auto increment offset in one mills.
+ * shard.bits bits sharding code of value of sharding column.
+ * </pre>
+ * 
+ * <p>
+ * Sharding code of number is its long value, and sharding code of other types is its hash code.
+ * Because the lowest bits of generated key equal to the lowest bits of sharding code of sharding column,
+ * {@code key mod n} equals to {@code shardingValue mod n} if n is a power of 2 not greater than 2 ^ shard.bits.
+ * Use {@code ShardEmbeddedComplexKeysShardingAlgorithm} to route by both sharding column and generated key.
+ * </p>
+ * 
+ * <p>
+ * Properties: {@code sharding.column} is name of sharding column, {@code shard.bits} default value is 6, 
+ * {@code worker.id} default value is 0, {@code max.tolerate.time.difference.milliseconds} default value is 10.
+ * </p>
+ * 
+ * <p>
+ * Sequence bits left to one millisecond are {@code 12 - shard.bits}, so at most 2 ^ (12 - shard.bits) keys are generated per millisecond
+ * in one worker, which is 64 with default shard bits. Generation beyond the limit parks until next millisecond.
+ * Time service, layout and clock handling are shared with {@code SnowflakeShardingKeyGenerator}.
+ * </p>
+ * 
+ * @author agent
+ */
+public final class ShardEmbeddedShardingKeyGenerator implements ShardingEmbeddedKeyGenerator {
+    
+    private static final int SHARD_BITS = 6;
+    
+    @Getter
+    private Properties properties = new Properties();
+    
+    @Getter
+    private volatile String shardingColumn;
+    
+    private volatile int shardBits = SHARD_BITS;
+    
+    private volatile long workerId;
+    
+    private volatile int maxTolerateTimeDifferenceMilliseconds = SnowflakeShardingKeyGenerator.MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS;
+    
+    private final AtomicLong state = new AtomicLong();
+    
+    @Override
+    public String getType() {
+        return "SHARD_EMBEDDED";
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        int shardBits = Integer.valueOf(properties.getProperty("shard.bits", String.valueOf(SHARD_BITS)));
+        Preconditions.checkArgument(shardBits > 0 && shardBits < SnowflakeShardingKeyGenerator.SEQUENCE_BITS, 
+                "Shard bits must be in [1, %s) to keep at least 2 keys per millisecond, but is %s", SnowflakeShardingKeyGenerator.SEQUENCE_BITS, shardBits);
+        workerId = SnowflakeShardingKeyGenerator.getWorkerId(properties);
+        maxTolerateTimeDifferenceMilliseconds = SnowflakeShardingKeyGenerator.getMaxTolerateTimeDifferenceMilliseconds(properties);
+        this.shardBits = shardBits;
+        shardingColumn = properties.getProperty("sharding.column");
+        this.properties = properties;
+    }
+    
+    /**
+     * Get max count of keys generated in one millisecond.
+     * 
+     * @return max count of keys generated in one millisecond
+     */
+    public long getMaxKeysPerMillisecond() {
+        return 1L << (SnowflakeShardingKeyGenerator.SEQUENCE_BITS - shardBits);
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        return generateKey(null);
+    }
+    
+    @Override
+    public Comparable<?> generateKey(final Comparable<?> shardingValue) {
+        long shardingCode = null == shardingValue ? ThreadLocalRandom.current().nextLong() : getShardingCode(shardingValue);
+        int shardBits = this.shardBits;
+        while (true) {
+            long currentState = state.get();
+            long currentMilliseconds = SnowflakeShardingKeyGenerator.getCurrentMillis();
+            long lastMilliseconds = currentState >>> SnowflakeShardingKeyGenerator.SEQUENCE_BITS;
+            if (SnowflakeShardingKeyGenerator.waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds, maxTolerateTimeDifferenceMilliseconds)) {
+                continue;
+            }
+            long sequence = 0L;
+            if (lastMilliseconds == currentMilliseconds) {
+                sequence = (currentState & SnowflakeShardingKeyGenerator.SEQUENCE_MASK) + 1;
+                if (sequence >= 1L << (SnowflakeShardingKeyGenerator.SEQUENCE_BITS - shardBits)) {
+                    currentMilliseconds = SnowflakeShardingKeyGenerator.waitUntilNextTime(lastMilliseconds);
+                    sequence = 0L;
+                }
+            }
+            if (state.compareAndSet(currentState, currentMilliseconds << SnowflakeShardingKeyGenerator.SEQUENCE_BITS | sequence)) {
+                return ((currentMilliseconds - SnowflakeShardingKeyGenerator.EPOCH) << SnowflakeShardingKeyGenerator.TIMESTAMP_LEFT_SHIFT_BITS)
+                        | (workerId << SnowflakeShardingKeyGenerator.WORKER_ID_LEFT_SHIFT_BITS) | (sequence << shardBits) | (shardingCode & ((1L << shardBits) - 1));
+            }
+        }
+    }
+    
+    /**
+     * Get sharding code of value.
+     * 
+     * @param value value of sharding column or generated key
+     * @return sharding code
+     */
+    public static long getShardingCode(final Comparable<?> value) {
+        return value instanceof Number ? ((Number) value).longValue() : value.hashCode();
+    }
+}
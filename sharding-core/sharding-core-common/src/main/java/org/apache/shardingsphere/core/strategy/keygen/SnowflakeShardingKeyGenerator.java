@@ -21,10 +21,14 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.ShardingBatchKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Snowflake distributed primary key generator.
@@ -48,41 +52,51 @@ import java.util.Properties;
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
  * 
+ * <p>
+ * Last milliseconds, sequence offset and sequence are packed into one atomic state and updated by CAS without lock.
+ * Layout, time service and clock handling are shared with {@code ShardEmbeddedShardingKeyGenerator}.
+ * </p>
+ * 
  * @author gaohongtao
  * @author panjuan
  */
-public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+public final class SnowflakeShardingKeyGenerator implements ShardingBatchKeyGenerator {
     
     public static final long EPOCH;
     
-    private static final long SEQUENCE_BITS = 12L;
+    static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
     
-    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
     
-    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
     
-    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
     
     private static final long WORKER_ID_MAX_VALUE = 1L << WORKER_ID_BITS;
     
+    private static final long WAIT_NEXT_TIME_PARK_NANOS = 100000L;
+    
+    private static final long SEQUENCE_OFFSET_STATE_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long MILLISECONDS_STATE_LEFT_SHIFT_BITS = SEQUENCE_OFFSET_STATE_LEFT_SHIFT_BITS + 1L;
+    
     private static final long WORKER_ID = 0;
     
-    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
     @Setter
     private static TimeService timeService = new TimeService();
     
     @Getter
-    @Setter
     private Properties properties = new Properties();
     
-    private byte sequenceOffset;
+    private volatile long workerId = WORKER_ID;
     
-    private long sequence;
+    private volatile int maxTolerateTimeDifferenceMilliseconds = MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS;
     
-    private long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -100,54 +114,88 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public void setProperties(final Properties properties) {
+        workerId = getWorkerId(properties);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(properties);
+        this.properties = properties;
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        return reserveKeys(1);
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            int remainedCount = count - result.size();
+            long firstKey = reserveKeys(remainedCount);
+            long reservedCount = Math.min(remainedCount, SEQUENCE_MASK - (firstKey & SEQUENCE_MASK) + 1);
+            for (long i = 0; i < reservedCount; i++) {
+                result.add(firstKey + i);
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long reserveKeys(final int count) {
+        while (true) {
+            long currentState = state.get();
+            long currentMilliseconds = getCurrentMillis();
+            long lastMilliseconds = currentState >>> MILLISECONDS_STATE_LEFT_SHIFT_BITS;
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds, maxTolerateTimeDifferenceMilliseconds)) {
+                currentMilliseconds = getCurrentMillis();
+            }
+            long sequenceOffset = (currentState >>> SEQUENCE_OFFSET_STATE_LEFT_SHIFT_BITS) & 1L;
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                if (0L == (firstSequence = ((currentState & SEQUENCE_MASK) + 1) & SEQUENCE_MASK)) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                sequenceOffset = ~sequenceOffset & 1L;
+                firstSequence = sequenceOffset;
+            }
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            if (state.compareAndSet(currentState, (currentMilliseconds << MILLISECONDS_STATE_LEFT_SHIFT_BITS) | (sequenceOffset << SEQUENCE_OFFSET_STATE_LEFT_SHIFT_BITS) | lastSequence)) {
+                return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | firstSequence;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    static long getWorkerId(final Properties properties) {
+        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
+        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE, "Worker id must be in [0, %s), but is %s", WORKER_ID_MAX_VALUE, result);
+        return result;
+    }
+    
+    static int getMaxTolerateTimeDifferenceMilliseconds(final Properties properties) {
+        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
+    }
+    
+    static long getCurrentMillis() {
+        return timeService.getCurrentMillis();
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    static boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds, final int maxTolerateTimeDifferenceMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
         long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
-        Preconditions.checkState(timeDifferenceMilliseconds < getMaxTolerateTimeDifferenceMilliseconds(), 
+        Preconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds, 
                 "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
         Thread.sleep(timeDifferenceMilliseconds);
         return true;
     }
     
-    private long getWorkerId() {
-        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
-        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
-        return result;
-    }
-    
-    private int getMaxTolerateTimeDifferenceMilliseconds() {
-        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
-    }
-    
-    private long waitUntilNextTime(final long lastTime) {
+    static long waitUntilNextTime(final long lastTime) {
         long result = timeService.getCurrentMillis();
         while (result <= lastTime) {
+            LockSupport.parkNanos(WAIT_NEXT_TIME_PARK_NANOS);
             result = timeService.getCurrentMillis();
         }
         return result;
     }
-    
-    private void vibrateSequenceOffset() {
-        sequenceOffset = (byte) (~sequenceOffset & 1);
-    }
 }
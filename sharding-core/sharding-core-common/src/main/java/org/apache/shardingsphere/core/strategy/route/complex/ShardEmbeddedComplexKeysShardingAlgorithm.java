@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.complex;
+
+import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingValue;
+import org.apache.shardingsphere.core.strategy.keygen.ShardEmbeddedShardingKeyGenerator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Complex keys sharding algorithm matching keys generated by {@code ShardEmbeddedShardingKeyGenerator}.
+ * 
+ * <p>
+ * Target is the one at position of {@code shardingCode mod targetCount} in available targets, 
+ * so rows can be routed by either sharding column or generated key which embeds sharding code of sharding column.
+ * Count of targets should be a power of 2 not greater than 2 ^ shard.bits of key generator.
+ * </p>
+ * 
+ * @author agent
+ */
+public final class ShardEmbeddedComplexKeysShardingAlgorithm implements ComplexKeysShardingAlgorithm<Comparable<?>> {
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ComplexKeysShardingValue<Comparable<?>> shardingValue) {
+        List<String> targetNames = new ArrayList<>(availableTargetNames);
+        Collection<String> result = null;
+        for (Collection<Comparable<?>> each : shardingValue.getColumnNameAndShardingValuesMap().values()) {
+            Collection<String> columnResult = new LinkedHashSet<>(each.size());
+            for (Comparable<?> value : each) {
+                columnResult.add(targetNames.get(getTargetIndex(value, targetNames.size())));
+            }
+            if (null == result) {
+                result = columnResult;
+            } else {
+                result.retainAll(columnResult);
+            }
+        }
+        return null == result ? availableTargetNames : result;
+    }
+    
+    private int getTargetIndex(final Comparable<?> value, final int targetCount) {
+        long result = ShardEmbeddedShardingKeyGenerator.getShardingCode(value) % targetCount;
+        return (int) (result < 0 ? result + targetCount : result);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.yaml.swapper.impl;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.config.common.YamlColumnMetaDataConfiguration;
+import org.apache.shardingsphere.core.yaml.config.common.YamlTableMetaDataConfiguration;
+import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * Table meta data YAML swapper.
+ *
+ * @author agent
+ */
+public final class TableMetaDataYamlSwapper implements YamlSwapper<YamlTableMetaDataConfiguration, TableMetaData> {
+    
+    @Override
+    public YamlTableMetaDataConfiguration swap(final TableMetaData data) {
+        YamlTableMetaDataConfiguration result = new YamlTableMetaDataConfiguration();
+        for (ColumnMetaData each : data.getColumns().values()) {
+            result.getColumns().add(swap(each));
+        }
+        result.getLogicIndexes().addAll(data.getLogicIndexes());
+        return result;
+    }
+    
+    private YamlColumnMetaDataConfiguration swap(final ColumnMetaData columnMetaData) {
+        YamlColumnMetaDataConfiguration result = new YamlColumnMetaDataConfiguration();
+        result.setName(columnMetaData.getColumnName());
+        result.setDataType(columnMetaData.getDataType());
+        result.setPrimaryKey(columnMetaData.isPrimaryKey());
+        return result;
+    }
+    
+    @Override
+    public TableMetaData swap(final YamlTableMetaDataConfiguration yamlConfiguration) {
+        Collection<ColumnMetaData> columnMetaDataList = new ArrayList<>(yamlConfiguration.getColumns().size());
+        for (YamlColumnMetaDataConfiguration each : yamlConfiguration.getColumns()) {
+            columnMetaDataList.add(new ColumnMetaData(each.getName(), each.getDataType(), each.isPrimaryKey()));
+        }
+        return new TableMetaData(columnMetaDataList, new LinkedHashSet<>(yamlConfiguration.getLogicIndexes()));
+    }
+}
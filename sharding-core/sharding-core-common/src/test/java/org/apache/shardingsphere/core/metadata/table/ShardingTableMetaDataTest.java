@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.table;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingTableMetaDataTest {
+    
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    
+    private final LazyTableMetaDataLoader lazyTableMetaDataLoader = new LazyTableMetaDataLoader() {
+        
+        @Override
+        public TableMetaData load(final String logicTableName) {
+            loadedCount.incrementAndGet();
+            return createTableMetaData(logicTableName + "_id");
+        }
+    };
+    
+    @Test
+    public void assertGetEagerTable() {
+        ShardingTableMetaData actual = createShardingTableMetaData();
+        assertThat(actual.get("t_order"), is(createTableMetaData("order_id")));
+        assertThat(loadedCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertContainsLazyTableWithoutLoading() {
+        ShardingTableMetaData actual = createShardingTableMetaData();
+        assertTrue(actual.containsTable("t_user"));
+        assertFalse(actual.containsTable("t_other"));
+        assertFalse(actual.getTables().containsKey("t_user"));
+        assertThat(loadedCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertGetLazyTable() {
+        ShardingTableMetaData actual = createShardingTableMetaData();
+        assertTrue(actual.containsColumn("t_user", "t_user_id"));
+        assertThat(actual.get("t_user"), is(createTableMetaData("t_user_id")));
+        assertThat(actual.getAllColumnNames("t_user"), is((Object) Collections.singleton("t_user_id")));
+        assertTrue(actual.getTables().containsKey("t_user"));
+        assertThat(loadedCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertGetLazyTableConcurrently() throws Exception {
+        final ShardingTableMetaData actual = createShardingTableMetaData();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            Collection<Future<TableMetaData>> futures = new LinkedList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(new Callable<TableMetaData>() {
+                    
+                    @Override
+                    public TableMetaData call() {
+                        return actual.get("t_user");
+                    }
+                }));
+            }
+            for (Future<TableMetaData> each : futures) {
+                assertThat(each.get(), is(createTableMetaData("t_user_id")));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(loadedCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertPutLazyTable() {
+        ShardingTableMetaData actual = createShardingTableMetaData();
+        actual.put("t_user", createTableMetaData("user_id"));
+        assertThat(actual.get("t_user"), is(createTableMetaData("user_id")));
+        assertThat(loadedCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertRemoveLazyTable() {
+        ShardingTableMetaData actual = createShardingTableMetaData();
+        actual.remove("t_user");
+        assertFalse(actual.containsTable("t_user"));
+        assertThat(loadedCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertRemoveLazyTableDuringLoading() {
+        final ShardingTableMetaData[] actual = new ShardingTableMetaData[1];
+        actual[0] = new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap(), Collections.singletonList("t_user"), new LazyTableMetaDataLoader() {
+            
+            @Override
+            public TableMetaData load(final String logicTableName) {
+                actual[0].remove(logicTableName);
+                return createTableMetaData("user_id");
+            }
+        });
+        actual[0].get("t_user");
+        assertFalse(actual[0].containsTable("t_user"));
+    }
+    
+    @Test
+    public void assertPutLazyTableDuringLoading() {
+        final ShardingTableMetaData[] actual = new ShardingTableMetaData[1];
+        actual[0] = new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap(), Collections.singletonList("t_user"), new LazyTableMetaDataLoader() {
+            
+            @Override
+            public TableMetaData load(final String logicTableName) {
+                actual[0].put(logicTableName, createTableMetaData("new_user_id"));
+                return createTableMetaData("user_id");
+            }
+        });
+        assertThat(actual[0].get("t_user"), is(createTableMetaData("new_user_id")));
+        assertThat(actual[0].getTables().get("t_user"), is(createTableMetaData("new_user_id")));
+    }
+    
+    @Test
+    public void assertPutWithVersion() {
+        ShardingTableMetaData actual = createShardingTableMetaData();
+        assertThat(actual.getVersion("t_order"), is(0L));
+        assertTrue(actual.put("t_order", createTableMetaData("new_order_id"), 0L));
+        long version = actual.getVersion("t_order");
+        actual.put("t_order", createTableMetaData("altered_order_id"));
+        assertFalse(actual.put("t_order", createTableMetaData("stale_order_id"), version));
+        assertThat(actual.get("t_order"), is(createTableMetaData("altered_order_id")));
+    }
+    
+    @Test
+    public void assertRemoveWithVersion() {
+        ShardingTableMetaData actual = createShardingTableMetaData();
+        actual.put("t_order", createTableMetaData("altered_order_id"));
+        assertFalse(actual.remove("t_order", 0L));
+        assertTrue(actual.containsTable("t_order"));
+        assertTrue(actual.remove("t_order", actual.getVersion("t_order")));
+        assertFalse(actual.containsTable("t_order"));
+    }
+    
+    @Test
+    public void assertGetLogicTableNameWithLazyTable() {
+        ShardingTableMetaData actual = new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap(), Collections.singletonList("t_user"), new LazyTableMetaDataLoader() {
+            
+            @Override
+            public TableMetaData load(final String logicTableName) {
+                return new TableMetaData(Collections.singletonList(new ColumnMetaData("id", "INT", true)), Collections.singleton("user_idx"));
+            }
+        });
+        assertThat(actual.getLogicTableName("user_idx").get(), is("t_user"));
+    }
+    
+    @Test
+    public void assertGetLogicTableNameInLoadedTableWithoutLoading() {
+        ShardingTableMetaData actual = new ShardingTableMetaData(Collections.singletonMap("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "INT", true)), 
+                Collections.singleton("order_idx"))), Collections.singletonList("t_user"), lazyTableMetaDataLoader);
+        assertThat(actual.getLogicTableName("order_idx").get(), is("t_order"));
+        assertThat(loadedCount.get(), is(0));
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData() {
+        return new ShardingTableMetaData(Collections.singletonMap("t_order", createTableMetaData("order_id")), Arrays.asList("t_order", "t_user"), lazyTableMetaDataLoader);
+    }
+    
+    private TableMetaData createTableMetaData(final String columnName) {
+        return new TableMetaData(Collections.singletonList(new ColumnMetaData(columnName, "INT", true)), Collections.<String>emptySet());
+    }
+}
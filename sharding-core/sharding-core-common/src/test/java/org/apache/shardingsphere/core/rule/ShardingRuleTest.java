@@ -36,6 +36,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -293,6 +294,43 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        List<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(2), instanceOf(Long.class));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithKeyGenerator() {
+        List<Comparable<?>> actual = createMaximumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(2), instanceOf(Integer.class));
+    }
+    
+    @Test
+    public void assertFindShardingEmbeddedColumnNameWithoutShardingEmbeddedKeyGenerator() {
+        assertFalse(createMinimumShardingRule().findShardingEmbeddedColumnName("logic_table").isPresent());
+    }
+    
+    @Test
+    public void assertGenerateKeysWithShardingEmbeddedKeyGenerator() {
+        ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfiguration = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        Properties properties = new Properties();
+        properties.setProperty("sharding.column", "user_id");
+        properties.setProperty("shard.bits", "2");
+        tableRuleConfiguration.setKeyGeneratorConfig(new KeyGeneratorConfiguration("SHARD_EMBEDDED", "order_id", properties));
+        shardingRuleConfiguration.getTableRuleConfigs().add(tableRuleConfiguration);
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfiguration, createDataSourceNames());
+        assertThat(shardingRule.findShardingEmbeddedColumnName("logic_table").get(), is("user_id"));
+        List<Comparable<?>> actual = shardingRule.generateKeys("logic_table", Arrays.<Comparable<?>>asList(1L, 2L, 7L));
+        assertThat(actual.size(), is(3));
+        assertThat((Long) actual.get(0) & 3L, is(1L));
+        assertThat((Long) actual.get(1) & 3L, is(2L));
+        assertThat((Long) actual.get(2) & 3L, is(3L));
+    }
+    
     @Test
     public void assertDataSourceNameFromDefaultDataSourceName() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
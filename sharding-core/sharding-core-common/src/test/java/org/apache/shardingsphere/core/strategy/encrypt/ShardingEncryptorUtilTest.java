@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt;
+
+import org.apache.shardingsphere.core.strategy.encrypt.fixture.TestQueryAssistedShardingEncryptor;
+import org.apache.shardingsphere.core.strategy.encrypt.fixture.TestShardingEncryptor;
+import org.apache.shardingsphere.core.strategy.encrypt.impl.AESShardingEncryptor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingEncryptorUtilTest {
+    
+    @Test
+    public void assertEncryptWithShardingEncryptor() {
+        assertThat(ShardingEncryptorUtil.encrypt(new TestShardingEncryptor(), Arrays.asList("a", "b")), is(Arrays.asList("encryptValue", "encryptValue")));
+    }
+    
+    @Test
+    public void assertDecryptWithShardingEncryptor() {
+        assertThat(ShardingEncryptorUtil.decrypt(new TestShardingEncryptor(), Arrays.asList("a", "b")), is(Arrays.<Object>asList("decryptValue", "decryptValue")));
+    }
+    
+    @Test
+    public void assertEncryptAndDecryptWithShardingBatchEncryptor() {
+        AESShardingEncryptor shardingEncryptor = createAESShardingEncryptor();
+        assertThat(ShardingEncryptorUtil.encrypt(shardingEncryptor, Arrays.asList("test", "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA==")));
+        assertThat(ShardingEncryptorUtil.decrypt(shardingEncryptor, Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==")), is(Arrays.<Object>asList("test")));
+    }
+    
+    @Test
+    public void assertEncryptInParallel() {
+        AESShardingEncryptor shardingEncryptor = createAESShardingEncryptor();
+        List<Integer> plaintexts = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            plaintexts.add(i);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(ShardingEncryptorUtil.encrypt(shardingEncryptor, plaintexts, executorService, 10), is(ShardingEncryptorUtil.encrypt(shardingEncryptor, plaintexts)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertEncryptInParallelWithShutdownExecutor() {
+        AESShardingEncryptor shardingEncryptor = createAESShardingEncryptor();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.shutdown();
+        assertThat(ShardingEncryptorUtil.encrypt(shardingEncryptor, Arrays.asList("test", "test"), executorService, 1), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertQueryAssistedEncryptInParallel() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(ShardingEncryptorUtil.queryAssistedEncrypt(new TestQueryAssistedShardingEncryptor(), Arrays.asList("a", "b", "c"), executorService, 2),
+                    is(Arrays.asList("assistedEncryptValue", "assistedEncryptValue", "assistedEncryptValue")));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private AESShardingEncryptor createAESShardingEncryptor() {
+        AESShardingEncryptor result = new AESShardingEncryptor();
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "test");
+        result.setProperties(properties);
+        result.init();
+        return result;
+    }
+}
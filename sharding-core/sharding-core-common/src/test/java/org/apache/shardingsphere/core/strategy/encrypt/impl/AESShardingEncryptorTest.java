@@ -20,9 +20,11 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -75,4 +77,31 @@ public final class AESShardingEncryptorTest {
     public void assertGetProperties() {
         assertThat(encryptor.getProperties().get("aes.key.value").toString(), is("test"));
     }
+    
+    @Test
+    public void assertEncodeAfterInit() {
+        encryptor.init();
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    public void assertEncodeInBatch() {
+        assertThat(encryptor.encryptBatch(Arrays.asList("test", "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertDecodeInBatch() {
+        assertThat(encryptor.decryptBatch(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
+    @Test
+    public void assertDecodeAfterChangeKey() {
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "other");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.keygen;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ShardEmbeddedShardingKeyGeneratorTest {
+    
+    private final ShardEmbeddedShardingKeyGenerator keyGenerator = new ShardEmbeddedShardingKeyGenerator();
+    
+    @Before
+    public void setUp() {
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService());
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(keyGenerator.getType(), is("SHARD_EMBEDDED"));
+    }
+    
+    @Test
+    public void assertGetShardingColumn() {
+        assertNull(keyGenerator.getShardingColumn());
+        keyGenerator.setProperties(createProperties(4));
+        assertThat(keyGenerator.getShardingColumn(), is("user_id"));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithNumberShardingValue() {
+        keyGenerator.setProperties(createProperties(4));
+        for (long i = 0L; i < 100L; i++) {
+            long actual = (Long) keyGenerator.generateKey(i);
+            assertThat(actual & 15L, is(i & 15L));
+            assertThat(actual % 4L, is(i % 4L));
+        }
+    }
+    
+    @Test
+    public void assertGenerateKeyWithStringShardingValue() {
+        keyGenerator.setProperties(createProperties(4));
+        assertThat((Long) keyGenerator.generateKey("user_a") & 15L, is("user_a".hashCode() & 15L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithoutShardingValue() {
+        keyGenerator.setProperties(new Properties());
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            actual.add(keyGenerator.generateKey());
+        }
+        assertThat(actual.size(), is(1000));
+    }
+    
+    @Test
+    public void assertGenerateKeyUniqueWhenSequenceExhausted() {
+        keyGenerator.setProperties(createProperties(10));
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            actual.add(keyGenerator.generateKey(1L));
+        }
+        assertThat(actual.size(), is(1000));
+    }
+    
+    @Test
+    public void assertGetMaxKeysPerMillisecond() {
+        assertThat(keyGenerator.getMaxKeysPerMillisecond(), is(64L));
+        keyGenerator.setProperties(createProperties(10));
+        assertThat(keyGenerator.getMaxKeysPerMillisecond(), is(4L));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetShardBitsFailureWhenTooMuch() {
+        keyGenerator.setProperties(createProperties(12));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetShardBitsFailureWhenZero() {
+        keyGenerator.setProperties(createProperties(0));
+    }
+    
+    private Properties createProperties(final int shardBits) {
+        Properties result = new Properties();
+        result.setProperty("sharding.column", "user_id");
+        result.setProperty("shard.bits", String.valueOf(shardBits));
+        return result;
+    }
+}
@@ -39,6 +39,11 @@ public final class ShardingKeyGeneratorServiceLoaderTest {
         assertThat(serviceLoader.newService("UUID", new Properties()), instanceOf(UUIDShardingKeyGenerator.class));
     }
     
+    @Test
+    public void assertNewShardEmbeddedKeyGenerator() {
+        assertThat(serviceLoader.newService("SHARD_EMBEDDED", new Properties()), instanceOf(ShardEmbeddedShardingKeyGenerator.class));
+    }
+    
     @Test
     public void assertNewDefaultKeyGenerator() {
         assertThat(serviceLoader.newService(), instanceOf(SnowflakeShardingKeyGenerator.class));
@@ -31,6 +31,9 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotEquals;
@@ -126,18 +129,124 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeys() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        SnowflakeShardingKeyGenerator.setTimeService(new FixedTimeService(1));
+        assertThat(keyGenerator.generateKeys(3), is(Arrays.<Comparable<?>>asList(1L, 2L, 3L)));
+        assertThat(keyGenerator.generateKey(), is((Comparable) 4194304L));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeShardingKeyGenerator.setTimeService(timeService);
+        keyGenerator.setProperties(new Properties());
+        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis());
+        setSequence(keyGenerator, (1 << DEFAULT_SEQUENCE_BITS) - 3);
+        assertThat(keyGenerator.generateKeys(4), is(Arrays.<Comparable<?>>asList(4094L, 4095L, 4194305L, 4194306L)));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService());
+        keyGenerator.setProperties(new Properties());
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>();
+        for (int i = 0; i < threadNumber << 2; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    return keyGenerator.generateKeys(1000);
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is((threadNumber << 2) * 1000));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeyWithMultipleThreadsAndFixedTimeService() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        SnowflakeShardingKeyGenerator.setTimeService(new FixedTimeService(1));
+        Properties properties = new Properties();
+        properties.setProperty("max.tolerate.time.difference.milliseconds", String.valueOf(0));
+        keyGenerator.setProperties(properties);
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>();
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>(1000);
+                    for (int i = 0; i < 1000; i++) {
+                        result.add(keyGenerator.generateKey());
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 1000));
+    }
+    
+    @Test
+    public void assertGenerateKeyWhenOtherThreadMovesToNextMillisecond() {
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        final AtomicLong currentMilliseconds = new AtomicLong(SnowflakeShardingKeyGenerator.EPOCH);
+        final AtomicBoolean interleaved = new AtomicBoolean();
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService() {
+            
+            @Override
+            public long getCurrentMillis() {
+                long result = currentMilliseconds.get();
+                if (interleaved.compareAndSet(false, true)) {
+                    currentMilliseconds.incrementAndGet();
+                    keyGenerator.generateKey();
+                }
+                return result;
+            }
+        });
+        Properties properties = new Properties();
+        properties.setProperty("max.tolerate.time.difference.milliseconds", String.valueOf(0));
+        keyGenerator.setProperties(properties);
+        assertThat(keyGenerator.generateKey(), is((Comparable) 4194306L));
+    }
+    
     @SneakyThrows
     private void setSequence(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field sequence = SnowflakeShardingKeyGenerator.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerator, value);
+        AtomicLong state = getState(keyGenerator);
+        state.set(state.get() & ~((1L << DEFAULT_SEQUENCE_BITS) - 1) | value.longValue());
     }
     
     @SneakyThrows
     private void setLastMilliseconds(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field lastMilliseconds = SnowflakeShardingKeyGenerator.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerator, value);
+        AtomicLong state = getState(keyGenerator);
+        state.set(value.longValue() << (DEFAULT_SEQUENCE_BITS + 1) | state.get() & ((1L << (DEFAULT_SEQUENCE_BITS + 1)) - 1));
+    }
+    
+    @SneakyThrows
+    private AtomicLong getState(final SnowflakeShardingKeyGenerator keyGenerator) {
+        Field state = SnowflakeShardingKeyGenerator.class.getDeclaredField("state");
+        state.setAccessible(true);
+        return (AtomicLong) state.get(keyGenerator);
     }
     
     @Test(expected = IllegalArgumentException.class)
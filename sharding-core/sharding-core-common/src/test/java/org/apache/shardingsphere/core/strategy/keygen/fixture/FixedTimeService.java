@@ -22,6 +22,7 @@ import org.apache.shardingsphere.core.strategy.keygen.SnowflakeShardingKeyGenera
 import org.apache.shardingsphere.core.strategy.keygen.TimeService;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @RequiredArgsConstructor
 public final class FixedTimeService extends TimeService {
@@ -30,14 +31,14 @@ public final class FixedTimeService extends TimeService {
     
     private final AtomicInteger invokedTimes = new AtomicInteger();
     
-    private long current = SnowflakeShardingKeyGenerator.EPOCH;
+    private final AtomicLong current = new AtomicLong(SnowflakeShardingKeyGenerator.EPOCH);
     
     @Override
     public long getCurrentMillis() {
         if (invokedTimes.getAndIncrement() < expectedInvokedTimes) {
-            return current;
+            return current.get();
         }
         invokedTimes.set(0);
-        return ++current;
+        return current.incrementAndGet();
     }
 }
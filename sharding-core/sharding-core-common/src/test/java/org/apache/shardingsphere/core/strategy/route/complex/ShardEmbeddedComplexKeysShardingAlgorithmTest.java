@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.complex;
+
+import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingValue;
+import org.apache.shardingsphere.core.strategy.keygen.ShardEmbeddedShardingKeyGenerator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardEmbeddedComplexKeysShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+    
+    private final ShardEmbeddedComplexKeysShardingAlgorithm shardingAlgorithm = new ShardEmbeddedComplexKeysShardingAlgorithm();
+    
+    @Test
+    public void assertDoShardingWithShardingColumn() {
+        Map<String, Collection<Comparable<?>>> shardingValues = new HashMap<>();
+        shardingValues.put("user_id", Arrays.<Comparable<?>>asList(5, 7L, -1));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new ComplexKeysShardingValue<Comparable<?>>("t_order", shardingValues)), 
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_3"))));
+    }
+    
+    @Test
+    public void assertDoShardingWithGeneratedKey() {
+        ShardEmbeddedShardingKeyGenerator keyGenerator = new ShardEmbeddedShardingKeyGenerator();
+        Properties properties = new Properties();
+        properties.setProperty("sharding.column", "user_id");
+        properties.setProperty("shard.bits", "2");
+        keyGenerator.setProperties(properties);
+        Comparable<?> orderId = keyGenerator.generateKey(6L);
+        Map<String, Collection<Comparable<?>>> shardingValues = new HashMap<>();
+        shardingValues.put("order_id", Collections.<Comparable<?>>singletonList(orderId));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new ComplexKeysShardingValue<Comparable<?>>("t_order", shardingValues)), 
+                is((Collection<String>) Collections.singleton("t_order_2")));
+    }
+    
+    @Test
+    public void assertDoShardingWithBothColumns() {
+        Map<String, Collection<Comparable<?>>> shardingValues = new LinkedHashMap<>();
+        shardingValues.put("user_id", Arrays.<Comparable<?>>asList(1L, 2L));
+        shardingValues.put("order_id", Collections.<Comparable<?>>singletonList(17L));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new ComplexKeysShardingValue<Comparable<?>>("t_order", shardingValues)), 
+                is((Collection<String>) Collections.singleton("t_order_1")));
+    }
+    
+    @Test
+    public void assertDoShardingWithConflictedColumns() {
+        Map<String, Collection<Comparable<?>>> shardingValues = new LinkedHashMap<>();
+        shardingValues.put("user_id", Collections.<Comparable<?>>singletonList(1L));
+        shardingValues.put("order_id", Collections.<Comparable<?>>singletonList(2L));
+        assertTrue(shardingAlgorithm.doSharding(availableTargetNames, new ComplexKeysShardingValue<Comparable<?>>("t_order", shardingValues)).isEmpty());
+    }
+    
+    @Test
+    public void assertDoShardingWithoutShardingValue() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new ComplexKeysShardingValue<Comparable<?>>("t_order", Collections.<String, Collection<Comparable<?>>>emptyMap())), 
+                is(availableTargetNames));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.yaml.swapper.impl;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.config.common.YamlColumnMetaDataConfiguration;
+import org.apache.shardingsphere.core.yaml.config.common.YamlTableMetaDataConfiguration;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TableMetaDataYamlSwapperTest {
+    
+    @Test
+    public void assertSwapToYaml() {
+        YamlTableMetaDataConfiguration actual = new TableMetaDataYamlSwapper().swap(
+                new TableMetaData(Arrays.asList(new ColumnMetaData("id", "INT", true), new ColumnMetaData("name", "VARCHAR", false)), Collections.singleton("idx_name")));
+        assertThat(actual.getColumns().size(), is(2));
+        assertThat(actual.getColumns().get(0).getName(), is("id"));
+        assertThat(actual.getColumns().get(0).getDataType(), is("INT"));
+        assertThat(actual.getColumns().get(0).isPrimaryKey(), is(true));
+        assertThat(actual.getColumns().get(1).getName(), is("name"));
+        assertThat(actual.getColumns().get(1).isPrimaryKey(), is(false));
+        assertThat(actual.getLogicIndexes().iterator().next(), is("idx_name"));
+    }
+    
+    @Test
+    public void assertSwapToObject() {
+        YamlColumnMetaDataConfiguration yamlColumnMetaDataConfiguration = new YamlColumnMetaDataConfiguration();
+        yamlColumnMetaDataConfiguration.setName("id");
+        yamlColumnMetaDataConfiguration.setDataType("INT");
+        yamlColumnMetaDataConfiguration.setPrimaryKey(true);
+        YamlTableMetaDataConfiguration yamlTableMetaDataConfiguration = new YamlTableMetaDataConfiguration();
+        yamlTableMetaDataConfiguration.getColumns().add(yamlColumnMetaDataConfiguration);
+        yamlTableMetaDataConfiguration.getLogicIndexes().add("idx_id");
+        TableMetaData actual = new TableMetaDataYamlSwapper().swap(yamlTableMetaDataConfiguration);
+        assertThat(actual.getColumns().get("id"), is(new ColumnMetaData("id", "INT", true)));
+        assertThat(actual.getLogicIndexes(), is(Collections.singleton("idx_id")));
+    }
+    
+    @Test
+    public void assertSwapThroughYaml() {
+        TableMetaData expected = new TableMetaData(Arrays.asList(new ColumnMetaData("id", "INT", true), new ColumnMetaData("name", "VARCHAR", false)), Collections.singleton("idx_name"));
+        String yamlContent = YamlEngine.marshal(new TableMetaDataYamlSwapper().swap(expected));
+        assertThat(new TableMetaDataYamlSwapper().swap(YamlEngine.unmarshal(yamlContent, YamlTableMetaDataConfiguration.class)), is(expected));
+    }
+}
@@ -17,10 +17,10 @@
 
 package org.apache.shardingsphere.core;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.DMLStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
@@ -49,7 +49,6 @@ import java.util.List;
  * @author zhangliang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public abstract class BaseShardingEngine {
     
     private final ShardingRule shardingRule;
@@ -58,8 +57,21 @@ public abstract class BaseShardingEngine {
     
     private final ShardingMetaData metaData;
     
+    private final ShardingExecuteEngine executeEngine;
+    
     private final SPIRoutingHook routingHook = new SPIRoutingHook();
     
+    public BaseShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData) {
+        this(shardingRule, shardingProperties, metaData, null);
+    }
+    
+    public BaseShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData, final ShardingExecuteEngine executeEngine) {
+        this.shardingRule = shardingRule;
+        this.shardingProperties = shardingProperties;
+        this.metaData = metaData;
+        this.executeEngine = executeEngine;
+    }
+    
     /**
      * Shard.
      *
@@ -110,7 +122,8 @@ public abstract class BaseShardingEngine {
         Collection<SQLRewriter> sqlRewriters = new LinkedList<>();
         sqlRewriters.add(new ShardingSQLRewriter(shardingRule, sqlRouteResult, sqlRouteResult.getOptimizeResult()));
         if (sqlRouteResult.getSqlStatement() instanceof DMLStatement) {
-            sqlRewriters.add(new EncryptSQLRewriter(shardingRule.getEncryptRule().getEncryptorEngine(), (DMLStatement) sqlRouteResult.getSqlStatement(), sqlRouteResult.getOptimizeResult()));
+            sqlRewriters.add(new EncryptSQLRewriter(shardingRule.getEncryptRule().getEncryptorEngine(), (DMLStatement) sqlRouteResult.getSqlStatement(), sqlRouteResult.getOptimizeResult(),
+                    null == executeEngine ? null : executeEngine.getExecutorService(), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.ENCRYPT_PARALLEL_THRESHOLD)));
         }
         rewriteEngine.init(Collections.<ParameterRewriter>singletonList(shardingParameterRewriter), sqlRewriters);
         Collection<RouteUnit> result = new LinkedHashSet<>();
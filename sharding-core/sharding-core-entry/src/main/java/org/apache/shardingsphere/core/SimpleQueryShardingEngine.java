@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core;
 
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
@@ -46,7 +47,12 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     public SimpleQueryShardingEngine(final ShardingRule shardingRule,
                                      final ShardingProperties shardingProperties, final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
-        super(shardingRule, shardingProperties, metaData);
+        this(shardingRule, shardingProperties, metaData, databaseType, cache, null);
+    }
+    
+    public SimpleQueryShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData,
+                                     final DatabaseType databaseType, final ParsingResultCache cache, final ShardingExecuteEngine executeEngine) {
+        super(shardingRule, shardingProperties, metaData, executeEngine);
         routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, cache);
     }
     
@@ -31,6 +31,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sharding execute engine.
@@ -43,9 +47,14 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private ListeningExecutorService executorService;
     
+    private final ExecutorService prefetchExecutorService;
+    
     public ShardingExecuteEngine(final int executorSize) {
         shardingExecutorService = new ShardingExecutorService(executorSize);
         executorService = shardingExecutorService.getExecutorService();
+        int prefetchExecutorSize = 0 == executorSize ? Runtime.getRuntime().availableProcessors() * 2 : executorSize;
+        prefetchExecutorService = new ThreadPoolExecutor(
+                0, prefetchExecutorSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), ShardingThreadFactoryBuilder.build("QueryResult-Prefetch-%d"));
     }
     
     /**
@@ -144,8 +153,31 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         throw new ShardingException(exception);
     }
     
+    /**
+     * Get executor service of worker threads.
+     * 
+     * @return executor service
+     */
+    public ListeningExecutorService getExecutorService() {
+        return executorService;
+    }
+    
+    /**
+     * Get executor service of query result prefetch threads.
+     * 
+     * <p>
+     * Prefetch threads are bounded by executor size, tasks are rejected if all prefetch threads are busy.
+     * </p>
+     *
+     * @return executor service
+     */
+    public ExecutorService getPrefetchExecutorService() {
+        return prefetchExecutorService;
+    }
+    
     @Override
     public void close() {
         shardingExecutorService.close();
+        prefetchExecutorService.shutdown();
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory accountant.
+ * 
+ * <p>
+ * Tracks estimated heap bytes held by buffering components of all in-flight queries in this JVM.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryAccountant {
+    
+    private static final MemoryAccountant INSTANCE = new MemoryAccountant();
+    
+    private final AtomicLong usedBytes = new AtomicLong();
+    
+    private final AtomicLong peakUsedBytes = new AtomicLong();
+    
+    private final AtomicInteger activeQueryCount = new AtomicInteger();
+    
+    /**
+     * Get instance of memory accountant.
+     *
+     * @return instance of memory accountant
+     */
+    public static MemoryAccountant getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Create memory account for new query.
+     *
+     * @param shardingProperties sharding properties
+     * @return memory account of query
+     */
+    public QueryMemoryAccount newQueryMemoryAccount(final ShardingProperties shardingProperties) {
+        long maxGlobalBytes = shardingProperties.<Long>getValue(ShardingPropertiesConstant.MAX_MEMORY_BYTES_GLOBAL);
+        long maxQueryBytes = shardingProperties.<Long>getValue(ShardingPropertiesConstant.MAX_MEMORY_BYTES_PER_QUERY);
+        String behavior = shardingProperties.getValue(ShardingPropertiesConstant.MEMORY_LIMIT_EXCEEDED_BEHAVIOR);
+        return newQueryMemoryAccount(maxGlobalBytes, maxQueryBytes, MemoryLimitExceededBehavior.valueOf(behavior.toUpperCase()));
+    }
+    
+    /**
+     * Create memory account for new query.
+     *
+     * @param maxGlobalBytes max bytes of all queries, 0 means no limit
+     * @param maxQueryBytes max bytes of this query, 0 means no limit
+     * @param behavior behavior when limit exceeded
+     * @return memory account of query
+     */
+    public QueryMemoryAccount newQueryMemoryAccount(final long maxGlobalBytes, final long maxQueryBytes, final MemoryLimitExceededBehavior behavior) {
+        activeQueryCount.incrementAndGet();
+        return new QueryMemoryAccount(this, maxGlobalBytes, maxQueryBytes, behavior);
+    }
+    
+    /**
+     * Get used bytes of all queries.
+     *
+     * @return used bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+    
+    /**
+     * Get peak used bytes of all queries since startup.
+     *
+     * @return peak used bytes
+     */
+    public long getPeakUsedBytes() {
+        return peakUsedBytes.get();
+    }
+    
+    /**
+     * Get count of queries which memory account are not closed.
+     *
+     * @return active query count
+     */
+    public int getActiveQueryCount() {
+        return activeQueryCount.get();
+    }
+    
+    long allocate(final long bytes) {
+        long result = usedBytes.addAndGet(bytes);
+        long peak = peakUsedBytes.get();
+        while (result > peak && !peakUsedBytes.compareAndSet(peak, result)) {
+            peak = peakUsedBytes.get();
+        }
+        return result;
+    }
+    
+    void free(final long bytes) {
+        usedBytes.addAndGet(-bytes);
+    }
+    
+    void closeQuery() {
+        activeQueryCount.decrementAndGet();
+    }
+}
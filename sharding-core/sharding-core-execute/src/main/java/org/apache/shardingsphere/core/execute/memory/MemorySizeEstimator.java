@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Rough estimator for heap bytes retained by query values.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemorySizeEstimator {
+    
+    public static final int REFERENCE_BYTES = 8;
+    
+    private static final int OBJECT_BYTES = 16;
+    
+    private static final int ROW_BYTES = 64;
+    
+    /**
+     * Estimate retained bytes of row kept in collections.
+     *
+     * @param values values of row
+     * @return estimated bytes
+     */
+    public static long estimateRow(final Iterable<?> values) {
+        long result = ROW_BYTES;
+        for (Object each : values) {
+            result += REFERENCE_BYTES + estimate(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Estimate retained bytes of value, not include the reference to it.
+     *
+     * @param value value
+     * @return estimated bytes
+     */
+    public static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof Object[]) {
+            return estimateRow(Arrays.asList((Object[]) value));
+        }
+        if (value instanceof String) {
+            return estimate((String) value);
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_BYTES * 2 + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+        }
+        return OBJECT_BYTES;
+    }
+    
+    /**
+     * Estimate retained bytes of string.
+     *
+     * @param value string value
+     * @return estimated bytes
+     */
+    public static long estimate(final String value) {
+        return null == value ? 0L : OBJECT_BYTES * 2 + value.length() * 2;
+    }
+}
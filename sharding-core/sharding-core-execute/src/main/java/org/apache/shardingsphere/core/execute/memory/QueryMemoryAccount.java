@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.memory;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
+
+import java.util.Map;
+
+/**
+ * Memory account of one query.
+ * 
+ * <p>
+ * Buffering components reserve estimated bytes before keeping rows and release them after rows are dropped.
+ * The account is bound to sharding execute data map, so execute threads, merge engine and SQL execution hooks can get it with {@code DATA_MAP_KEY}.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class QueryMemoryAccount {
+    
+    public static final String DATA_MAP_KEY = "QUERY_MEMORY_ACCOUNT";
+    
+    private final MemoryAccountant accountant;
+    
+    private final long maxGlobalBytes;
+    
+    private final long maxQueryBytes;
+    
+    @Getter
+    private final MemoryLimitExceededBehavior behavior;
+    
+    private long usedBytes;
+    
+    private boolean closed;
+    
+    /**
+     * Get memory account bound to current thread.
+     *
+     * @return memory account of current query, absent if no account is bound or bound account is closed
+     */
+    public static Optional<QueryMemoryAccount> getCurrent() {
+        QueryMemoryAccount result = (QueryMemoryAccount) ShardingExecuteDataMap.getDataMap().get(DATA_MAP_KEY);
+        return null == result || result.isClosed() ? Optional.<QueryMemoryAccount>absent() : Optional.of(result);
+    }
+    
+    /**
+     * Bind memory account of trunk thread to current thread.
+     *
+     * @param shardingExecuteDataMap sharding execute data map of trunk thread
+     */
+    public static void bind(final Map<String, Object> shardingExecuteDataMap) {
+        Object account = shardingExecuteDataMap.get(DATA_MAP_KEY);
+        if (null == account) {
+            ShardingExecuteDataMap.getDataMap().remove(DATA_MAP_KEY);
+        } else {
+            ShardingExecuteDataMap.getDataMap().put(DATA_MAP_KEY, account);
+        }
+    }
+    
+    /**
+     * Unbind memory account from current thread.
+     */
+    public static void unbind() {
+        ShardingExecuteDataMap.getDataMap().remove(DATA_MAP_KEY);
+    }
+    
+    /**
+     * Bind this memory account to current thread.
+     */
+    public void bind() {
+        ShardingExecuteDataMap.getDataMap().put(DATA_MAP_KEY, this);
+    }
+    
+    /**
+     * Reserve memory.
+     * 
+     * <p>
+     * Bytes are always counted because they are already allocated by caller.
+     * </p>
+     *
+     * @param bytes estimated bytes
+     * @return reserved within limits or not
+     * @throws MemoryLimitExceededException memory limit exceeded and behavior is {@code FAIL}
+     */
+    public synchronized boolean reserve(final long bytes) {
+        if (closed || 0L == bytes) {
+            return true;
+        }
+        usedBytes += bytes;
+        long globalUsedBytes = accountant.allocate(bytes);
+        if ((0L == maxQueryBytes || usedBytes <= maxQueryBytes) && (0L == maxGlobalBytes || globalUsedBytes <= maxGlobalBytes)) {
+            return true;
+        }
+        if (MemoryLimitExceededBehavior.FAIL == behavior) {
+            throw new MemoryLimitExceededException("Memory limit exceeded, query used %s bytes (limit %s), all queries used %s bytes (limit %s).", 
+                    usedBytes, maxQueryBytes, globalUsedBytes, maxGlobalBytes);
+        }
+        return false;
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes estimated bytes
+     */
+    public synchronized void release(final long bytes) {
+        if (closed) {
+            return;
+        }
+        long releasedBytes = Math.min(bytes, usedBytes);
+        usedBytes -= releasedBytes;
+        accountant.free(releasedBytes);
+    }
+    
+    /**
+     * Get used bytes of this query.
+     *
+     * @return used bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+    
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+    
+    /**
+     * Close memory account, release all bytes still held and unbind it from current thread if bound.
+     */
+    public synchronized void close() {
+        if (this == ShardingExecuteDataMap.getDataMap().get(DATA_MAP_KEY)) {
+            unbind();
+        }
+        if (closed) {
+            return;
+        }
+        closed = true;
+        accountant.free(usedBytes);
+        usedBytes = 0L;
+        accountant.closeQuery();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.ColumnDefinitionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnAfterPositionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnPositionSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.ddl.AlterTableStatement;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Altered table meta data builder.
+ * 
+ * <p>Build table meta data after altered from table meta data before altered and the column definitions parsed from alter table statement, 
+ * so that actual tables need not to be reloaded.</p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AlteredTableMetaDataBuilder {
+    
+    /**
+     * Build table meta data after altered.
+     *
+     * @param tableMetaData table meta data before altered
+     * @param alterTableStatement alter table statement
+     * @return table meta data after altered
+     */
+    public static TableMetaData build(final TableMetaData tableMetaData, final AlterTableStatement alterTableStatement) {
+        List<ColumnMetaData> columns = new ArrayList<>(tableMetaData.getColumns().values());
+        for (String each : alterTableStatement.getDroppedColumnNames()) {
+            int index = indexOf(columns, each);
+            if (-1 != index) {
+                columns.remove(index);
+            }
+        }
+        if (alterTableStatement.isDropPrimaryKey()) {
+            dropPrimaryKey(columns);
+        }
+        for (Entry<String, ColumnDefinitionSegment> entry : alterTableStatement.getModifiedColumnDefinitions().entrySet()) {
+            int index = indexOf(columns, entry.getKey());
+            if (-1 != index) {
+                columns.set(index, createColumnMetaData(entry.getValue(), columns.get(index)));
+            }
+        }
+        for (ColumnDefinitionSegment each : alterTableStatement.getAddedColumnDefinitions()) {
+            if (-1 == indexOf(columns, each.getColumnName())) {
+                columns.add(createColumnMetaData(each, null));
+            }
+        }
+        for (ColumnPositionSegment each : alterTableStatement.getChangedPositionColumns()) {
+            changePosition(columns, each);
+        }
+        return new TableMetaData(columns, tableMetaData.getLogicIndexes());
+    }
+    
+    private static int indexOf(final List<ColumnMetaData> columns, final String columnName) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getColumnName().equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static ColumnMetaData createColumnMetaData(final ColumnDefinitionSegment columnDefinition, final ColumnMetaData oldColumnMetaData) {
+        String dataType = null == columnDefinition.getDataType() ? null : columnDefinition.getDataType().toUpperCase();
+        if (null == oldColumnMetaData) {
+            return new ColumnMetaData(columnDefinition.getColumnName(), dataType, columnDefinition.isPrimaryKey());
+        }
+        return new ColumnMetaData(columnDefinition.getColumnName(), null == dataType ? oldColumnMetaData.getDataType() : dataType, columnDefinition.isPrimaryKey() || oldColumnMetaData.isPrimaryKey());
+    }
+    
+    private static void changePosition(final List<ColumnMetaData> columns, final ColumnPositionSegment columnPosition) {
+        int index = indexOf(columns, SQLUtil.getExactlyValue(columnPosition.getColumnName()));
+        if (-1 == index) {
+            return;
+        }
+        ColumnMetaData column = columns.remove(index);
+        if (columnPosition instanceof ColumnAfterPositionSegment) {
+            int afterIndex = indexOf(columns, SQLUtil.getExactlyValue(((ColumnAfterPositionSegment) columnPosition).getAfterColumnName()));
+            columns.add(-1 == afterIndex ? index : afterIndex + 1, column);
+        } else {
+            columns.add(0, column);
+        }
+    }
+    
+    private static void dropPrimaryKey(final List<ColumnMetaData> columns) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).isPrimaryKey()) {
+                columns.set(i, new ColumnMetaData(columns.get(i).getColumnName(), columns.get(i).getDataType(), false));
+            }
+        }
+    }
+}
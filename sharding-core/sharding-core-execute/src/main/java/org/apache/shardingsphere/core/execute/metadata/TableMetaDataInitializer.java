@@ -19,8 +19,12 @@ package org.apache.shardingsphere.core.execute.metadata;
 
 import com.google.common.base.Optional;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.LazyTableMetaDataLoader;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
@@ -30,18 +34,31 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Table meta data initializer.
  *
  * @author zhangliang
  */
+@Slf4j
 public final class TableMetaDataInitializer {
     
+    private static final int REVALIDATE_QUEUE_SIZE = 1024;
+    
+    private static final ExecutorService REVALIDATE_EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, 
+            new LinkedBlockingQueue<Runnable>(REVALIDATE_QUEUE_SIZE), ShardingThreadFactoryBuilder.build("MetaDataRevalidate-%d"), new ThreadPoolExecutor.CallerRunsPolicy());
+    
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
     private final TableMetaDataConnectionManager connectionManager;
@@ -49,10 +66,11 @@ public final class TableMetaDataInitializer {
     private final TableMetaDataLoader tableMetaDataLoader;
     
     public TableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingExecuteEngine executeEngine, 
-                                    final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean isCheckingMetaData) {
+                                    final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, 
+                                    final boolean isCheckingMetaData, final boolean isLoadingMetaDataInBulk) {
         this.shardingDataSourceMetaData = shardingDataSourceMetaData;
         this.connectionManager = connectionManager;
-        tableMetaDataLoader = new TableMetaDataLoader(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery, isCheckingMetaData);
+        tableMetaDataLoader = new TableMetaDataLoader(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery, isCheckingMetaData, isLoadingMetaDataInBulk);
     }
     
     /**
@@ -70,36 +88,182 @@ public final class TableMetaDataInitializer {
     /**
      * Load all table meta data.
      * 
+     * <p>Sharding tables and tables of default data source are loaded concurrently.</p>
+     * 
      * @param shardingRule sharding rule
      * @return all table meta data
      */
     @SneakyThrows
     public Map<String, TableMetaData> load(final ShardingRule shardingRule) {
-        Map<String, TableMetaData> result = new HashMap<>();
-        result.putAll(loadShardingTables(shardingRule));
-        result.putAll(loadDefaultTables(shardingRule));
-        return result;
+        return tableMetaDataLoader.load(getLogicTableNames(shardingRule), shardingRule);
+    }
+    
+    /**
+     * Load sharding table meta data lazily.
+     * 
+     * <p>Meta data of eager tables are loaded now, and meta data of other tables are loaded when they are used at the first time.</p>
+     *
+     * @param shardingRule sharding rule
+     * @param eagerTableNames names of tables whose meta data are loaded now
+     * @return sharding table meta data
+     */
+    @SneakyThrows
+    public ShardingTableMetaData loadLazily(final ShardingRule shardingRule, final Collection<String> eagerTableNames) {
+        Collection<String> logicTableNames = getLogicTableNames(shardingRule);
+        Collection<String> eagerLogicTableNames = new LinkedHashSet<>(logicTableNames);
+        eagerLogicTableNames.retainAll(eagerTableNames);
+        Map<String, TableMetaData> tables = eagerLogicTableNames.isEmpty() ? Collections.<String, TableMetaData>emptyMap() : tableMetaDataLoader.load(eagerLogicTableNames, shardingRule);
+        return new ShardingTableMetaData(tables, logicTableNames, new LazyTableMetaDataLoader() {
+            
+            @Override
+            public TableMetaData load(final String logicTableName) {
+                return TableMetaDataInitializer.this.load(logicTableName, shardingRule);
+            }
+        });
     }
     
-    private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+    private Collection<String> getLogicTableNames(final ShardingRule shardingRule) throws SQLException {
+        Collection<String> result = new LinkedHashSet<>();
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            result.add(each.getLogicTable());
+        }
+        Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
+        if (actualDefaultDataSourceName.isPresent()) {
+            result.addAll(getAllTableNames(actualDefaultDataSourceName.get()));
         }
         return result;
     }
     
-    private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
-        Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
-        if (actualDefaultDataSourceName.isPresent()) {
-            for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
+    /**
+     * Load sharding table meta data with snapshot.
+     * 
+     * <p>
+     * If snapshot contains all sharding tables, table meta data in snapshot are used directly, 
+     * and then revalidated and saved to snapshot in background. Otherwise table meta data are loaded from databases and saved to snapshot.
+     * </p>
+     *
+     * @param shardingRule sharding rule
+     * @param snapshot table meta data snapshot
+     * @return sharding table meta data
+     */
+    public ShardingTableMetaData load(final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) {
+        Optional<Map<String, TableMetaData>> snapshotTables = snapshot.load();
+        if (!snapshotTables.isPresent() || !isContainsAllShardingTables(snapshotTables.get(), shardingRule)) {
+            Map<String, TableMetaData> tables = load(shardingRule);
+            snapshot.save(tables);
+            return new ShardingTableMetaData(tables);
+        }
+        ShardingTableMetaData result = new ShardingTableMetaData(snapshotTables.get());
+        revalidateAsynchronously(result, shardingRule, snapshot);
+        return result;
+    }
+    
+    private boolean isContainsAllShardingTables(final Map<String, TableMetaData> tables, final ShardingRule shardingRule) {
+        for (TableRule each : shardingRule.getTableRules()) {
+            if (!tables.containsKey(each.getLogicTable())) {
+                return false;
             }
         }
+        return true;
+    }
+    
+    private void revalidateAsynchronously(final ShardingTableMetaData shardingTableMetaData, final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) {
+        REVALIDATE_EXECUTOR.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    Map<String, Long> versions = getVersions(shardingTableMetaData);
+                    revalidate(shardingTableMetaData, load(shardingRule), versions);
+                    snapshot.save(shardingTableMetaData.getTables());
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Revalidate table meta data failed.", ex);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Revalidate table meta data asynchronously.
+     * 
+     * <p>Table meta data are reloaded from databases in background, and replaced if they are different from current ones.</p>
+     *
+     * @param shardingTableMetaData sharding table meta data
+     * @param logicTableName logic table name
+     * @param shardingRule sharding rule
+     */
+    public void revalidateAsynchronously(final ShardingTableMetaData shardingTableMetaData, final String logicTableName, final ShardingRule shardingRule) {
+        revalidateAsynchronously(shardingTableMetaData, logicTableName, shardingRule, new TableMetaDataRevalidatedCallback() {
+            
+            @Override
+            public void onChanged(final String logicTableName, final TableMetaData tableMetaData) {
+            }
+        });
+    }
+    
+    /**
+     * Revalidate table meta data asynchronously.
+     * 
+     * <p>
+     * Table meta data are reloaded from databases in background, and replaced if they are different from current ones.
+     * Reloaded table meta data are discarded if current ones are changed during reloading.
+     * </p>
+     *
+     * @param shardingTableMetaData sharding table meta data
+     * @param logicTableName logic table name
+     * @param shardingRule sharding rule
+     * @param callback callback when table meta data are replaced
+     */
+    public void revalidateAsynchronously(final ShardingTableMetaData shardingTableMetaData, final String logicTableName, 
+                                         final ShardingRule shardingRule, final TableMetaDataRevalidatedCallback callback) {
+        REVALIDATE_EXECUTOR.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    long version = shardingTableMetaData.getVersion(logicTableName);
+                    TableMetaData tableMetaData = load(logicTableName, shardingRule);
+                    if (shardingTableMetaData.containsTable(logicTableName) && !tableMetaData.equals(shardingTableMetaData.get(logicTableName))
+                            && shardingTableMetaData.put(logicTableName, tableMetaData, version)) {
+                        callback.onChanged(logicTableName, tableMetaData);
+                    }
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Revalidate table meta data of '{}' failed.", logicTableName, ex);
+                }
+            }
+        });
+    }
+    
+    private Map<String, Long> getVersions(final ShardingTableMetaData shardingTableMetaData) {
+        Map<String, Long> result = new HashMap<>();
+        for (String each : shardingTableMetaData.getTables().keySet()) {
+            result.put(each, shardingTableMetaData.getVersion(each));
+        }
         return result;
     }
     
+    private void revalidate(final ShardingTableMetaData shardingTableMetaData, final Map<String, TableMetaData> tables, final Map<String, Long> versions) {
+        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+            if (!entry.getValue().equals(shardingTableMetaData.get(entry.getKey()))) {
+                shardingTableMetaData.put(entry.getKey(), entry.getValue(), getVersion(versions, entry.getKey()));
+            }
+        }
+        for (String each : new ArrayList<>(shardingTableMetaData.getTables().keySet())) {
+            if (!tables.containsKey(each)) {
+                shardingTableMetaData.remove(each, getVersion(versions, each));
+            }
+        }
+    }
+    
+    private long getVersion(final Map<String, Long> versions, final String logicTableName) {
+        Long result = versions.get(logicTableName);
+        return null == result ? 0L : result;
+    }
+    
     private Collection<String> getAllTableNames(final String dataSourceName) throws SQLException {
         Collection<String> result = new LinkedHashSet<>();
         DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
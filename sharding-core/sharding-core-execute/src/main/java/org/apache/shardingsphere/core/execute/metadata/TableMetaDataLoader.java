@@ -19,11 +19,15 @@ package org.apache.shardingsphere.core.execute.metadata;
 
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
+import org.apache.shardingsphere.core.execute.metadata.bulk.BulkTableMetaDataLoader;
+import org.apache.shardingsphere.core.execute.metadata.bulk.BulkTableMetaDataLoaderFactory;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
@@ -35,9 +39,12 @@ import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +70,8 @@ public final class TableMetaDataLoader {
     
     private final boolean isCheckingMetaData;
     
+    private final boolean isLoadingMetaDataInBulk;
+    
     /**
      * Load table meta data.
      *
@@ -77,6 +86,97 @@ public final class TableMetaDataLoader {
         return actualTableMetaDataList.iterator().next();
     }
     
+    /**
+     * Load table meta data of logic tables.
+     * 
+     * <p>
+     * Actual tables of all logic tables are grouped by data source and loaded concurrently, at most max connections size per query connections are used for each data source.
+     * If loading in bulk, meta data of all actual tables in one data source are loaded by one connection with few queries if database supports.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return map of logic table name and table meta data
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        Map<String, List<TableMetaData>> actualTableMetaDataMap = new LinkedHashMap<>(logicTableNames.size(), 1);
+        for (Entry<String, TableMetaData> each : loadLogicDataNodes(getLogicDataNodeGroups(logicTableNames, shardingRule), shardingRule.getShardingDataSourceNames())) {
+            if (!actualTableMetaDataMap.containsKey(each.getKey())) {
+                actualTableMetaDataMap.put(each.getKey(), new LinkedList<TableMetaData>());
+            }
+            actualTableMetaDataMap.get(each.getKey()).add(each.getValue());
+        }
+        Map<String, TableMetaData> result = new HashMap<>(actualTableMetaDataMap.size(), 1);
+        for (Entry<String, List<TableMetaData>> entry : actualTableMetaDataMap.entrySet()) {
+            checkUniformed(entry.getKey(), entry.getValue());
+            result.put(entry.getKey(), entry.getValue().iterator().next());
+        }
+        return result;
+    }
+    
+    private Map<String, List<LogicDataNode>> getLogicDataNodeGroups(final Collection<String> logicTableNames, final ShardingRule shardingRule) {
+        Map<String, List<LogicDataNode>> result = new LinkedHashMap<>();
+        for (String each : logicTableNames) {
+            for (Entry<String, List<DataNode>> entry : getDataNodeGroups(each, shardingRule).entrySet()) {
+                if (!result.containsKey(entry.getKey())) {
+                    result.put(entry.getKey(), new ArrayList<LogicDataNode>());
+                }
+                for (DataNode dataNode : entry.getValue()) {
+                    result.get(entry.getKey()).add(new LogicDataNode(each, dataNode));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private List<Entry<String, TableMetaData>> loadLogicDataNodes(final Map<String, List<LogicDataNode>> logicDataNodeGroups, 
+                                                                  final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
+        return executeEngine.groupExecute(getLogicDataNodeExecuteGroups(logicDataNodeGroups), new ShardingGroupExecuteCallback<LogicDataNode, Entry<String, TableMetaData>>() {
+            
+            @Override
+            public Collection<Entry<String, TableMetaData>> execute(
+                    final Collection<LogicDataNode> logicDataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                String dataSourceName = logicDataNodes.iterator().next().getDataNode().getDataSourceName();
+                DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
+                String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
+                return loadLogicDataNodes(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, logicDataNodes);
+            }
+        });
+    }
+    
+    private Collection<ShardingExecuteGroup<LogicDataNode>> getLogicDataNodeExecuteGroups(final Map<String, List<LogicDataNode>> logicDataNodeGroups) {
+        Collection<ShardingExecuteGroup<LogicDataNode>> result = new LinkedList<>();
+        for (List<LogicDataNode> each : logicDataNodeGroups.values()) {
+            int groupSize = isLoadingMetaDataInBulk ? each.size() : (each.size() + maxConnectionsSizePerQuery - 1) / maxConnectionsSizePerQuery;
+            for (List<LogicDataNode> logicDataNodes : Lists.partition(each, groupSize)) {
+                result.add(new ShardingExecuteGroup<>(logicDataNodes));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<Entry<String, TableMetaData>> loadLogicDataNodes(
+            final String dataSourceName, final String catalog, final Collection<LogicDataNode> logicDataNodes) throws SQLException {
+        Collection<Entry<String, TableMetaData>> result = new LinkedList<>();
+        try (Connection connection = connectionManager.getConnection(dataSourceName)) {
+            Optional<BulkTableMetaDataLoader> bulkTableMetaDataLoader = isLoadingMetaDataInBulk 
+                    ? BulkTableMetaDataLoaderFactory.newInstance(connection.getMetaData().getDatabaseProductName()) : Optional.<BulkTableMetaDataLoader>absent();
+            if (bulkTableMetaDataLoader.isPresent()) {
+                Map<String, List<ColumnMetaData>> columnMetaDataMap = bulkTableMetaDataLoader.get().loadColumnMetaData(connection, catalog);
+                Map<String, Collection<String>> indexNamesMap = bulkTableMetaDataLoader.get().loadIndexNames(connection, catalog);
+                for (LogicDataNode each : logicDataNodes) {
+                    result.add(Maps.immutableEntry(each.getLogicTableName(), createTableMetaData(each.getDataNode().getTableName(), columnMetaDataMap, indexNamesMap)));
+                }
+            } else {
+                for (LogicDataNode each : logicDataNodes) {
+                    result.add(Maps.immutableEntry(each.getLogicTableName(), createTableMetaData(connection, catalog, each.getDataNode().getTableName())));
+                }
+            }
+        }
+        return result;
+    }
+    
     private List<TableMetaData> load(final Map<String, List<DataNode>> dataNodeGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
         return executeEngine.groupExecute(getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, TableMetaData>() {
             
@@ -132,6 +232,22 @@ public final class TableMetaDataLoader {
         return new TableMetaData(Collections.<ColumnMetaData>emptyList(), Collections.<String>emptySet());
     }
     
+    private TableMetaData createTableMetaData(final String actualTableName, final Map<String, List<ColumnMetaData>> columnMetaDataMap, final Map<String, Collection<String>> indexNamesMap) {
+        if (!columnMetaDataMap.containsKey(actualTableName)) {
+            return new TableMetaData(Collections.<ColumnMetaData>emptyList(), Collections.<String>emptySet());
+        }
+        Set<String> logicIndexes = new HashSet<>();
+        if (indexNamesMap.containsKey(actualTableName)) {
+            for (String each : indexNamesMap.get(actualTableName)) {
+                Optional<String> logicIndex = getLogicIndex(each, actualTableName);
+                if (logicIndex.isPresent()) {
+                    logicIndexes.add(logicIndex.get());
+                }
+            }
+        }
+        return new TableMetaData(columnMetaDataMap.get(actualTableName), logicIndexes);
+    }
+    
     private boolean isTableExist(final Connection connection, final String catalog, final String actualTableName) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(catalog, null, actualTableName, null)) {
             return resultSet.next();
@@ -193,4 +309,13 @@ public final class TableMetaDataLoader {
             }
         }
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class LogicDataNode {
+        
+        private final String logicTableName;
+        
+        private final DataNode dataNode;
+    }
 }
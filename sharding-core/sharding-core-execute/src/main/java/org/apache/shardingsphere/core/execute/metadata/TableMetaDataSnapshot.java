@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local snapshot file of table meta data.
+ * 
+ * <p>Table meta data are stored as gzipped binary, and the file is replaced atomically when saving.
+ * Saving failures are logged only, because snapshot is just an optimization of loading table meta data.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final int VERSION = 2;
+    
+    private final File file;
+    
+    /**
+     * Load table meta data from snapshot.
+     * 
+     * @return table meta data, absent if snapshot does not exist or can not be read
+     */
+    public Optional<Map<String, TableMetaData>> load() {
+        if (!file.isFile()) {
+            return Optional.absent();
+        }
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))))) {
+            return inputStream.readInt() == VERSION ? Optional.of(readTables(inputStream)) : Optional.<Map<String, TableMetaData>>absent();
+        } catch (final IOException ex) {
+            log.warn("Can not load table meta data snapshot `{}`: {}", file, ex.getMessage());
+            return Optional.absent();
+        }
+    }
+    
+    private Map<String, TableMetaData> readTables(final DataInputStream inputStream) throws IOException {
+        int tableCount = inputStream.readInt();
+        Map<String, TableMetaData> result = new HashMap<>(tableCount, 1);
+        for (int i = 0; i < tableCount; i++) {
+            String tableName = inputStream.readUTF();
+            int columnCount = inputStream.readInt();
+            List<ColumnMetaData> columnMetaDataList = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                columnMetaDataList.add(new ColumnMetaData(inputStream.readUTF(), readNullableUTF(inputStream), inputStream.readBoolean()));
+            }
+            int indexCount = inputStream.readInt();
+            Set<String> logicIndexes = new HashSet<>(indexCount, 1);
+            for (int j = 0; j < indexCount; j++) {
+                logicIndexes.add(inputStream.readUTF());
+            }
+            result.put(tableName, new TableMetaData(columnMetaDataList, logicIndexes));
+        }
+        return result;
+    }
+    
+    private String readNullableUTF(final DataInputStream inputStream) throws IOException {
+        return inputStream.readBoolean() ? inputStream.readUTF() : null;
+    }
+    
+    /**
+     * Save table meta data to snapshot.
+     * 
+     * @param tables table meta data
+     */
+    public void save(final Map<String, TableMetaData> tables) {
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            if (null != file.getAbsoluteFile().getParentFile()) {
+                file.getAbsoluteFile().getParentFile().mkdirs();
+            }
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(tempFile))))) {
+                outputStream.writeInt(VERSION);
+                writeTables(outputStream, tables);
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException | RuntimeException ex) {
+            log.warn("Can not save table meta data snapshot `{}`: {}", file, ex.getMessage());
+            tempFile.delete();
+        }
+    }
+    
+    private void writeTables(final DataOutputStream outputStream, final Map<String, TableMetaData> tables) throws IOException {
+        List<Entry<String, TableMetaData>> entries = new ArrayList<>(tables.entrySet());
+        outputStream.writeInt(entries.size());
+        for (Entry<String, TableMetaData> entry : entries) {
+            outputStream.writeUTF(entry.getKey());
+            Map<String, ColumnMetaData> columns = entry.getValue().getColumns();
+            synchronized (columns) {
+                outputStream.writeInt(columns.size());
+                for (ColumnMetaData each : columns.values()) {
+                    outputStream.writeUTF(each.getColumnName());
+                    writeNullableUTF(outputStream, each.getDataType());
+                    outputStream.writeBoolean(each.isPrimaryKey());
+                }
+            }
+            List<String> logicIndexes = new ArrayList<>(entry.getValue().getLogicIndexes());
+            outputStream.writeInt(logicIndexes.size());
+            for (String each : logicIndexes) {
+                outputStream.writeUTF(each);
+            }
+        }
+    }
+    
+    private void writeNullableUTF(final DataOutputStream outputStream, final String value) throws IOException {
+        outputStream.writeBoolean(null != value);
+        if (null != value) {
+            outputStream.writeUTF(value);
+        }
+    }
+}
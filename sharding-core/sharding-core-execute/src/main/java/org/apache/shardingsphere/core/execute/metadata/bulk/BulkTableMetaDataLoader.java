@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata.bulk;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk table meta data loader, which loads meta data of all tables in one schema by few queries.
+ *
+ * @author agent
+ */
+public interface BulkTableMetaDataLoader {
+    
+    /**
+     * Load column meta data of all tables.
+     *
+     * @param connection connection
+     * @param catalog catalog name, null if unknown
+     * @return map of actual table name and column meta data list in ordinal order
+     * @throws SQLException SQL exception
+     */
+    Map<String, List<ColumnMetaData>> loadColumnMetaData(Connection connection, String catalog) throws SQLException;
+    
+    /**
+     * Load index names of all tables.
+     *
+     * @param connection connection
+     * @param catalog catalog name, null if unknown
+     * @return map of actual table name and actual index names
+     * @throws SQLException SQL exception
+     */
+    Map<String, Collection<String>> loadIndexNames(Connection connection, String catalog) throws SQLException;
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata.bulk;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk table meta data loader factory.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkTableMetaDataLoaderFactory {
+    
+    /**
+     * Create new instance of bulk table meta data loader.
+     *
+     * @param databaseProductName database product name
+     * @return bulk table meta data loader, absent if database is not supported
+     */
+    public static Optional<BulkTableMetaDataLoader> newInstance(final String databaseProductName) {
+        if ("MySQL".equals(databaseProductName)) {
+            return Optional.<BulkTableMetaDataLoader>of(new MySQLBulkTableMetaDataLoader());
+        }
+        if ("PostgreSQL".equals(databaseProductName)) {
+            return Optional.<BulkTableMetaDataLoader>of(new PostgreSQLBulkTableMetaDataLoader());
+        }
+        return Optional.absent();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata.bulk;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk table meta data loader for MySQL.
+ *
+ * <p>Type name is same as {@code TYPE_NAME} of {@code DatabaseMetaData.getColumns()} of MySQL connector.</p>
+ *
+ * @author agent
+ */
+public final class MySQLBulkTableMetaDataLoader implements BulkTableMetaDataLoader {
+    
+    private static final String COLUMN_META_DATA_SQL = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, COLUMN_KEY FROM information_schema.COLUMNS "
+            + "WHERE TABLE_SCHEMA = ? ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    
+    private static final String INDEX_NAME_SQL = "SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ?";
+    
+    @Override
+    public Map<String, List<ColumnMetaData>> loadColumnMetaData(final Connection connection, final String catalog) throws SQLException {
+        Map<String, List<ColumnMetaData>> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(COLUMN_META_DATA_SQL)) {
+            preparedStatement.setString(1, getSchemaName(connection, catalog));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    if (!result.containsKey(tableName)) {
+                        result.put(tableName, new LinkedList<ColumnMetaData>());
+                    }
+                    result.get(tableName).add(new ColumnMetaData(resultSet.getString("COLUMN_NAME"), 
+                            getDataType(resultSet.getString("DATA_TYPE"), resultSet.getString("COLUMN_TYPE")), "PRI".equals(resultSet.getString("COLUMN_KEY"))));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String getDataType(final String dataType, final String columnType) {
+        String result = dataType.toUpperCase();
+        return columnType.toLowerCase().contains("unsigned") ? result + " UNSIGNED" : result;
+    }
+    
+    @Override
+    public Map<String, Collection<String>> loadIndexNames(final Connection connection, final String catalog) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INDEX_NAME_SQL)) {
+            preparedStatement.setString(1, getSchemaName(connection, catalog));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    if (!result.containsKey(tableName)) {
+                        result.put(tableName, new LinkedList<String>());
+                    }
+                    result.get(tableName).add(resultSet.getString("INDEX_NAME"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String getSchemaName(final Connection connection, final String catalog) throws SQLException {
+        return null == catalog ? connection.getCatalog() : catalog;
+    }
+}
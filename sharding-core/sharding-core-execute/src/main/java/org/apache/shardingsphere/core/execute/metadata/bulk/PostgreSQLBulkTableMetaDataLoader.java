@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata.bulk;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk table meta data loader for PostgreSQL.
+ *
+ * <p>Type name is the internal type name, such as {@code int4} and {@code varchar}.</p>
+ *
+ * @author agent
+ */
+public final class PostgreSQLBulkTableMetaDataLoader implements BulkTableMetaDataLoader {
+    
+    private static final String DEFAULT_SCHEMA_NAME = "public";
+    
+    private static final String COLUMN_META_DATA_SQL = "SELECT c.table_name, c.column_name, c.udt_name, pk.column_name AS primary_key_column_name FROM information_schema.columns c "
+            + "LEFT JOIN (SELECT kcu.table_name, kcu.column_name FROM information_schema.table_constraints tc JOIN information_schema.key_column_usage kcu "
+            + "ON tc.constraint_schema = kcu.constraint_schema AND tc.constraint_name = kcu.constraint_name WHERE tc.constraint_type = 'PRIMARY KEY' AND tc.table_schema = ?) pk "
+            + "ON c.table_name = pk.table_name AND c.column_name = pk.column_name WHERE c.table_schema = ? ORDER BY c.table_name, c.ordinal_position";
+    
+    private static final String INDEX_NAME_SQL = "SELECT tablename, indexname FROM pg_indexes WHERE schemaname = ?";
+    
+    @Override
+    public Map<String, List<ColumnMetaData>> loadColumnMetaData(final Connection connection, final String catalog) throws SQLException {
+        Map<String, List<ColumnMetaData>> result = new HashMap<>();
+        String schemaName = getSchemaName(connection);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(COLUMN_META_DATA_SQL)) {
+            preparedStatement.setString(1, schemaName);
+            preparedStatement.setString(2, schemaName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("table_name");
+                    if (!result.containsKey(tableName)) {
+                        result.put(tableName, new LinkedList<ColumnMetaData>());
+                    }
+                    result.get(tableName).add(new ColumnMetaData(resultSet.getString("column_name"), resultSet.getString("udt_name"), null != resultSet.getString("primary_key_column_name")));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public Map<String, Collection<String>> loadIndexNames(final Connection connection, final String catalog) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INDEX_NAME_SQL)) {
+            preparedStatement.setString(1, getSchemaName(connection));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("tablename");
+                    if (!result.containsKey(tableName)) {
+                        result.put(tableName, new LinkedList<String>());
+                    }
+                    result.get(tableName).add(resultSet.getString("indexname"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String getSchemaName(final Connection connection) throws SQLException {
+        try {
+            String result = connection.getSchema();
+            return null == result ? DEFAULT_SCHEMA_NAME : result;
+        } catch (final AbstractMethodError | SQLFeatureNotSupportedException ignore) {
+            return DEFAULT_SCHEMA_NAME;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.core.execute.hook.SQLExecutionHook;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
@@ -61,6 +62,9 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
+        if (!isTrunkThread) {
+            QueryMemoryAccount.bind(shardingExecuteDataMap);
+        }
         DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
@@ -72,6 +76,10 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
             sqlExecutionHook.finishFailure(ex);
             ExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            if (!isTrunkThread) {
+                QueryMemoryAccount.unbind();
+            }
         }
     }
     
@@ -19,121 +19,216 @@ package org.apache.shardingsphere.core.execute.sql.execute.result;
 
 import com.google.common.base.Optional;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRowBuffer;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
-import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
-import java.util.ArrayList;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
+ * 
+ * <p>
+ * Loaded rows are reported to memory account of current query.
+ * If the account refuses more bytes, the rest rows are read from result set directly.
+ * </p>
  *
  * @author zhangliang
  * @author panjuan
  */
 public final class MemoryQueryResult implements QueryResult {
     
-    private final Iterator<QueryRow> resultData;
+    private QueryRowBuffer resultData;
     
-    private QueryRow currentRow;
+    private int currentRowIndex = -1;
     
     private final QueryResultMetaData metaData;
     
+    private final Optional<QueryMemoryAccount> memoryAccount;
+    
+    private ResultSet remainedResultSet;
+    
+    private int[] remainedColumnTypes;
+    
+    private boolean streaming;
+    
+    private boolean wasNull;
+    
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule) {
+        memoryAccount = QueryMemoryAccount.getCurrent();
         resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule);
     }
     
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule) {
+        memoryAccount = QueryMemoryAccount.getCurrent();
         resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule);
     }
     
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet) {
+        memoryAccount = QueryMemoryAccount.getCurrent();
         resultData = getResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData());
     }
-        
+    
     @SneakyThrows
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) {
-        Collection<QueryRow> result = new LinkedList<>();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(QueryResultUtil.getValue(resultSet, columnIndex));
-            }
-            result.add(new QueryRow(rowData));
+    private QueryRowBuffer getResultData(final ResultSet resultSet) {
+        QueryRowBuffer result = new QueryRowBuffer(resultSet.getMetaData());
+        if (!memoryAccount.isPresent()) {
+            result.load(resultSet);
+        } else if (!result.load(resultSet, memoryAccount.get())) {
+            remainedResultSet = resultSet;
+            remainedColumnTypes = getColumnTypes(resultSet.getMetaData());
         }
-        return result.iterator();
+        return result;
     }
     
+    private int[] getColumnTypes(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        int[] result = new int[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = resultSetMetaData.getColumnType(i + 1);
+        }
+        return result;
+    }
+    
+    @SneakyThrows
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
+        if (null != resultData && currentRowIndex + 1 < resultData.getRowCount()) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
+        if (null != remainedResultSet && remainedResultSet.next()) {
+            streaming = true;
+            return true;
+        }
+        close();
         return false;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return decrypt(columnIndex, currentRow.getColumnValue(columnIndex));
+        return decrypt(columnIndex, getColumnValue(columnIndex));
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return decrypt(columnLabel, currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return decrypt(columnLabel, getColumnValue(metaData.getColumnIndex(columnLabel)));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(columnIndex);
+        return getColumnValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(metaData.getColumnIndex(columnLabel));
+        return getColumnValue(metaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getColumnValue(columnIndex));
+        return QueryResultUtil.getInputStream(getColumnValue(columnIndex));
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return getInputStream(currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return QueryResultUtil.getInputStream(getColumnValue(metaData.getColumnIndex(columnLabel)));
     }
     
     @SneakyThrows
-    private InputStream getInputStream(final Object value) {
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
-        objectOutputStream.writeObject(value);
-        objectOutputStream.flush();
-        objectOutputStream.close();
-        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    private Object getColumnValue(final int columnIndex) {
+        Object result = streaming
+                ? QueryResultUtil.getValue(remainedResultSet, columnIndex, remainedColumnTypes[columnIndex - 1]) : resultData.getValue(currentRowIndex, columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        if (isEncrypted(columnIndex)) {
+            return PrimitiveValueConverter.toLong(getValue(columnIndex, long.class));
+        }
+        if (streaming) {
+            long result = remainedResultSet.getLong(columnIndex);
+            wasNull = remainedResultSet.wasNull();
+            return result;
+        }
+        wasNull = resultData.isNull(currentRowIndex, columnIndex);
+        return resultData.getLong(currentRowIndex, columnIndex);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        if (isEncrypted(columnIndex)) {
+            return PrimitiveValueConverter.toInt(getValue(columnIndex, int.class));
+        }
+        if (streaming) {
+            int result = remainedResultSet.getInt(columnIndex);
+            wasNull = remainedResultSet.wasNull();
+            return result;
+        }
+        wasNull = resultData.isNull(currentRowIndex, columnIndex);
+        return (int) resultData.getLong(currentRowIndex, columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        if (isEncrypted(columnIndex)) {
+            return PrimitiveValueConverter.toDouble(getValue(columnIndex, double.class));
+        }
+        if (streaming) {
+            double result = remainedResultSet.getDouble(columnIndex);
+            wasNull = remainedResultSet.wasNull();
+            return result;
+        }
+        wasNull = resultData.isNull(currentRowIndex, columnIndex);
+        return resultData.getDouble(currentRowIndex, columnIndex);
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        if (isEncrypted(columnIndex)) {
+            return PrimitiveValueConverter.toBoolean(getValue(columnIndex, boolean.class));
+        }
+        if (streaming) {
+            boolean result = remainedResultSet.getBoolean(columnIndex);
+            wasNull = remainedResultSet.wasNull();
+            return result;
+        }
+        wasNull = resultData.isNull(currentRowIndex, columnIndex);
+        return resultData.getBoolean(currentRowIndex, columnIndex);
+    }
+    
+    private boolean isEncrypted(final int columnIndex) {
+        return metaData.isEncrypted(columnIndex);
     }
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        if (null != resultData && memoryAccount.isPresent()) {
+            memoryAccount.get().release(resultData.getEstimatedBytes());
+        }
+        resultData = null;
+        remainedResultSet = null;
+        remainedColumnTypes = null;
+        streaming = false;
+        currentRowIndex = -1;
     }
     
     @Override
@@ -146,13 +241,21 @@ public final class MemoryQueryResult implements QueryResult {
         return metaData.getColumnLabel(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return metaData.getColumnType(columnIndex);
+    }
+    
     @SneakyThrows
     private Object decrypt(final String columnLabel, final Object value) {
-        return decrypt(metaData.getColumnIndex(columnLabel), value);
+        return metaData.isEncrypted() ? decrypt(metaData.getColumnIndex(columnLabel), value) : value;
     }
     
     @SneakyThrows
     private Object decrypt(final int columnIndex, final Object value) {
+        if (!metaData.isEncrypted()) {
+            return value;
+        }
         Optional<ShardingEncryptor> shardingEncryptor = metaData.getShardingEncryptor(columnIndex);
         return shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(getCiphertext(value)) : value;
     }
@@ -0,0 +1,411 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.memory.MemorySizeEstimator;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query result which prefetches rows of stream query result in background.
+ *
+ * <p>
+ * Rows are read and decoded by a prefetch thread into a bounded buffer, so merging rows overlaps with fetching rows from database.
+ * Buffer size follows fetch size of statement, and buffered rows are reserved from memory account of current query.
+ * If the account refuses more bytes, the prefetch thread waits until the buffer is drained before buffering next row.
+ * Closing stops the prefetch thread and waits for it to finish before the underlying query result is closed.
+ * If prefetch executor has no idle thread, rows are read from the underlying query result directly without prefetching.
+ * </p>
+ * 
+ * <p>
+ * Prefetched values are read by {@code getObject}, so calendar values are rebased from default time zone to time zone of calendar,
+ * and input streams are built from prefetched strings, bytes or large objects.
+ * </p>
+ *
+ * @author agent
+ */
+public final class PrefetchQueryResult implements QueryResult {
+    
+    private static final int DEFAULT_BUFFER_SIZE = 64;
+    
+    private static final int MAX_BUFFER_SIZE = 1024;
+    
+    private static final PrefetchedRow END_OF_ROWS = new PrefetchedRow(new Object[0], 0L);
+    
+    private static final long STOP_CHECK_INTERVAL_MILLISECONDS = 10L;
+    
+    private static final int[] CALENDAR_FIELDS = {Calendar.ERA, Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND};
+    
+    private final QueryResult queryResult;
+    
+    private final Map<String, Integer> columnLabelAndIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    private final BlockingQueue<PrefetchedRow> buffer;
+    
+    private final Optional<QueryMemoryAccount> memoryAccount;
+    
+    private final Object drainLock = new Object();
+    
+    private final CountDownLatch prefetchFinished = new CountDownLatch(1);
+    
+    private final boolean prefetching;
+    
+    private volatile boolean closed;
+    
+    private volatile Exception prefetchException;
+    
+    private Object[] currentRow;
+    
+    private boolean finished;
+    
+    private boolean wasNull;
+    
+    public PrefetchQueryResult(final QueryResult queryResult, final int fetchSize, final ExecutorService prefetchExecutorService) throws SQLException {
+        this.queryResult = queryResult;
+        for (int i = queryResult.getColumnCount(); i > 0; i--) {
+            columnLabelAndIndexMap.put(queryResult.getColumnLabel(i), i);
+        }
+        buffer = new ArrayBlockingQueue<>(fetchSize > 0 ? Math.min(fetchSize, MAX_BUFFER_SIZE) : DEFAULT_BUFFER_SIZE);
+        memoryAccount = QueryMemoryAccount.getCurrent();
+        prefetching = startPrefetch(prefetchExecutorService);
+    }
+    
+    private boolean startPrefetch(final ExecutorService prefetchExecutorService) {
+        try {
+            prefetchExecutorService.execute(new PrefetchTask());
+            return true;
+        } catch (final RejectedExecutionException ex) {
+            prefetchFinished.countDown();
+            return false;
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (finished) {
+            return false;
+        }
+        if (!prefetching) {
+            return nextWithoutPrefetch();
+        }
+        PrefetchedRow row = takeRow();
+        if (END_OF_ROWS == row) {
+            finished = true;
+            currentRow = null;
+            if (null != prefetchException) {
+                throw prefetchException instanceof SQLException ? (SQLException) prefetchException : new SQLException(prefetchException);
+            }
+            return false;
+        }
+        if (memoryAccount.isPresent()) {
+            memoryAccount.get().release(row.bytes);
+        }
+        currentRow = row.values;
+        if (buffer.isEmpty()) {
+            notifyDrained();
+        }
+        return true;
+    }
+    
+    private boolean nextWithoutPrefetch() throws SQLException {
+        if (queryResult.next()) {
+            currentRow = loadRow();
+            return true;
+        }
+        finished = true;
+        currentRow = null;
+        return false;
+    }
+    
+    private Object[] loadRow() throws SQLException {
+        Object[] result = new Object[queryResult.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private PrefetchedRow takeRow() throws SQLException {
+        try {
+            return buffer.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void notifyDrained() {
+        synchronized (drainLock) {
+            drainLock.notifyAll();
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getValue(getColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        Object value = getValue(columnIndex, type);
+        if (null == value) {
+            return null;
+        }
+        if (!(value instanceof java.util.Date)) {
+            throw new SQLException(String.format("Unsupported value: %s of type: %s", value, type));
+        }
+        long milliseconds = rebaseTimeZone((java.util.Date) value, calendar);
+        if (Date.class == type) {
+            return new Date(milliseconds);
+        }
+        if (Time.class == type) {
+            return new Time(milliseconds);
+        }
+        if (Timestamp.class == type) {
+            Timestamp result = new Timestamp(milliseconds);
+            if (value instanceof Timestamp) {
+                result.setNanos(((Timestamp) value).getNanos());
+            }
+            return result;
+        }
+        throw new SQLException(String.format("Unsupported type: %s", type));
+    }
+    
+    private long rebaseTimeZone(final java.util.Date value, final Calendar calendar) {
+        if (null == calendar) {
+            return value.getTime();
+        }
+        Calendar defaultCalendar = Calendar.getInstance();
+        defaultCalendar.setTime(value);
+        Calendar result = (Calendar) calendar.clone();
+        result.clear();
+        for (int each : CALENDAR_FIELDS) {
+            result.set(each, defaultCalendar.get(each));
+        }
+        return result.getTimeInMillis();
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getCalendarValue(getColumnIndex(columnLabel), type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (null == value) {
+            return null;
+        }
+        switch (type) {
+            case "Ascii":
+                return value instanceof Clob ? ((Clob) value).getAsciiStream() : new ByteArrayInputStream(getBytes(value, type));
+            case "Unicode":
+                return new ByteArrayInputStream(value instanceof String ? ((String) value).getBytes(StandardCharsets.UTF_16BE) : getBytes(value, type));
+            case "Binary":
+                return value instanceof Blob ? ((Blob) value).getBinaryStream() : new ByteArrayInputStream(getBytes(value, type));
+            default:
+                throw new SQLException(String.format("Unsupported type: %s", type));
+        }
+    }
+    
+    private byte[] getBytes(final Object value, final String type) throws SQLException {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        if (value instanceof String) {
+            return ((String) value).getBytes("Ascii".equals(type) ? StandardCharsets.US_ASCII : StandardCharsets.UTF_8);
+        }
+        throw new SQLException(String.format("Unsupported value: %s of type: %s", value, type));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return getInputStream(getColumnIndex(columnLabel), type);
+    }
+    
+    private int getColumnIndex(final String columnLabel) throws SQLException {
+        Integer result = columnLabelAndIndexMap.get(columnLabel);
+        if (null == result) {
+            throw new SQLException(String.format("Can not find column label: %s", columnLabel));
+        }
+        return result;
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return PrimitiveValueConverter.toLong(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return PrimitiveValueConverter.toInt(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return PrimitiveValueConverter.toDouble(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) {
+        return PrimitiveValueConverter.toBoolean(getValue(columnIndex, boolean.class));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        synchronized (drainLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            drainLock.notifyAll();
+        }
+        finished = true;
+        currentRow = null;
+        awaitPrefetchFinished();
+        releaseBufferedRows();
+        buffer.add(END_OF_ROWS);
+        queryResult.close();
+    }
+    
+    private void awaitPrefetchFinished() throws SQLException {
+        try {
+            do {
+                releaseBufferedRows();
+            } while (!prefetchFinished.await(STOP_CHECK_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void releaseBufferedRows() {
+        PrefetchedRow row = buffer.poll();
+        while (null != row) {
+            if (memoryAccount.isPresent()) {
+                memoryAccount.get().release(row.bytes);
+            }
+            row = buffer.poll();
+        }
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResult.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return queryResult.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) throws SQLException {
+        return queryResult.getColumnType(columnIndex);
+    }
+    
+    private final class PrefetchTask implements Runnable {
+        
+        @Override
+        public void run() {
+            try {
+                while (!closed && queryResult.next()) {
+                    put(loadRow());
+                }
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                if (!closed) {
+                    prefetchException = ex;
+                }
+            } finally {
+                if (!closed) {
+                    putEndOfRows();
+                }
+                prefetchFinished.countDown();
+            }
+        }
+        
+        private void put(final Object[] values) throws InterruptedException {
+            long bytes = MemorySizeEstimator.estimate(values);
+            if (memoryAccount.isPresent() && !memoryAccount.get().reserve(bytes)) {
+                memoryAccount.get().release(bytes);
+                waitUntilDrained();
+                buffer.put(new PrefetchedRow(values, 0L));
+                return;
+            }
+            buffer.put(new PrefetchedRow(values, bytes));
+        }
+        
+        private void waitUntilDrained() throws InterruptedException {
+            synchronized (drainLock) {
+                while (!closed && !buffer.isEmpty()) {
+                    drainLock.wait();
+                }
+            }
+        }
+        
+        private void putEndOfRows() {
+            try {
+                buffer.put(END_OF_ROWS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PrefetchedRow {
+        
+        private final Object[] values;
+        
+        private final long bytes;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Converter of column values to primitive types.
+ *
+ * <p>
+ * Numbers are converted without allocation, other values are parsed from their string form.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimitiveValueConverter {
+    
+    /**
+     * Convert value to long.
+     *
+     * @param value value
+     * @return {@code 0} if value is {@code null}, otherwise long value
+     */
+    public static long toLong(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return new BigDecimal(value.toString().trim()).longValue();
+    }
+    
+    /**
+     * Convert value to int.
+     *
+     * @param value value
+     * @return {@code 0} if value is {@code null}, otherwise int value
+     */
+    public static int toInt(final Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : (int) toLong(value);
+    }
+    
+    /**
+     * Convert value to double.
+     *
+     * @param value value
+     * @return {@code 0} if value is {@code null}, otherwise double value
+     */
+    public static double toDouble(final Object value) {
+        if (null == value) {
+            return 0D;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return Double.parseDouble(value.toString().trim());
+    }
+    
+    /**
+     * Convert value to boolean.
+     *
+     * @param value value
+     * @return {@code false} if value is {@code null}, otherwise boolean value
+     */
+    public static boolean toBoolean(final Object value) {
+        if (null == value) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return 0 != ((Number) value).intValue();
+        }
+        if (value instanceof byte[]) {
+            return 0 != ((byte[]) value).length && 0 != ((byte[]) value)[0];
+        }
+        String text = value.toString().trim();
+        return "1".equals(text) || Boolean.parseBoolean(text);
+    }
+}
@@ -53,6 +53,15 @@ public interface QueryResult {
      */
     String getColumnLabel(int columnIndex) throws SQLException;
     
+    /**
+     * Get column type.
+     *
+     * @param columnIndex column index
+     * @return column type, see {@code java.sql.Types}
+     * @throws SQLException SQL Exception
+     */
+    int getColumnType(int columnIndex) throws SQLException;
+    
     /**
      * Get data value.
      *
@@ -115,6 +124,42 @@ public interface QueryResult {
      */
     InputStream getInputStream(String columnLabel, String type) throws SQLException;
     
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, {@code 0} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    long getLong(int columnIndex) throws SQLException;
+    
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, {@code 0} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    int getInt(int columnIndex) throws SQLException;
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, {@code 0} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    double getDouble(int columnIndex) throws SQLException;
+    
+    /**
+     * Get boolean value.
+     *
+     * @param columnIndex column index
+     * @return boolean value, {@code false} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    boolean getBoolean(int columnIndex) throws SQLException;
+    
     /**
      * Judge ResultSet is null or not.
      *
@@ -122,4 +167,16 @@ public interface QueryResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close query result when no more data are needed.
+     * 
+     * <p>
+     * Result set is closed as soon as no more rows are read from it. Statement is not cancelled and connection is still released by its owner,
+     * so drivers which stream rows (e.g. MySQL) may still read the remaining rows on closing.
+     * </p>
+     *
+     * @throws SQLException SQL Exception
+     */
+    void close() throws SQLException;
 }
@@ -45,12 +45,18 @@ public final class QueryResultMetaData {
     
     private final ShardingEncryptorEngine shardingEncryptorEngine;
     
+    private final ShardingEncryptor[] shardingEncryptors;
+    
+    private final boolean encrypted;
+    
     @SneakyThrows
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData, final ShardingRule shardingRule) {
         columnLabelAndIndexes = getColumnLabelAndIndexMap(resultSetMetaData);
         this.resultSetMetaData = resultSetMetaData;
         this.shardingRule = shardingRule;
         this.shardingEncryptorEngine = shardingRule.getEncryptRule().getEncryptorEngine();
+        shardingEncryptors = getShardingEncryptors();
+        encrypted = isAnyEncrypted(shardingEncryptors);
     }
     
     @SneakyThrows
@@ -59,6 +65,8 @@ public final class QueryResultMetaData {
         this.resultSetMetaData = resultSetMetaData;
         this.shardingRule = null;
         this.shardingEncryptorEngine = encryptRule.getEncryptorEngine();
+        shardingEncryptors = getShardingEncryptors();
+        encrypted = isAnyEncrypted(shardingEncryptors);
     }
     
     @SneakyThrows
@@ -67,6 +75,8 @@ public final class QueryResultMetaData {
         this.resultSetMetaData = resultSetMetaData;
         this.shardingRule = null;
         this.shardingEncryptorEngine = new ShardingEncryptorEngine();
+        shardingEncryptors = new ShardingEncryptor[resultSetMetaData.getColumnCount()];
+        encrypted = false;
     }
     
     @SneakyThrows
@@ -78,6 +88,24 @@ public final class QueryResultMetaData {
         return result;
     }
     
+    private ShardingEncryptor[] getShardingEncryptors() throws SQLException {
+        ShardingEncryptor[] result = new ShardingEncryptor[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            Optional<ShardingEncryptor> shardingEncryptor = shardingEncryptorEngine.getShardingEncryptor(getTableName(i + 1), resultSetMetaData.getColumnName(i + 1));
+            result[i] = shardingEncryptor.orNull();
+        }
+        return result;
+    }
+    
+    private boolean isAnyEncrypted(final ShardingEncryptor[] shardingEncryptors) {
+        for (ShardingEncryptor each : shardingEncryptors) {
+            if (null != each) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Get column count.
      * 
@@ -99,6 +127,17 @@ public final class QueryResultMetaData {
         return resultSetMetaData.getColumnLabel(columnIndex);
     }
     
+    /**
+     * Get column type.
+     * 
+     * @param columnIndex column index
+     * @return column type
+     */
+    @SneakyThrows
+    public int getColumnType(final int columnIndex) {
+        return resultSetMetaData.getColumnType(columnIndex);
+    }
+    
     /**
      * Get column name.
      * 
@@ -120,15 +159,39 @@ public final class QueryResultMetaData {
         return columnLabelAndIndexes.get(columnLabel);
     }
     
+    /**
+     * Judge whether any column of result is encrypted.
+     * 
+     * @return any column of result is encrypted or not
+     */
+    public boolean isEncrypted() {
+        return encrypted;
+    }
+    
+    /**
+     * Judge whether column is encrypted.
+     * 
+     * @param columnIndex column index
+     * @return column is encrypted or not
+     */
+    public boolean isEncrypted(final int columnIndex) {
+        return encrypted && null != findShardingEncryptor(columnIndex);
+    }
+    
     /**
      * Get sharding encryptor.
      * 
+     * <p>Sharding encryptors are resolved once per column when meta data is created.</p>
+     * 
      * @param columnIndex column index
      * @return sharding encryptor optional
      */
-    @SneakyThrows
     public Optional<ShardingEncryptor> getShardingEncryptor(final int columnIndex) {
-        return shardingEncryptorEngine.getShardingEncryptor(getTableName(columnIndex), resultSetMetaData.getColumnName(columnIndex));
+        return encrypted ? Optional.fromNullable(findShardingEncryptor(columnIndex)) : Optional.<ShardingEncryptor>absent();
+    }
+    
+    private ShardingEncryptor findShardingEncryptor(final int columnIndex) {
+        return columnIndex < 1 || columnIndex > shardingEncryptors.length ? null : shardingEncryptors[columnIndex - 1];
     }
     
     private String getTableName(final int columnIndex) throws SQLException {
@@ -17,6 +17,12 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
+import lombok.SneakyThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -42,6 +48,20 @@ public class QueryResultUtil {
         return resultSet.wasNull() ? null : result;
     }
     
+    /**
+     * Get value with known column type.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index of value
+     * @param columnType column type of value, see {@link Types}
+     * @return {@code null} if the column is SQL {@code NULL}, otherwise the value of column
+     * @throws SQLException SQL exception
+     */
+    public static Object getValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        Object result = getValueByColumnType(resultSet, columnIndex, columnType);
+        return resultSet.wasNull() ? null : result;
+    }
+    
     /**
      * Get value by column type.
      *
@@ -52,7 +72,27 @@ public class QueryResultUtil {
      */
     public static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+        return getValueByColumnType(resultSet, columnIndex, metaData.getColumnType(columnIndex));
+    }
+    
+    /**
+     * Get input stream of value which is already loaded.
+     *
+     * @param value loaded value
+     * @return input stream of serialized value
+     */
+    @SneakyThrows
+    public static InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
             case Types.BIT:
                 return resultSet.getBytes(columnIndex);
             case Types.BOOLEAN:
@@ -43,6 +43,10 @@ public final class StreamQueryResult implements QueryResult {
     
     private final ResultSet resultSet;
     
+    private boolean resultSetRetained;
+    
+    private boolean closed;
+    
     @SneakyThrows
     public StreamQueryResult(final ResultSet resultSet, final ShardingRule shardingRule) {
         this.resultSet = resultSet;
@@ -63,6 +67,9 @@ public final class StreamQueryResult implements QueryResult {
     
     @Override
     public boolean next() throws SQLException {
+        if (closed) {
+            return false;
+        }
         return resultSet.next();
     }
     
@@ -134,11 +141,55 @@ public final class StreamQueryResult implements QueryResult {
         }
     }
     
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return isEncrypted(columnIndex) ? PrimitiveValueConverter.toLong(getValue(columnIndex, long.class)) : resultSet.getLong(columnIndex);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return isEncrypted(columnIndex) ? PrimitiveValueConverter.toInt(getValue(columnIndex, int.class)) : resultSet.getInt(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return isEncrypted(columnIndex) ? PrimitiveValueConverter.toDouble(getValue(columnIndex, double.class)) : resultSet.getDouble(columnIndex);
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return isEncrypted(columnIndex) ? PrimitiveValueConverter.toBoolean(getValue(columnIndex, boolean.class)) : resultSet.getBoolean(columnIndex);
+    }
+    
+    private boolean isEncrypted(final int columnIndex) {
+        return metaData.isEncrypted(columnIndex);
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return resultSet.wasNull();
     }
     
+    /**
+     * Retain result set when query result is closed.
+     * 
+     * <p>Retained result set is closed by its owner, because meta data are still read from it after rows merged.</p>
+     */
+    public void retainResultSet() {
+        resultSetRetained = true;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!resultSetRetained) {
+            resultSet.close();
+        }
+    }
+    
     @Override
     public int getColumnCount() {
         return metaData.getColumnCount();
@@ -149,13 +200,21 @@ public final class StreamQueryResult implements QueryResult {
         return metaData.getColumnLabel(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return metaData.getColumnType(columnIndex);
+    }
+    
     @SneakyThrows
     private Object decrypt(final String columnLabel, final Object value) {
-        return decrypt(metaData.getColumnIndex(columnLabel), value);
+        return metaData.isEncrypted() ? decrypt(metaData.getColumnIndex(columnLabel), value) : value;
     }
     
     @SneakyThrows
     private Object decrypt(final int columnIndex, final Object value) {
+        if (!metaData.isEncrypted()) {
+            return value;
+        }
         Optional<ShardingEncryptor> shardingEncryptor = metaData.getShardingEncryptor(columnIndex);
         return shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(getCiphertext(value)) : value;
     }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Column buffer of query rows.
+ *
+ * @author agent
+ */
+interface ColumnBuffer {
+    
+    /**
+     * Append value of current row.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @return estimated heap bytes retained by appended value
+     * @throws SQLException SQL exception
+     */
+    long append(ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value, {@code null} if the column is SQL {@code NULL}
+     */
+    Object get(int rowIndex);
+    
+    /**
+     * Judge whether value is SQL {@code NULL}.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value is SQL {@code NULL} or not
+     */
+    boolean isNull(int rowIndex);
+    
+    /**
+     * Get long value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return long value, {@code 0} if value is SQL {@code NULL}
+     */
+    long getLong(int rowIndex);
+    
+    /**
+     * Get double value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return double value, {@code 0} if value is SQL {@code NULL}
+     */
+    double getDouble(int rowIndex);
+    
+    /**
+     * Get boolean value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return boolean value, {@code false} if value is SQL {@code NULL}
+     */
+    boolean getBoolean(int rowIndex);
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column buffer for floating point values, stored as primitive double.
+ *
+ * @author agent
+ */
+final class DoubleColumnBuffer implements ColumnBuffer {
+    
+    private final BitSet nulls = new BitSet();
+    
+    private double[] values = new double[QueryRowBuffer.INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public long append(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        double value = resultSet.getDouble(columnIndex);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        if (resultSet.wasNull()) {
+            nulls.set(size);
+        }
+        values[size++] = value;
+        return 8L;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : values[rowIndex];
+    }
+    
+    @Override
+    public boolean isNull(final int rowIndex) {
+        return nulls.get(rowIndex);
+    }
+    
+    @Override
+    public long getLong(final int rowIndex) {
+        return (long) values[rowIndex];
+    }
+    
+    @Override
+    public double getDouble(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    public boolean getBoolean(final int rowIndex) {
+        return 0D != values[rowIndex];
+    }
+}
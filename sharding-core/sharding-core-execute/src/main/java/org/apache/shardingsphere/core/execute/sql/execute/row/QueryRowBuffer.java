@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Columnar buffer of query rows.
+ * 
+ * <p>
+ * Numeric columns are stored in primitive arrays and boxed only when read.
+ * </p>
+ *
+ * @author agent
+ */
+public final class QueryRowBuffer {
+    
+    static final int INITIAL_CAPACITY = 16;
+    
+    private static final long RESERVATION_CHUNK_BYTES = 64 * 1024L;
+    
+    private final ColumnBuffer[] columnBuffers;
+    
+    @Getter
+    private int rowCount;
+    
+    @Getter
+    private long estimatedBytes;
+    
+    public QueryRowBuffer(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        columnBuffers = new ColumnBuffer[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < columnBuffers.length; i++) {
+            columnBuffers[i] = createColumnBuffer(resultSetMetaData.getColumnType(i + 1));
+        }
+    }
+    
+    private ColumnBuffer createColumnBuffer(final int columnType) {
+        switch (columnType) {
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongColumnBuffer(columnType);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnBuffer();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringColumnBuffer();
+            default:
+                return new ObjectColumnBuffer(columnType);
+        }
+    }
+    
+    /**
+     * Load all remaining rows of result set.
+     *
+     * @param resultSet result set
+     * @throws SQLException SQL exception
+     */
+    public void load(final ResultSet resultSet) throws SQLException {
+        while (resultSet.next()) {
+            appendRow(resultSet);
+        }
+    }
+    
+    /**
+     * Load rows of result set until all rows loaded or memory account refuses more bytes.
+     * 
+     * <p>
+     * Bytes are reserved in chunks, so buffer may exceed limit for less than one chunk.
+     * </p>
+     *
+     * @param resultSet result set
+     * @param memoryAccount memory account of query
+     * @return all rows loaded or not
+     * @throws SQLException SQL exception
+     */
+    public boolean load(final ResultSet resultSet, final QueryMemoryAccount memoryAccount) throws SQLException {
+        long reservedBytes = estimatedBytes;
+        while (resultSet.next()) {
+            appendRow(resultSet);
+            if (estimatedBytes - reservedBytes >= RESERVATION_CHUNK_BYTES) {
+                boolean reserved = memoryAccount.reserve(estimatedBytes - reservedBytes);
+                reservedBytes = estimatedBytes;
+                if (!reserved) {
+                    return false;
+                }
+            }
+        }
+        memoryAccount.reserve(estimatedBytes - reservedBytes);
+        return true;
+    }
+    
+    private void appendRow(final ResultSet resultSet) throws SQLException {
+        for (int i = 0; i < columnBuffers.length; i++) {
+            estimatedBytes += columnBuffers[i].append(resultSet, i + 1);
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnBuffers.length;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value, {@code null} if the column is SQL {@code NULL}
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        return columnBuffers[columnIndex - 1].get(rowIndex);
+    }
+    
+    /**
+     * Judge whether value is SQL {@code NULL}.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value is SQL {@code NULL} or not
+     */
+    public boolean isNull(final int rowIndex, final int columnIndex) {
+        return columnBuffers[columnIndex - 1].isNull(rowIndex);
+    }
+    
+    /**
+     * Get long value without boxing.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return long value, {@code 0} if the column is SQL {@code NULL}
+     */
+    public long getLong(final int rowIndex, final int columnIndex) {
+        return columnBuffers[columnIndex - 1].getLong(rowIndex);
+    }
+    
+    /**
+     * Get double value without boxing.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return double value, {@code 0} if the column is SQL {@code NULL}
+     */
+    public double getDouble(final int rowIndex, final int columnIndex) {
+        return columnBuffers[columnIndex - 1].getDouble(rowIndex);
+    }
+    
+    /**
+     * Get boolean value without boxing.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return boolean value, {@code false} if the column is SQL {@code NULL}
+     */
+    public boolean getBoolean(final int rowIndex, final int columnIndex) {
+        return columnBuffers[columnIndex - 1].getBoolean(rowIndex);
+    }
+}
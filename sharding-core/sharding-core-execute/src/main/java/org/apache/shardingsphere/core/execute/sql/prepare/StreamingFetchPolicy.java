@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.prepare;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Policy to make JDBC driver stream result set rows of statement instead of reading all rows into memory.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public enum StreamingFetchPolicy {
+    
+    /**
+     * MySQL streams rows one by one only if fetch size is {@code Integer.MIN_VALUE} for forward only and read only result set.
+     */
+    MYSQL("MySQL") {
+        
+        @Override
+        public void apply(final Statement statement, final int fetchSize) throws SQLException {
+            if (ResultSet.TYPE_FORWARD_ONLY == statement.getResultSetType() && ResultSet.CONCUR_READ_ONLY == statement.getResultSetConcurrency()) {
+                statement.setFetchSize(Integer.MIN_VALUE);
+            } else if (fetchSize > 0) {
+                statement.setFetchSize(fetchSize);
+            }
+        }
+    },
+    
+    /**
+     * PostgreSQL fetches rows by cursor with fetch size, cursor is used by driver only if auto commit of connection is off.
+     */
+    POSTGRESQL("PostgreSQL") {
+        
+        @Override
+        public void apply(final Statement statement, final int fetchSize) throws SQLException {
+            if (fetchSize > 0) {
+                statement.setFetchSize(fetchSize);
+            }
+        }
+    },
+    
+    /**
+     * Other databases fetch rows with fetch size as hint.
+     */
+    DEFAULT("") {
+        
+        @Override
+        public void apply(final Statement statement, final int fetchSize) throws SQLException {
+            if (fetchSize > 0) {
+                statement.setFetchSize(fetchSize);
+            }
+        }
+    };
+    
+    private final String databaseName;
+    
+    /**
+     * Apply streaming fetch to statement.
+     *
+     * @param statement statement
+     * @param fetchSize rows fetched for each round trip, 0 means driver default
+     * @throws SQLException SQL exception
+     */
+    public abstract void apply(Statement statement, int fetchSize) throws SQLException;
+    
+    /**
+     * Get streaming fetch policy of database type.
+     *
+     * @param databaseType database type
+     * @return streaming fetch policy
+     */
+    public static StreamingFetchPolicy valueFrom(final DatabaseType databaseType) {
+        for (StreamingFetchPolicy each : values()) {
+            if (each.databaseName.equals(databaseType.getName())) {
+                return each;
+            }
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.memory;
+
+import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class QueryMemoryAccountTest {
+    
+    @After
+    public void tearDown() {
+        ShardingExecuteDataMap.getDataMap().remove(QueryMemoryAccount.DATA_MAP_KEY);
+    }
+    
+    @Test
+    public void assertReserveWithinLimit() {
+        long globalUsedBytes = MemoryAccountant.getInstance().getUsedBytes();
+        QueryMemoryAccount actual = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 100L, MemoryLimitExceededBehavior.FAIL);
+        assertTrue(actual.reserve(60L));
+        assertThat(actual.getUsedBytes(), is(60L));
+        assertThat(MemoryAccountant.getInstance().getUsedBytes(), is(globalUsedBytes + 60L));
+        actual.release(20L);
+        assertThat(actual.getUsedBytes(), is(40L));
+        actual.close();
+        assertThat(actual.getUsedBytes(), is(0L));
+        assertThat(MemoryAccountant.getInstance().getUsedBytes(), is(globalUsedBytes));
+    }
+    
+    @Test
+    public void assertReserveExceedQueryLimitWithStream() {
+        QueryMemoryAccount actual = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 100L, MemoryLimitExceededBehavior.STREAM);
+        assertTrue(actual.reserve(100L));
+        assertFalse(actual.reserve(1L));
+        assertThat(actual.getUsedBytes(), is(101L));
+        actual.close();
+    }
+    
+    @Test(expected = MemoryLimitExceededException.class)
+    public void assertReserveExceedQueryLimitWithFail() {
+        QueryMemoryAccount actual = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 100L, MemoryLimitExceededBehavior.FAIL);
+        try {
+            actual.reserve(101L);
+        } finally {
+            actual.close();
+        }
+    }
+    
+    @Test
+    public void assertReserveAfterClosed() {
+        QueryMemoryAccount actual = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 1L, MemoryLimitExceededBehavior.FAIL);
+        actual.close();
+        assertTrue(actual.reserve(100L));
+        assertThat(actual.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertBind() {
+        QueryMemoryAccount account = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 0L, MemoryLimitExceededBehavior.FAIL);
+        assertFalse(QueryMemoryAccount.getCurrent().isPresent());
+        QueryMemoryAccount.bind(Collections.<String, Object>singletonMap(QueryMemoryAccount.DATA_MAP_KEY, account));
+        assertThat(QueryMemoryAccount.getCurrent().get(), is(account));
+        QueryMemoryAccount.bind(Collections.<String, Object>emptyMap());
+        assertFalse(QueryMemoryAccount.getCurrent().isPresent());
+        account.close();
+    }
+    
+    @Test
+    public void assertUnbind() {
+        QueryMemoryAccount account = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 0L, MemoryLimitExceededBehavior.FAIL);
+        account.bind();
+        assertThat(QueryMemoryAccount.getCurrent().get(), is(account));
+        QueryMemoryAccount.unbind();
+        assertFalse(QueryMemoryAccount.getCurrent().isPresent());
+        account.close();
+    }
+    
+    @Test
+    public void assertCloseUnbind() {
+        QueryMemoryAccount account = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 0L, MemoryLimitExceededBehavior.FAIL);
+        account.bind();
+        account.close();
+        assertFalse(ShardingExecuteDataMap.getDataMap().containsKey(QueryMemoryAccount.DATA_MAP_KEY));
+    }
+    
+    @Test
+    public void assertGetCurrentWithClosedAccount() {
+        QueryMemoryAccount account = MemoryAccountant.getInstance().newQueryMemoryAccount(0L, 0L, MemoryLimitExceededBehavior.FAIL);
+        account.close();
+        QueryMemoryAccount.bind(Collections.<String, Object>singletonMap(QueryMemoryAccount.DATA_MAP_KEY, account));
+        assertFalse(QueryMemoryAccount.getCurrent().isPresent());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.ColumnDefinitionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnAfterPositionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnFirstPositionSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.ddl.AlterTableStatement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AlteredTableMetaDataBuilderTest {
+    
+    private final TableMetaData tableMetaData = new TableMetaData(Arrays.asList(
+            new ColumnMetaData("order_id", "INT", true), new ColumnMetaData("user_id", "INT", false), new ColumnMetaData("status", "VARCHAR", false)), Collections.singleton("status_idx"));
+    
+    @Test
+    public void assertBuildWithAddedColumn() {
+        AlterTableStatement alterTableStatement = new AlterTableStatement();
+        alterTableStatement.getAddedColumnDefinitions().add(new ColumnDefinitionSegment("remark", "varchar", false));
+        TableMetaData actual = AlteredTableMetaDataBuilder.build(tableMetaData, alterTableStatement);
+        assertThat(new ArrayList<>(actual.getColumns().keySet()), is(Arrays.asList("order_id", "user_id", "status", "remark")));
+        assertThat(actual.getColumns().get("remark"), is(new ColumnMetaData("remark", "VARCHAR", false)));
+        assertThat(actual.getLogicIndexes(), is(tableMetaData.getLogicIndexes()));
+    }
+    
+    @Test
+    public void assertBuildWithModifiedColumn() {
+        AlterTableStatement alterTableStatement = new AlterTableStatement();
+        alterTableStatement.getModifiedColumnDefinitions().put("user_id", new ColumnDefinitionSegment("uid", "bigint", false));
+        alterTableStatement.getModifiedColumnDefinitions().put("status", new ColumnDefinitionSegment("status", null, false));
+        TableMetaData actual = AlteredTableMetaDataBuilder.build(tableMetaData, alterTableStatement);
+        assertThat(new ArrayList<>(actual.getColumns().keySet()), is(Arrays.asList("order_id", "uid", "status")));
+        assertThat(actual.getColumns().get("uid"), is(new ColumnMetaData("uid", "BIGINT", false)));
+        assertThat(actual.getColumns().get("status"), is(new ColumnMetaData("status", "VARCHAR", false)));
+    }
+    
+    @Test
+    public void assertBuildWithDroppedColumn() {
+        AlterTableStatement alterTableStatement = new AlterTableStatement();
+        alterTableStatement.getDroppedColumnNames().add("USER_ID");
+        alterTableStatement.getDroppedColumnNames().add("not_existed");
+        TableMetaData actual = AlteredTableMetaDataBuilder.build(tableMetaData, alterTableStatement);
+        assertThat(new ArrayList<>(actual.getColumns().keySet()), is(Arrays.asList("order_id", "status")));
+    }
+    
+    @Test
+    public void assertBuildWithChangedPositionColumns() {
+        AlterTableStatement alterTableStatement = new AlterTableStatement();
+        alterTableStatement.getAddedColumnDefinitions().add(new ColumnDefinitionSegment("remark", "varchar", false));
+        alterTableStatement.getChangedPositionColumns().add(new ColumnAfterPositionSegment(10, 20, "remark", "`order_id`"));
+        alterTableStatement.getChangedPositionColumns().add(new ColumnFirstPositionSegment(30, 40, "status"));
+        TableMetaData actual = AlteredTableMetaDataBuilder.build(tableMetaData, alterTableStatement);
+        assertThat(new ArrayList<>(actual.getColumns().keySet()), is(Arrays.asList("status", "order_id", "remark", "user_id")));
+    }
+    
+    @Test
+    public void assertBuildWithDroppedPrimaryKey() {
+        AlterTableStatement alterTableStatement = new AlterTableStatement();
+        alterTableStatement.setDropPrimaryKey(true);
+        alterTableStatement.getModifiedColumnDefinitions().put("user_id", new ColumnDefinitionSegment("user_id", "INT", true));
+        TableMetaData actual = AlteredTableMetaDataBuilder.build(tableMetaData, alterTableStatement);
+        assertThat(actual.getColumns().get("order_id").isPrimaryKey(), is(false));
+        assertThat(actual.getColumns().get("user_id").isPrimaryKey(), is(true));
+    }
+}
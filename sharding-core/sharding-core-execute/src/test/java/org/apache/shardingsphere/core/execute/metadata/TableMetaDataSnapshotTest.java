@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataSnapshotTest {
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertLoadWhenSnapshotAbsent() {
+        assertFalse(new TableMetaDataSnapshot(new File(temporaryFolder.getRoot(), "absent")).load().isPresent());
+    }
+    
+    @Test
+    public void assertSaveAndLoad() {
+        Map<String, TableMetaData> tables = new HashMap<>();
+        tables.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "BIGINT", true), new ColumnMetaData("status", "VARCHAR", false)), 
+                Collections.singleton("status_idx")));
+        tables.put("t_config", new TableMetaData(Collections.singletonList(new ColumnMetaData("id", "INT", false)), Collections.<String>emptySet()));
+        File file = new File(temporaryFolder.getRoot(), "snapshot/metadata");
+        new TableMetaDataSnapshot(file).save(tables);
+        assertTrue(file.isFile());
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+        Optional<Map<String, TableMetaData>> actual = new TableMetaDataSnapshot(file).load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(tables));
+    }
+    
+    @Test
+    public void assertSaveAndLoadWithNullDataType() {
+        Map<String, TableMetaData> tables = Collections.singletonMap("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", null, true)), 
+                Collections.<String>emptySet()));
+        File file = new File(temporaryFolder.getRoot(), "metadata");
+        new TableMetaDataSnapshot(file).save(tables);
+        Optional<Map<String, TableMetaData>> actual = new TableMetaDataSnapshot(file).load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(tables));
+    }
+    
+    @Test
+    public void assertSaveWhenWriteFailed() throws IOException {
+        File file = new File(temporaryFolder.newFile("parent"), "metadata");
+        new TableMetaDataSnapshot(file).save(Collections.<String, TableMetaData>emptyMap());
+        assertFalse(file.exists());
+    }
+    
+    @Test
+    public void assertLoadWhenSnapshotCorrupted() throws IOException {
+        File file = temporaryFolder.newFile("corrupted");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(new byte[]{1, 2, 3});
+        }
+        assertFalse(new TableMetaDataSnapshot(file).load().isPresent());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata.bulk;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class BulkTableMetaDataLoaderFactoryTest {
+    
+    @Test
+    public void assertNewInstanceForMySQL() {
+        assertThat(BulkTableMetaDataLoaderFactory.newInstance("MySQL").get(), instanceOf(MySQLBulkTableMetaDataLoader.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForPostgreSQL() {
+        assertThat(BulkTableMetaDataLoaderFactory.newInstance("PostgreSQL").get(), instanceOf(PostgreSQLBulkTableMetaDataLoader.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForUnsupportedDatabase() {
+        assertFalse(BulkTableMetaDataLoaderFactory.newInstance("H2").isPresent());
+    }
+}
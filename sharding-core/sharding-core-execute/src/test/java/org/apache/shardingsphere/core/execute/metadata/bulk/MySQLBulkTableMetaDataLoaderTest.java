@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata.bulk;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLBulkTableMetaDataLoaderTest {
+    
+    private final MySQLBulkTableMetaDataLoader bulkTableMetaDataLoader = new MySQLBulkTableMetaDataLoader();
+    
+    @Test
+    public void assertLoadColumnMetaData() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("t_order_0", "t_order_0", "t_user");
+        when(resultSet.getString("COLUMN_NAME")).thenReturn("order_id", "status", "user_id");
+        when(resultSet.getString("DATA_TYPE")).thenReturn("bigint", "varchar", "int");
+        when(resultSet.getString("COLUMN_TYPE")).thenReturn("bigint(20)", "varchar(45)", "int(10) unsigned");
+        when(resultSet.getString("COLUMN_KEY")).thenReturn("PRI", "", "PRI");
+        Map<String, List<ColumnMetaData>> actual = bulkTableMetaDataLoader.loadColumnMetaData(connection, "ds_0");
+        verify(preparedStatement).setString(1, "ds_0");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order_0"), is(Arrays.asList(new ColumnMetaData("order_id", "BIGINT", true), new ColumnMetaData("status", "VARCHAR", false))));
+        assertThat(actual.get("t_user"), is(Collections.singletonList(new ColumnMetaData("user_id", "INT UNSIGNED", true))));
+    }
+    
+    @Test
+    public void assertLoadIndexNamesWithoutCatalog() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.getCatalog()).thenReturn("ds_1");
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("t_order_0", "t_order_0");
+        when(resultSet.getString("INDEX_NAME")).thenReturn("PRIMARY", "status_idx_t_order_0");
+        Map<String, Collection<String>> actual = bulkTableMetaDataLoader.loadIndexNames(connection, null);
+        verify(preparedStatement).setString(1, "ds_1");
+        assertThat(actual.get("t_order_0"), is((Collection<String>) Arrays.asList("PRIMARY", "status_idx_t_order_0")));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PrefetchQueryResultTest {
+    
+    private final ExecutorService prefetchExecutorService = Executors.newCachedThreadPool();
+    
+    @After
+    public void tearDown() {
+        prefetchExecutorService.shutdown();
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1L, 2L);
+        when(queryResult.getValue(2, Object.class)).thenReturn("order_1", null);
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 1, prefetchExecutorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1L));
+        assertThat(actual.getValue("NAME", Object.class), is((Object) "order_1"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue("id", Object.class), is((Object) 2L));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithPrefetchFailure() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenThrow(new SQLException("test"));
+        new PrefetchQueryResult(queryResult, 0, prefetchExecutorService).next();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1L);
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 2, prefetchExecutorService);
+        assertTrue(actual.next());
+        actual.close();
+        verify(queryResult).close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseWithoutReadingStopsPrefetchBeforeClosingQueryResult() throws SQLException {
+        final AtomicBoolean queryResultClosed = new AtomicBoolean();
+        final AtomicBoolean readAfterClosed = new AtomicBoolean();
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                if (queryResultClosed.get()) {
+                    readAfterClosed.set(true);
+                }
+                return true;
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                queryResultClosed.set(true);
+                return null;
+            }
+        }).when(queryResult).close();
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 1, prefetchExecutorService);
+        actual.close();
+        assertTrue(queryResultClosed.get());
+        assertFalse(readAfterClosed.get());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutIdlePrefetchThread() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1L);
+        when(queryResult.getValue(2, Object.class)).thenReturn("order_1");
+        ExecutorService busyExecutorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).when(busyExecutorService).execute(any(Runnable.class));
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 1, busyExecutorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1L));
+        assertThat(actual.getValue("name", Object.class), is((Object) "order_1"));
+        assertFalse(actual.next());
+        actual.close();
+        verify(queryResult).close();
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2019, Calendar.JUNE, 1, 10, 20, 30);
+        Timestamp value = new Timestamp(calendar.getTimeInMillis());
+        value.setNanos(123456789);
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(value);
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 1, prefetchExecutorService);
+        assertTrue(actual.next());
+        Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        utcCalendar.clear();
+        utcCalendar.set(2019, Calendar.JUNE, 1, 10, 20, 30);
+        Timestamp expected = new Timestamp(utcCalendar.getTimeInMillis());
+        expected.setNanos(123456789);
+        assertThat(actual.getCalendarValue("id", Timestamp.class, Calendar.getInstance(TimeZone.getTimeZone("UTC"))), is((Object) expected));
+    }
+    
+    @Test
+    public void assertGetInputStream() throws SQLException {
+        QueryResult queryResult = mockQueryResult();
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(new byte[] {1, 2});
+        when(queryResult.getValue(2, Object.class)).thenReturn("ab");
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 1, prefetchExecutorService);
+        assertTrue(actual.next());
+        assertInputStream(actual.getInputStream(1, "Binary"), 1, 2);
+        assertInputStream(actual.getInputStream("name", "Ascii"), 'a', 'b');
+    }
+    
+    private void assertInputStream(final InputStream actual, final int... expected) {
+        ByteArrayInputStream inputStream = (ByteArrayInputStream) actual;
+        for (int each : expected) {
+            assertThat(inputStream.read(), is(each));
+        }
+        assertThat(inputStream.read(), is(-1));
+    }
+    
+    private QueryResult mockQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(2);
+        when(result.getColumnLabel(1)).thenReturn("id");
+        when(result.getColumnLabel(2)).thenReturn("name");
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PrimitiveValueConverterTest {
+    
+    @Test
+    public void assertToLong() {
+        assertThat(PrimitiveValueConverter.toLong(null), is(0L));
+        assertThat(PrimitiveValueConverter.toLong(1), is(1L));
+        assertThat(PrimitiveValueConverter.toLong(new BigDecimal("10.5")), is(10L));
+        assertThat(PrimitiveValueConverter.toLong("20"), is(20L));
+    }
+    
+    @Test
+    public void assertToInt() {
+        assertThat(PrimitiveValueConverter.toInt(null), is(0));
+        assertThat(PrimitiveValueConverter.toInt(30L), is(30));
+        assertThat(PrimitiveValueConverter.toInt("40"), is(40));
+    }
+    
+    @Test
+    public void assertToDouble() {
+        assertThat(PrimitiveValueConverter.toDouble(null), is(0D));
+        assertThat(PrimitiveValueConverter.toDouble(new BigDecimal("1.5")), is(1.5D));
+        assertThat(PrimitiveValueConverter.toDouble("2.5"), is(2.5D));
+    }
+    
+    @Test
+    public void assertToBoolean() {
+        assertFalse(PrimitiveValueConverter.toBoolean(null));
+        assertTrue(PrimitiveValueConverter.toBoolean(true));
+        assertTrue(PrimitiveValueConverter.toBoolean(1));
+        assertFalse(PrimitiveValueConverter.toBoolean(0L));
+        assertTrue(PrimitiveValueConverter.toBoolean(new byte[] {1}));
+        assertTrue(PrimitiveValueConverter.toBoolean("1"));
+        assertTrue(PrimitiveValueConverter.toBoolean("true"));
+        assertFalse(PrimitiveValueConverter.toBoolean("0"));
+    }
+}
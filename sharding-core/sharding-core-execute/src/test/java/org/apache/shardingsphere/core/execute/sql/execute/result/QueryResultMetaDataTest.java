@@ -32,7 +32,9 @@ import java.sql.SQLException;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -99,4 +101,18 @@ public class QueryResultMetaDataTest {
     public void assertGetShardingEncryptor() {
         assertThat(queryResultMetaData.getShardingEncryptor(1).get(), is(shardingEncryptor));
     }
+    
+    @Test
+    public void assertIsEncrypted() {
+        assertTrue(queryResultMetaData.isEncrypted());
+        assertTrue(queryResultMetaData.isEncrypted(1));
+        assertFalse(queryResultMetaData.isEncrypted(2));
+    }
+    
+    @Test
+    public void assertGetShardingEncryptorWithoutEncryptRule() throws SQLException {
+        QueryResultMetaData actual = new QueryResultMetaData(getResultMetaData());
+        assertFalse(actual.isEncrypted());
+        assertFalse(actual.getShardingEncryptor(1).isPresent());
+    }
 }
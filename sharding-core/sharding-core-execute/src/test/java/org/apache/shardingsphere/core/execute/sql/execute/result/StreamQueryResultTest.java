@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class StreamQueryResultTest {
+    
+    private ResultSet resultSet;
+    
+    @Before
+    public void setUp() throws SQLException {
+        resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("label");
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet.next()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertCloseResultSet() throws SQLException {
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        queryResult.close();
+        verify(resultSet).close();
+        assertFalse(queryResult.next());
+        verify(resultSet, times(1)).next();
+    }
+    
+    @Test
+    public void assertCloseTwice() throws SQLException {
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        queryResult.close();
+        queryResult.close();
+        verify(resultSet, times(1)).close();
+    }
+    
+    @Test
+    public void assertCloseWithRetainedResultSet() throws SQLException {
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        queryResult.retainResultSet();
+        queryResult.close();
+        verify(resultSet, never()).close();
+        assertFalse(queryResult.next());
+    }
+}
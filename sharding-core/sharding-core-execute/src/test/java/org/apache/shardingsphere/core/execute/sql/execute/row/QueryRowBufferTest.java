@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.row;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class QueryRowBufferTest {
+    
+    private ResultSet resultSet;
+    
+    private QueryRowBuffer queryRowBuffer;
+    
+    @Before
+    public void setUp() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(5);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.DOUBLE);
+        when(resultSetMetaData.getColumnType(4)).thenReturn(Types.VARCHAR);
+        when(resultSetMetaData.getColumnType(5)).thenReturn(Types.DECIMAL);
+        resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        queryRowBuffer = new QueryRowBuffer(resultSetMetaData);
+    }
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 0);
+        when(resultSet.getLong(2)).thenReturn(10L, 20L);
+        when(resultSet.getDouble(3)).thenReturn(1.5D, 2.5D);
+        when(resultSet.getString(4)).thenReturn(new String("foo"), new String("foo"));
+        when(resultSet.getBigDecimal(5)).thenReturn(new BigDecimal("1.1"), new BigDecimal("2.2"));
+        when(resultSet.wasNull()).thenReturn(false, false, false, false, false, true, false, false, false, false);
+        queryRowBuffer.load(resultSet);
+        assertThat(queryRowBuffer.getRowCount(), is(2));
+        assertThat(queryRowBuffer.getColumnCount(), is(5));
+        assertThat(queryRowBuffer.getValue(0, 1), is((Object) 1));
+        assertThat(queryRowBuffer.getValue(0, 2), is((Object) 10L));
+        assertThat(queryRowBuffer.getValue(0, 3), is((Object) 1.5D));
+        assertThat(queryRowBuffer.getValue(0, 4), is((Object) "foo"));
+        assertThat(queryRowBuffer.getValue(0, 5), is((Object) new BigDecimal("1.1")));
+        assertNull(queryRowBuffer.getValue(1, 1));
+        assertThat(queryRowBuffer.getValue(1, 2), is((Object) 20L));
+        assertThat(queryRowBuffer.getValue(1, 3), is((Object) 2.5D));
+        assertSame(queryRowBuffer.getValue(0, 4), queryRowBuffer.getValue(1, 4));
+        assertThat(queryRowBuffer.getValue(1, 5), is((Object) new BigDecimal("2.2")));
+    }
+    
+    @Test
+    public void assertGetPrimitiveValues() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 0);
+        when(resultSet.getLong(2)).thenReturn(10L, 20L);
+        when(resultSet.getDouble(3)).thenReturn(1.5D, 2.5D);
+        when(resultSet.getString(4)).thenReturn("30", "40");
+        when(resultSet.getBigDecimal(5)).thenReturn(new BigDecimal("1.1"), new BigDecimal("2.2"));
+        when(resultSet.wasNull()).thenReturn(false, false, false, false, false, true, false, false, false, false);
+        queryRowBuffer.load(resultSet);
+        assertThat(queryRowBuffer.getLong(0, 1), is(1L));
+        assertTrue(queryRowBuffer.getBoolean(0, 1));
+        assertFalse(queryRowBuffer.isNull(0, 1));
+        assertThat(queryRowBuffer.getLong(1, 1), is(0L));
+        assertTrue(queryRowBuffer.isNull(1, 1));
+        assertThat(queryRowBuffer.getDouble(1, 2), is(20D));
+        assertThat(queryRowBuffer.getLong(0, 3), is(1L));
+        assertThat(queryRowBuffer.getDouble(0, 3), is(1.5D));
+        assertThat(queryRowBuffer.getLong(1, 4), is(40L));
+        assertThat(queryRowBuffer.getDouble(1, 5), is(2.2D));
+    }
+    
+    @Test
+    public void assertLoadMoreRowsThanInitialCapacity() throws SQLException {
+        int rowCount = QueryRowBuffer.INITIAL_CAPACITY * 3;
+        Boolean[] nextResults = new Boolean[rowCount];
+        for (int i = 0; i < rowCount - 1; i++) {
+            nextResults[i] = true;
+        }
+        nextResults[rowCount - 1] = false;
+        when(resultSet.next()).thenReturn(true, nextResults);
+        when(resultSet.getLong(2)).thenReturn(100L);
+        queryRowBuffer.load(resultSet);
+        assertThat(queryRowBuffer.getRowCount(), is(rowCount));
+        assertThat(queryRowBuffer.getValue(rowCount - 1, 2), is((Object) 100L));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.prepare;
+
+import org.apache.shardingsphere.core.spi.database.H2DatabaseType;
+import org.apache.shardingsphere.core.spi.database.MySQLDatabaseType;
+import org.apache.shardingsphere.core.spi.database.OracleDatabaseType;
+import org.apache.shardingsphere.core.spi.database.PostgreSQLDatabaseType;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class StreamingFetchPolicyTest {
+    
+    @Test
+    public void assertValueFrom() {
+        assertThat(StreamingFetchPolicy.valueFrom(new MySQLDatabaseType()), is(StreamingFetchPolicy.MYSQL));
+        assertThat(StreamingFetchPolicy.valueFrom(new PostgreSQLDatabaseType()), is(StreamingFetchPolicy.POSTGRESQL));
+        assertThat(StreamingFetchPolicy.valueFrom(new H2DatabaseType()), is(StreamingFetchPolicy.DEFAULT));
+        assertThat(StreamingFetchPolicy.valueFrom(new OracleDatabaseType()), is(StreamingFetchPolicy.DEFAULT));
+    }
+    
+    @Test
+    public void assertApplyForMySQLForwardOnly() throws SQLException {
+        Statement statement = mockStatement(ResultSet.TYPE_FORWARD_ONLY);
+        StreamingFetchPolicy.MYSQL.apply(statement, 100);
+        verify(statement).setFetchSize(Integer.MIN_VALUE);
+    }
+    
+    @Test
+    public void assertApplyForMySQLScrollable() throws SQLException {
+        Statement statement = mockStatement(ResultSet.TYPE_SCROLL_INSENSITIVE);
+        StreamingFetchPolicy.MYSQL.apply(statement, 100);
+        verify(statement).setFetchSize(100);
+    }
+    
+    @Test
+    public void assertApplyForPostgreSQL() throws SQLException {
+        Statement statement = mock(Statement.class);
+        StreamingFetchPolicy.POSTGRESQL.apply(statement, 100);
+        verify(statement).setFetchSize(100);
+    }
+    
+    @Test
+    public void assertApplyWithoutFetchSize() throws SQLException {
+        Statement statement = mock(Statement.class);
+        StreamingFetchPolicy.DEFAULT.apply(statement, 0);
+        verify(statement, never()).setFetchSize(anyInt());
+    }
+    
+    private Statement mockStatement(final int resultSetType) throws SQLException {
+        Statement result = mock(Statement.class);
+        when(result.getResultSetType()).thenReturn(resultSetType);
+        when(result.getResultSetConcurrency()).thenReturn(ResultSet.CONCUR_READ_ONLY);
+        return result;
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.core.merge;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
@@ -46,16 +48,35 @@ public final class MergeEngineFactory {
      *
      * @param databaseType database type
      * @param shardingRule sharding rule
+     * @param shardingProperties sharding properties
      * @param routeResult SQL route result
      * @param shardingTableMetaData sharding table meta Data
      * @param queryResults query results
      * @return merge engine instance
      * @throws SQLException SQL exception
      */
-    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
                                           final SQLRouteResult routeResult, final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults) throws SQLException {
+        return newInstance(databaseType, shardingRule, shardingProperties, routeResult, shardingTableMetaData, queryResults, null);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param databaseType database type
+     * @param shardingRule sharding rule
+     * @param shardingProperties sharding properties
+     * @param routeResult SQL route result
+     * @param shardingTableMetaData sharding table meta Data
+     * @param queryResults query results
+     * @param executeEngine execute engine whose worker threads run parallel merge, merge is serial if absent
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final ShardingProperties shardingProperties, final SQLRouteResult routeResult, 
+                                          final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults, final ShardingExecuteEngine executeEngine) throws SQLException {
         if (routeResult.getSqlStatement() instanceof SelectStatement) {
-            return new DQLMergeEngine(databaseType, routeResult, queryResults);
+            return new DQLMergeEngine(databaseType, shardingRule, routeResult, queryResults, shardingProperties, executeEngine);
         } 
         if (routeResult.getSqlStatement() instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) routeResult.getSqlStatement(), shardingTableMetaData);
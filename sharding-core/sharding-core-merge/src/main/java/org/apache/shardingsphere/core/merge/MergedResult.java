@@ -98,6 +98,42 @@ public interface MergedResult {
      */
     InputStream getInputStream(String columnLabel, String type) throws SQLException;
     
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, {@code 0} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    long getLong(int columnIndex) throws SQLException;
+    
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, {@code 0} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    int getInt(int columnIndex) throws SQLException;
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, {@code 0} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    double getDouble(int columnIndex) throws SQLException;
+    
+    /**
+     * Get boolean value.
+     *
+     * @param columnIndex column index
+     * @return boolean value, {@code false} if value is SQL {@code NULL}
+     * @throws SQLException SQL Exception
+     */
+    boolean getBoolean(int columnIndex) throws SQLException;
+    
     /**
      * Judge ResultSet is null or not.
      * 
@@ -105,4 +141,15 @@ public interface MergedResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held by it.
+     * 
+     * <p>
+     * Merged result may be closed before all data are iterated.
+     * </p>
+     *
+     * @throws SQLException SQL Exception
+     */
+    void close() throws SQLException;
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.merge.dal.show;
 
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrimitiveValueConverter;
 import org.apache.shardingsphere.core.merge.MergedResult;
 
 import java.io.InputStream;
@@ -56,9 +57,33 @@ public abstract class LocalMergedResultAdapter implements MergedResult {
         throw new SQLFeatureNotSupportedException();
     }
     
+    @Override
+    public final long getLong(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toLong(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public final int getInt(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toInt(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toDouble(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public final boolean getBoolean(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toBoolean(getValue(columnIndex, boolean.class));
+    }
+    
     @Override
     public final boolean wasNull() {
         return false;
     }
     
+    @Override
+    public final void close() {
+    }
+    
 }
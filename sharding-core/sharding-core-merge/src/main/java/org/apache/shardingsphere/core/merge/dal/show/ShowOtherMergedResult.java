@@ -71,8 +71,33 @@ public final class ShowOtherMergedResult implements MergedResult {
         throw new SQLFeatureNotSupportedException();
     }
     
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return queryResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return queryResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return queryResult.getDouble(columnIndex);
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return queryResult.getBoolean(columnIndex);
+    }
+    
     @Override
     public boolean wasNull() {
         return false;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        queryResult.close();
+    }
 }
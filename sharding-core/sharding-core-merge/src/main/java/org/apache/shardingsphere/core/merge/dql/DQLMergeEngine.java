@@ -17,15 +17,21 @@
 
 package org.apache.shardingsphere.core.merge.dql;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Lists;
+import com.google.common.base.Optional;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
-import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResult;
-import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryMetaData;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.AggregationDistinctQueryResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctMemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.SortedDistinctDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
@@ -34,16 +40,30 @@ import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedR
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.optimize.pagination.Pagination;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DQL result set merge engine.
@@ -55,45 +75,82 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final DatabaseType databaseType;
     
+    private final ShardingRule shardingRule;
+    
     private final SQLRouteResult routeResult;
     
     private final SelectStatement selectStatement;
     
     private final List<QueryResult> queryResults;
     
+    private final ShardingProperties shardingProperties;
+    
+    private final ShardingExecuteEngine executeEngine;
+    
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, routeResult, queryResults, new ShardingProperties(new Properties()));
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
+        this(databaseType, null, routeResult, queryResults, shardingProperties);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final ShardingRule shardingRule, 
+                          final SQLRouteResult routeResult, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
+        this(databaseType, shardingRule, routeResult, queryResults, shardingProperties, null);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLRouteResult routeResult, 
+                          final List<QueryResult> queryResults, final ShardingProperties shardingProperties, final ShardingExecuteEngine executeEngine) throws SQLException {
         this.databaseType = databaseType;
+        this.shardingRule = shardingRule;
         this.routeResult = routeResult;
         this.selectStatement = (SelectStatement) routeResult.getSqlStatement();
+        this.shardingProperties = shardingProperties;
+        this.executeEngine = executeEngine;
+        columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
         this.queryResults = getRealQueryResults(queryResults);
-        columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
-    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) {
-        List<QueryResult> result = queryResults;
-        if (1 == result.size()) {
-            return result;
+    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) throws SQLException {
+        if (1 == queryResults.size() || selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
+            return queryResults;
         }
-        if (!selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
-            result = getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, selectStatement.getAggregationDistinctSelectItems()));
+        selectStatement.setIndexForItems(columnLabelIndexMap);
+        AggregationDistinctQueryMetaData metaData = new AggregationDistinctQueryMetaData(selectStatement.getAggregationDistinctSelectItems(), getColumnLabelAndIndexMap(queryResults.get(0)));
+        List<Integer> distinctColumnIndexes = getAggregationDistinctColumnIndexes();
+        Set<List<Object>> distinctValues = Collections.newSetFromMap(new ConcurrentHashMap<List<Object>, Boolean>());
+        List<QueryResult> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            result.add(new AggregationDistinctQueryResult(each, metaData, columnLabelIndexMap, distinctColumnIndexes, distinctValues));
         }
-        if (isNeedProcessDistinctSelectItem()) {
-            result = getDividedQueryResults(new DistinctQueryResult(queryResults, new ArrayList<>(selectStatement.getDistinctSelectItem().get().getDistinctColumnLabels())));
+        return result;
+    }
+    
+    private Multimap<String, Integer> getColumnLabelAndIndexMap(final QueryResult queryResult) throws SQLException {
+        Multimap<String, Integer> result = HashMultimap.create();
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.put(queryResult.getColumnLabel(columnIndex), columnIndex);
         }
-        return result.isEmpty() ? queryResults : result;
+        return result;
     }
     
-    private List<QueryResult> getDividedQueryResults(final DistinctQueryResult distinctQueryResult) {
-        return Lists.transform(distinctQueryResult.divide(), new Function<DistinctQueryResult, QueryResult>() {
-            
-            @Override
-            public QueryResult apply(final DistinctQueryResult input) {
-                return input;
-            }
-        });
+    private List<Integer> getAggregationDistinctColumnIndexes() {
+        List<Integer> result = new ArrayList<>(selectStatement.getGroupByItems().size() + selectStatement.getAggregationDistinctSelectItems().size());
+        for (OrderByItemSegment each : selectStatement.getGroupByItems()) {
+            result.add(each.getIndex());
+        }
+        for (AggregationDistinctSelectItem each : selectStatement.getAggregationDistinctSelectItems()) {
+            result.add(getColumnIndex(each.getDistinctColumnLabel()));
+        }
+        return result;
+    }
+    
+    private Integer getColumnIndex(final String columnLabel) {
+        return columnLabelIndexMap.get(SQLUtil.getExactlyValue(columnLabel));
     }
     
     private boolean isNeedProcessDistinctSelectItem() {
@@ -114,11 +171,12 @@ public final class DQLMergeEngine implements MergeEngine {
             return new IteratorStreamMergedResult(queryResults);
         }
         selectStatement.setIndexForItems(columnLabelIndexMap);
-        return decorate(build());
+        MergedResult result = build();
+        return decorate(isNeedProcessDistinctSelectItem() && !isDistinctByShardingColumns() ? getDistinctMergedResult(result) : result);
     }
     
     private MergedResult build() throws SQLException {
-        if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
+        if ((!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) && !isGroupByShardingColumns()) {
             return getGroupByMergedResult();
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
@@ -127,12 +185,128 @@ public final class DQLMergeEngine implements MergeEngine {
         return new IteratorStreamMergedResult(queryResults);
     }
     
+    private boolean isGroupByShardingColumns() {
+        if (selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
+            return false;
+        }
+        Collection<String> groupByColumnNames = new LinkedList<>();
+        for (OrderByItemSegment each : selectStatement.getGroupByItems()) {
+            if (each instanceof ColumnOrderByItemSegment) {
+                groupByColumnNames.add(((ColumnOrderByItemSegment) each).getColumn().getName());
+            }
+        }
+        return isCoveringShardingColumns(groupByColumnNames);
+    }
+    
+    private boolean isDistinctByShardingColumns() {
+        return isCoveringShardingColumns(selectStatement.getDistinctSelectItem().get().getDistinctColumnNames());
+    }
+    
+    private boolean isCoveringShardingColumns(final Collection<String> columnNames) {
+        Collection<String> logicTableNames = selectStatement.getTables().getTableNames();
+        if (null == shardingRule || logicTableNames.isEmpty() || logicTableNames.size() > 1 && !shardingRule.isAllBindingTables(logicTableNames)) {
+            return false;
+        }
+        Collection<String> exactlyColumnNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : columnNames) {
+            String columnName = SQLUtil.getExactlyValue(each);
+            exactlyColumnNames.add(columnName.substring(columnName.lastIndexOf('.') + 1));
+        }
+        for (String each : logicTableNames) {
+            Optional<TableRule> tableRule = shardingRule.findTableRule(each);
+            if (!tableRule.isPresent() || !isCoveringShardingColumns(tableRule.get(), exactlyColumnNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isCoveringShardingColumns(final TableRule tableRule, final Collection<String> columnNames) {
+        Collection<String> dataSourceNames = tableRule.getActualDatasourceNames();
+        if (dataSourceNames.size() > 1 && !isCoveringShardingColumns(shardingRule.getDatabaseShardingStrategy(tableRule), columnNames)) {
+            return false;
+        }
+        for (String each : dataSourceNames) {
+            if (tableRule.getActualTableNames(each).size() > 1 && !isCoveringShardingColumns(shardingRule.getTableShardingStrategy(tableRule), columnNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isCoveringShardingColumns(final ShardingStrategy shardingStrategy, final Collection<String> columnNames) {
+        return null != shardingStrategy && !shardingStrategy.getShardingColumns().isEmpty() && columnNames.containsAll(shardingStrategy.getShardingColumns());
+    }
+    
     private MergedResult getGroupByMergedResult() throws SQLException {
         if (selectStatement.isSameGroupByAndOrderByItems()) {
             return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
         } else {
-            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, 
+                    shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_MEMORY_MERGE_ROWS_PER_QUERY), 
+                    getParallelExecuteEngine(), getMergedRowCountLimit());
+        }
+    }
+    
+    private Optional<ShardingExecuteEngine> getParallelExecuteEngine() {
+        return shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.MERGE_GROUP_BY_PARALLEL_ENABLED) ? Optional.fromNullable(executeEngine) : Optional.<ShardingExecuteEngine>absent();
+    }
+    
+    private MergedResult getDistinctMergedResult(final MergedResult mergedResult) throws SQLException {
+        List<Integer> distinctColumnIndexes = getDistinctColumnIndexes();
+        if (isOrderByCoveringDistinctColumns(distinctColumnIndexes)) {
+            return new SortedDistinctDecoratorMergedResult(mergedResult, distinctColumnIndexes);
+        }
+        return new DistinctMemoryMergedResult(columnLabelIndexMap, mergedResult, queryResults.get(0).getColumnCount(), distinctColumnIndexes, 
+                selectStatement, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_MEMORY_MERGE_ROWS_PER_QUERY));
+    }
+    
+    private List<Integer> getDistinctColumnIndexes() throws SQLException {
+        List<Integer> result = new ArrayList<>();
+        for (String each : selectStatement.getDistinctSelectItem().get().getDistinctColumnLabels()) {
+            Integer columnIndex = getColumnIndex(each);
+            if (null == columnIndex) {
+                return getAllColumnIndexes();
+            }
+            result.add(columnIndex);
+        }
+        return result;
+    }
+    
+    private List<Integer> getAllColumnIndexes() throws SQLException {
+        int columnCount = queryResults.get(0).getColumnCount();
+        List<Integer> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+    
+    private boolean isOrderByCoveringDistinctColumns(final List<Integer> distinctColumnIndexes) {
+        List<OrderByItemSegment> orderByItems = selectStatement.getOrderByItems();
+        if (orderByItems.size() < distinctColumnIndexes.size()) {
+            return false;
+        }
+        Set<Integer> orderByColumnIndexes = new HashSet<>(distinctColumnIndexes.size(), 1);
+        for (OrderByItemSegment each : orderByItems.subList(0, distinctColumnIndexes.size())) {
+            orderByColumnIndexes.add(each.getIndex());
+        }
+        return orderByColumnIndexes.equals(new HashSet<>(distinctColumnIndexes));
+    }
+    
+    private int getMergedRowCountLimit() {
+        Pagination pagination = routeResult.getOptimizeResult().getPagination();
+        if (null == pagination || !pagination.getActualRowCount().isPresent()) {
+            return 0;
+        }
+        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
+        if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
+            return (int) Math.min(Integer.MAX_VALUE, (long) pagination.getActualOffset() + pagination.getActualRowCount().get());
+        }
+        if ("Oracle".equals(trunkDatabaseName) || "SQLServer".equals(trunkDatabaseName)) {
+            return pagination.getActualRowCount().get();
         }
+        return 0;
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
@@ -142,7 +316,7 @@ public final class DQLMergeEngine implements MergeEngine {
         }
         String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
         if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
-            return new LimitDecoratorMergedResult(mergedResult, routeResult.getOptimizeResult().getPagination());
+            return new LimitDecoratorMergedResult(mergedResult, routeResult.getOptimizeResult().getPagination(), queryResults);
         }
         if ("Oracle".equals(trunkDatabaseName)) {
             return new RowNumberDecoratorMergedResult(mergedResult, routeResult.getOptimizeResult().getPagination());
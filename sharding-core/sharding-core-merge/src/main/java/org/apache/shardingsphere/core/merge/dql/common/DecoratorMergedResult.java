@@ -35,7 +35,7 @@ import java.util.Calendar;
 public abstract class DecoratorMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
-        
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         return mergedResult.getValue(columnIndex, type);
@@ -66,8 +66,33 @@ public abstract class DecoratorMergedResult implements MergedResult {
         return mergedResult.getInputStream(columnLabel, type);
     }
     
+    @Override
+    public final long getLong(final int columnIndex) throws SQLException {
+        return mergedResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public final int getInt(final int columnIndex) throws SQLException {
+        return mergedResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) throws SQLException {
+        return mergedResult.getDouble(columnIndex);
+    }
+    
+    @Override
+    public final boolean getBoolean(final int columnIndex) throws SQLException {
+        return mergedResult.getBoolean(columnIndex);
+    }
+    
     @Override
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        mergedResult.close();
+    }
 }
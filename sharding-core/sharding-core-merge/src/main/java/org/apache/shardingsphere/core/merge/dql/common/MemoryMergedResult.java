@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merge.dql.common;
 
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrimitiveValueConverter;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 
@@ -98,8 +99,40 @@ public abstract class MemoryMergedResult implements MergedResult {
         throw new SQLFeatureNotSupportedException();
     }
     
+    @Override
+    public final long getLong(final int columnIndex) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return PrimitiveValueConverter.toLong(result);
+    }
+    
+    @Override
+    public final int getInt(final int columnIndex) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return PrimitiveValueConverter.toInt(result);
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return PrimitiveValueConverter.toDouble(result);
+    }
+    
+    @Override
+    public final boolean getBoolean(final int columnIndex) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return PrimitiveValueConverter.toBoolean(result);
+    }
+    
     @Override
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() throws SQLException {
+    }
 }
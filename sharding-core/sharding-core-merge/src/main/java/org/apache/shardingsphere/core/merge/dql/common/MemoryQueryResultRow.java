@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.merge.dql.common;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.execute.memory.MemorySizeEstimator;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 
 import java.sql.SQLException;
@@ -35,6 +36,10 @@ public class MemoryQueryResultRow {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
@@ -44,6 +49,24 @@ public class MemoryQueryResultRow {
         return result;
     }
     
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return data.length;
+    }
+    
+    /**
+     * Get estimated heap bytes retained by row.
+     *
+     * @return estimated bytes
+     */
+    public long getEstimatedBytes() {
+        return MemorySizeEstimator.estimate(data);
+    }
+    
     /**
      * Get data from cell.
      * 
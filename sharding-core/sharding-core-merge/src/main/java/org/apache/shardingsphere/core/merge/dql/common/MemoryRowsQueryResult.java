@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrimitiveValueConverter;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Query result which iterates rows already in memory, only column index access is supported.
+ *
+ * @author agent
+ */
+public final class MemoryRowsQueryResult implements QueryResult {
+    
+    private final Iterator<MemoryQueryResultRow> rows;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    public MemoryRowsQueryResult(final Collection<MemoryQueryResultRow> rows) {
+        this.rows = rows.iterator();
+    }
+    
+    @Override
+    public boolean next() {
+        currentRow = rows.hasNext() ? rows.next() : null;
+        return null != currentRow;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return currentRow.getCell(columnIndex);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getValue with column label");
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return currentRow.getCell(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCalendarValue with column label");
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getInputStream");
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getInputStream");
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return PrimitiveValueConverter.toLong(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return PrimitiveValueConverter.toInt(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return PrimitiveValueConverter.toDouble(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) {
+        return PrimitiveValueConverter.toBoolean(getValue(columnIndex, boolean.class));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentRow;
+    }
+    
+    @Override
+    public void close() {
+        currentRow = null;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return currentRow.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnLabel");
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnType");
+    }
+}
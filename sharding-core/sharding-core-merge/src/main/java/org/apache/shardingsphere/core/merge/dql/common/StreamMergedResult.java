@@ -88,8 +88,40 @@ public abstract class StreamMergedResult implements MergedResult {
         return result;
     }
     
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        long result = getCurrentQueryResult().getLong(columnIndex);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        int result = getCurrentQueryResult().getInt(columnIndex);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        double result = getCurrentQueryResult().getDouble(columnIndex);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        boolean result = getCurrentQueryResult().getBoolean(columnIndex);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
     @Override
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() throws SQLException {
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.execute.memory.MemorySizeEstimator;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryMetaData;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrimitiveValueConverter;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Query result for aggregation distinct which filters duplicate rows of one shard.
+ *
+ * <p>
+ * Distinct values are shared by query results of all shards, so each row is returned only once among all shards and order of rows in each shard is kept.
+ * Values of aggregation distinct columns are rewritten, so rows can be aggregated as normal aggregation.
+ * </p>
+ *
+ * @author agent
+ */
+public final class AggregationDistinctQueryResult implements QueryResult {
+    
+    private final QueryResult queryResult;
+    
+    private final AggregationDistinctQueryMetaData metaData;
+    
+    private final Map<String, Integer> columnLabelIndexMap;
+    
+    private final List<Integer> distinctColumnIndexes;
+    
+    private final Set<List<Object>> distinctValues;
+    
+    private final Optional<QueryMemoryAccount> memoryAccount;
+    
+    private boolean wasNull;
+    
+    public AggregationDistinctQueryResult(final QueryResult queryResult, final AggregationDistinctQueryMetaData metaData, final Map<String, Integer> columnLabelIndexMap, 
+                                          final List<Integer> distinctColumnIndexes, final Set<List<Object>> distinctValues) {
+        this.queryResult = queryResult;
+        this.metaData = metaData;
+        this.columnLabelIndexMap = columnLabelIndexMap;
+        this.distinctColumnIndexes = distinctColumnIndexes;
+        this.distinctValues = distinctValues;
+        memoryAccount = QueryMemoryAccount.getCurrent();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (queryResult.next()) {
+            List<Object> distinctValue = getDistinctValue();
+            if (distinctValues.add(distinctValue)) {
+                if (memoryAccount.isPresent()) {
+                    memoryAccount.get().reserve(MemorySizeEstimator.estimateRow(distinctValue));
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<Object> getDistinctValue() throws SQLException {
+        List<Object> result = new ArrayList<>(distinctColumnIndexes.size());
+        for (int each : distinctColumnIndexes) {
+            result.add(queryResult.getValue(each, Object.class));
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Object result;
+        if (metaData.isAggregationDistinctColumnIndex(columnIndex)) {
+            result = AggregationType.COUNT == metaData.getAggregationType(columnIndex) ? 1 : queryResult.getValue(columnIndex, Object.class);
+        } else if (metaData.isDerivedCountColumnIndex(columnIndex)) {
+            result = 1;
+        } else if (metaData.isDerivedSumColumnIndex(columnIndex)) {
+            result = queryResult.getValue(metaData.getAggregationDistinctColumnIndex(columnIndex), Object.class);
+        } else {
+            result = queryResult.getValue(columnIndex, type);
+        }
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getValue(getColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (isRewrittenColumnIndex(columnIndex)) {
+            return getValue(columnIndex, type);
+        }
+        Object result = queryResult.getCalendarValue(columnIndex, type, calendar);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getCalendarValue(getColumnIndex(columnLabel), type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        InputStream result = queryResult.getInputStream(columnIndex, type);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return getInputStream(getColumnIndex(columnLabel), type);
+    }
+    
+    private boolean isRewrittenColumnIndex(final int columnIndex) {
+        return metaData.isAggregationDistinctColumnIndex(columnIndex) || metaData.isDerivedCountColumnIndex(columnIndex) || metaData.isDerivedSumColumnIndex(columnIndex);
+    }
+    
+    private int getColumnIndex(final String columnLabel) throws SQLException {
+        Integer result = columnLabelIndexMap.containsKey(columnLabel) ? columnLabelIndexMap.get(columnLabel) : columnLabelIndexMap.get(SQLUtil.getExactlyValue(columnLabel));
+        if (null == result) {
+            throw new SQLException(String.format("Can not find column label: %s", columnLabel));
+        }
+        return result;
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toLong(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toInt(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toDouble(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return PrimitiveValueConverter.toBoolean(getValue(columnIndex, boolean.class));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        queryResult.close();
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResult.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return metaData.isAggregationDistinctColumnIndex(columnIndex) ? metaData.getAggregationDistinctColumnLabel(columnIndex) : queryResult.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) throws SQLException {
+        if (metaData.isAggregationDistinctColumnIndex(columnIndex) && AggregationType.COUNT == metaData.getAggregationType(columnIndex) || metaData.isDerivedCountColumnIndex(columnIndex)) {
+            return Types.BIGINT;
+        }
+        if (metaData.isDerivedSumColumnIndex(columnIndex)) {
+            return queryResult.getColumnType(metaData.getAggregationDistinctColumnIndex(columnIndex));
+        }
+        return queryResult.getColumnType(columnIndex);
+    }
+}
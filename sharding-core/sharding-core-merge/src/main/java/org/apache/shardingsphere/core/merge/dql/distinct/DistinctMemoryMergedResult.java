@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import com.google.common.base.Optional;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.memory.MemorySizeEstimator;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupByRowComparator;
+import org.apache.shardingsphere.core.merge.dql.spill.SortedSpillFilesIterator;
+import org.apache.shardingsphere.core.merge.dql.spill.SpillFile;
+import org.apache.shardingsphere.core.merge.dql.spill.SpillFile.SpillFileReader;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memory merged result for distinct which drops duplicate rows by hash.
+ * 
+ * <p>
+ * Rows are streamed from merged result and only distinct values of returned rows are kept in memory.
+ * If the row threshold is reached or memory account of query refuses more bytes, rest rows are spilled to local files partitioned by hash of distinct values,
+ * then deduplicated partition by partition and merged by order by items, rows already returned are still in order because merged result is sorted.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DistinctMemoryMergedResult extends MemoryMergedResult {
+    
+    private static final int SPILL_PARTITION_COUNT = 16;
+    
+    private final MergedResult mergedResult;
+    
+    private final int columnCount;
+    
+    private final List<Integer> distinctColumnIndexes;
+    
+    private final SelectStatement selectStatement;
+    
+    private final int maxMemoryRows;
+    
+    private final Optional<QueryMemoryAccount> memoryAccount;
+    
+    private final Set<List<Object>> distinctValues = new HashSet<>(1024);
+    
+    private long residentBytes;
+    
+    private final List<SpillFile> spillFiles = new LinkedList<>();
+    
+    private Iterator<MemoryQueryResultRow> spilledRows;
+    
+    public DistinctMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final MergedResult mergedResult, final int columnCount, 
+                                      final List<Integer> distinctColumnIndexes, final SelectStatement selectStatement, final int maxMemoryRows) {
+        super(labelAndIndexMap);
+        this.mergedResult = mergedResult;
+        this.columnCount = columnCount;
+        this.distinctColumnIndexes = distinctColumnIndexes;
+        this.selectStatement = selectStatement;
+        this.maxMemoryRows = maxMemoryRows;
+        memoryAccount = QueryMemoryAccount.getCurrent();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null == spilledRows && nextDistinctRow()) {
+            return true;
+        }
+        if (null != spilledRows && spilledRows.hasNext()) {
+            setCurrentResultSetRow(spilledRows.next());
+            return true;
+        }
+        releaseResidentBytes();
+        return false;
+    }
+    
+    private boolean nextDistinctRow() throws SQLException {
+        while (mergedResult.next()) {
+            MemoryQueryResultRow row = loadRow();
+            List<Object> distinctValue = getDistinctValue(row);
+            if (!distinctValues.add(distinctValue)) {
+                continue;
+            }
+            setCurrentResultSetRow(row);
+            long distinctValueBytes = MemorySizeEstimator.estimateRow(distinctValue);
+            residentBytes += distinctValueBytes;
+            boolean reserved = !memoryAccount.isPresent() || memoryAccount.get().reserve(distinctValueBytes);
+            if (!reserved || maxMemoryRows > 0 && distinctValues.size() >= maxMemoryRows) {
+                spilledRows = spillRestRows();
+            }
+            return true;
+        }
+        spilledRows = Collections.emptyIterator();
+        return false;
+    }
+    
+    private MemoryQueryResultRow loadRow() throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return new MemoryQueryResultRow(result);
+    }
+    
+    private List<Object> getDistinctValue(final MemoryQueryResultRow row) {
+        List<Object> result = new ArrayList<>(distinctColumnIndexes.size());
+        for (int each : distinctColumnIndexes) {
+            result.add(row.getCell(each));
+        }
+        return result;
+    }
+    
+    @SneakyThrows
+    private Iterator<MemoryQueryResultRow> spillRestRows() {
+        List<SpillFile> spillPartitions = new ArrayList<>(SPILL_PARTITION_COUNT);
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            SpillFile spillPartition = new SpillFile();
+            spillFiles.add(spillPartition);
+            spillPartitions.add(spillPartition);
+        }
+        while (mergedResult.next()) {
+            MemoryQueryResultRow row = loadRow();
+            List<Object> distinctValue = getDistinctValue(row);
+            if (!distinctValues.contains(distinctValue)) {
+                spillPartitions.get((distinctValue.hashCode() & Integer.MAX_VALUE) % SPILL_PARTITION_COUNT).append(row);
+            }
+        }
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(selectStatement);
+        List<SpillFile> sortedRuns = new ArrayList<>(spillPartitions.size());
+        for (SpillFile each : spillPartitions) {
+            List<MemoryQueryResultRow> rows = getDistinctRows(each);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            Collections.sort(rows, comparator);
+            SpillFile sortedRun = new SpillFile();
+            spillFiles.add(sortedRun);
+            for (MemoryQueryResultRow row : rows) {
+                sortedRun.append(row);
+            }
+            sortedRuns.add(sortedRun);
+        }
+        return new SortedSpillFilesIterator(sortedRuns, comparator);
+    }
+    
+    private List<MemoryQueryResultRow> getDistinctRows(final SpillFile spillPartition) throws IOException {
+        List<MemoryQueryResultRow> result = new ArrayList<>(spillPartition.getRowCount());
+        Set<List<Object>> partitionDistinctValues = new HashSet<>(spillPartition.getRowCount());
+        SpillFileReader reader = spillPartition.openReader();
+        MemoryQueryResultRow row = reader.next();
+        while (null != row) {
+            if (partitionDistinctValues.add(getDistinctValue(row))) {
+                result.add(row);
+            }
+            row = reader.next();
+        }
+        return result;
+    }
+    
+    private void releaseResidentBytes() {
+        if (memoryAccount.isPresent()) {
+            memoryAccount.get().release(residentBytes);
+        }
+        residentBytes = 0L;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        releaseResidentBytes();
+        try {
+            SpillFile.deleteAll(spillFiles);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            mergedResult.close();
+        }
+    }
+}
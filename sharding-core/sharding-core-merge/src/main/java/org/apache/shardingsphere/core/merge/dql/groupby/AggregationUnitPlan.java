@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Aggregation unit plan.
+ * 
+ * <p>
+ * JDBC types of aggregation value columns are read once before merging, 
+ * so every group gets aggregation units specialized for its value types.
+ * </p>
+ *
+ * @author agent
+ */
+final class AggregationUnitPlan {
+    
+    private final Map<AggregationSelectItem, Integer> valueColumnTypes;
+    
+    AggregationUnitPlan(final List<AggregationSelectItem> aggregationSelectItems, final QueryResult queryResult) throws SQLException {
+        valueColumnTypes = new LinkedHashMap<>(aggregationSelectItems.size(), 1);
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            valueColumnTypes.put(each, queryResult.getColumnType(getValueColumnIndex(each)));
+        }
+    }
+    
+    private int getValueColumnIndex(final AggregationSelectItem aggregationSelectItem) {
+        List<AggregationSelectItem> derivedAggregationSelectItems = aggregationSelectItem.getDerivedAggregationSelectItems();
+        return derivedAggregationSelectItems.size() > 1 ? derivedAggregationSelectItems.get(1).getIndex() : aggregationSelectItem.getIndex();
+    }
+    
+    /**
+     * Create aggregation units for one group.
+     *
+     * @return aggregation units map
+     */
+    Map<AggregationSelectItem, AggregationUnit> createAggregationUnits() {
+        Map<AggregationSelectItem, AggregationUnit> result = new LinkedHashMap<>(valueColumnTypes.size(), 1);
+        for (Entry<AggregationSelectItem, Integer> entry : valueColumnTypes.entrySet()) {
+            result.put(entry.getKey(), AggregationUnitFactory.create(entry.getKey().getType(), entry.getValue()));
+        }
+        return result;
+    }
+}
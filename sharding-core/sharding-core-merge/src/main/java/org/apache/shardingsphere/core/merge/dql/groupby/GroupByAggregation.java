@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.memory.MemorySizeEstimator;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+
+/**
+ * Aggregation of groups in memory.
+ *
+ * <p>
+ * Aggregated rows are re-aggregable, because derived aggregation cells of rows carry partial results,
+ * so partial aggregations can be combined by aggregating their rows again.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+final class GroupByAggregation {
+    
+    private static final int AGGREGATION_UNIT_BYTES = 32;
+    
+    private final SelectStatement selectStatement;
+    
+    private final AggregationUnitPlan aggregationUnitPlan;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @return estimated bytes of new group, 0 if group already exists
+     * @throws SQLException SQL exception
+     */
+    long aggregate(final QueryResult queryResult) throws SQLException {
+        return aggregate(queryResult, new GroupByValue(queryResult, selectStatement.getGroupByItems()));
+    }
+    
+    /**
+     * Aggregate current row of query result into group.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @return estimated bytes of new group, 0 if group already exists
+     * @throws SQLException SQL exception
+     */
+    long aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        long result = initForFirstGroupByValue(queryResult, groupByValue);
+        Map<AggregationSelectItem, AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue);
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            aggregationValues.clear();
+            if (each.getDerivedAggregationSelectItems().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationUnits.get(each).merge(aggregationValues);
+        }
+        return result;
+    }
+    
+    private long initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (dataMap.containsKey(groupByValue)) {
+            return 0L;
+        }
+        MemoryQueryResultRow row = new MemoryQueryResultRow(queryResult);
+        dataMap.put(groupByValue, row);
+        aggregationMap.put(groupByValue, aggregationUnitPlan.createAggregationUnits());
+        return row.getEstimatedBytes() + MemorySizeEstimator.estimateRow(groupByValue.getGroupValues()) + AGGREGATION_UNIT_BYTES * selectStatement.getAggregationSelectItems().size();
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
+        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Judge whether no group aggregated.
+     *
+     * @return no group aggregated or not
+     */
+    boolean isEmpty() {
+        return dataMap.isEmpty();
+    }
+    
+    /**
+     * Get count of groups.
+     *
+     * @return count of groups
+     */
+    int size() {
+        return dataMap.size();
+    }
+    
+    /**
+     * Get aggregated rows with their group by values.
+     *
+     * @return aggregated rows map
+     */
+    Map<GroupByValue, MemoryQueryResultRow> getAggregatedRows() {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            }
+        }
+        return dataMap;
+    }
+    
+    /**
+     * Get top aggregated rows sorted by order by items.
+     * 
+     * <p>
+     * If row count is limited, only top rows are kept in a bounded heap, and all rows are never sorted.
+     * </p>
+     *
+     * @param rowCount max count of rows, 0 means no limit
+     * @return sorted aggregated rows
+     */
+    List<MemoryQueryResultRow> getSortedAggregatedRows(final int rowCount) {
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(selectStatement);
+        Collection<MemoryQueryResultRow> rows = getAggregatedRows().values();
+        List<MemoryQueryResultRow> result = rowCount > 0 && rowCount < rows.size() ? getTopRows(rows, rowCount, comparator) : new ArrayList<>(rows);
+        Collections.sort(result, comparator);
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getTopRows(final Collection<MemoryQueryResultRow> rows, final int rowCount, final Comparator<MemoryQueryResultRow> comparator) {
+        PriorityQueue<MemoryQueryResultRow> heap = new PriorityQueue<>(rowCount, Collections.reverseOrder(comparator));
+        for (MemoryQueryResultRow each : rows) {
+            if (heap.size() < rowCount) {
+                heap.offer(each);
+            } else if (comparator.compare(each, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(each);
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+    
+    /**
+     * Clear all groups.
+     */
+    void clear() {
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+}
@@ -17,111 +17,171 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import com.google.common.base.Optional;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.memory.MemoryLimitExceededBehavior;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
-import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.merge.dql.spill.SortedSpillFilesIterator;
+import org.apache.shardingsphere.core.merge.dql.spill.SpillFile;
+import org.apache.shardingsphere.core.merge.dql.spill.SpilledQueryResult;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * Groups are spilled to local files if the row threshold is reached or memory account of query refuses more bytes.
+ * If parallel execute engine is present and groups are never spilled, query results are aggregated in parallel on its worker threads.
+ * If row count is limited by pagination, only top rows are sorted and kept.
+ * </p>
  *
  * @author zhangliang
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
+    private static final int SPILL_PARTITION_COUNT = 16;
+    
     private final SelectStatement selectStatement;
     
+    private final AggregationUnitPlan aggregationUnitPlan;
+    
+    private final int maxMemoryRows;
+    
+    private final Optional<ShardingExecuteEngine> parallelExecuteEngine;
+    
+    private final int rowCount;
+    
+    private final Optional<QueryMemoryAccount> memoryAccount;
+    
+    private long residentBytes;
+    
+    private final List<SpillFile> spillFiles = new LinkedList<>();
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
-    public GroupByMemoryMergedResult(
-            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final SelectStatement selectStatement, final int maxMemoryRows, final Optional<ShardingExecuteEngine> parallelExecuteEngine, final int rowCount) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
-        memoryResultSetRows = init(queryResults);
+        aggregationUnitPlan = new AggregationUnitPlan(selectStatement.getAggregationSelectItems(), queryResults.get(0));
+        this.maxMemoryRows = maxMemoryRows;
+        this.parallelExecuteEngine = parallelExecuteEngine;
+        this.rowCount = rowCount;
+        memoryAccount = QueryMemoryAccount.getCurrent();
+        memoryResultSetRows = isParallel(queryResults) ? initInParallel(queryResults) : init(queryResults);
     }
     
-    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
-            }
+    private boolean isParallel(final List<QueryResult> queryResults) {
+        return parallelExecuteEngine.isPresent() && queryResults.size() > 1 && 0 == maxMemoryRows && (!memoryAccount.isPresent() || MemoryLimitExceededBehavior.FAIL == memoryAccount.get().getBehavior());
+    }
+    
+    private Iterator<MemoryQueryResultRow> initInParallel(final List<QueryResult> queryResults) throws SQLException {
+        ParallelGroupByAggregator aggregator = new ParallelGroupByAggregator(parallelExecuteEngine.get(), selectStatement, aggregationUnitPlan, rowCount, memoryAccount);
+        List<MemoryQueryResultRow> result;
+        try {
+            result = aggregator.aggregate(queryResults);
+        } finally {
+            residentBytes = aggregator.getReservedBytes();
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
         if (!result.isEmpty()) {
             setCurrentResultSetRow(result.get(0));
         }
         return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
-        }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
-                }
-            });
-            aggregationMap.put(groupByValue, map);
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
+        boolean initialized = false;
+        try {
+            Iterator<MemoryQueryResultRow> result = aggregate(queryResults);
+            initialized = true;
+            return result;
+        } finally {
+            if (!initialized) {
+                deleteSpillFiles();
+            }
         }
     }
     
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
+    private Iterator<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults) throws SQLException {
+        GroupByAggregation aggregation = new GroupByAggregation(selectStatement, aggregationUnitPlan);
+        List<SpillFile> spillPartitions = new ArrayList<>(SPILL_PARTITION_COUNT);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                long groupBytes = aggregation.aggregate(each);
+                residentBytes += groupBytes;
+                boolean reserved = !memoryAccount.isPresent() || memoryAccount.get().reserve(groupBytes);
+                if (!reserved || maxMemoryRows > 0 && aggregation.size() >= maxMemoryRows) {
+                    spill(aggregation, spillPartitions);
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
         }
+        if (!spillPartitions.isEmpty()) {
+            spill(aggregation, spillPartitions);
+            return mergeSpillPartitions(spillPartitions);
+        }
+        List<MemoryQueryResultRow> result = aggregation.getSortedAggregatedRows(rowCount);
+        if (!result.isEmpty()) {
+            setCurrentResultSetRow(result.get(0));
+        }
+        return result.iterator();
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
+    @SneakyThrows
+    private void spill(final GroupByAggregation aggregation, final List<SpillFile> spillPartitions) {
+        if (spillPartitions.isEmpty()) {
+            for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+                SpillFile spillPartition = new SpillFile();
+                spillFiles.add(spillPartition);
+                spillPartitions.add(spillPartition);
+            }
+        }
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : aggregation.getAggregatedRows().entrySet()) {
+            spillPartitions.get((entry.getKey().hashCode() & Integer.MAX_VALUE) % SPILL_PARTITION_COUNT).append(entry.getValue());
+        }
+        aggregation.clear();
+        releaseResidentBytes();
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
-            }
+    private void releaseResidentBytes() {
+        if (memoryAccount.isPresent()) {
+            memoryAccount.get().release(residentBytes);
         }
+        residentBytes = 0L;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatement));
-        return result;
+    @SneakyThrows
+    private Iterator<MemoryQueryResultRow> mergeSpillPartitions(final List<SpillFile> spillPartitions) {
+        List<SpillFile> sortedRuns = new ArrayList<>(spillPartitions.size());
+        for (SpillFile each : spillPartitions) {
+            GroupByAggregation aggregation = new GroupByAggregation(selectStatement, aggregationUnitPlan);
+            QueryResult spilledQueryResult = new SpilledQueryResult(each.openReader());
+            while (spilledQueryResult.next()) {
+                aggregation.aggregate(spilledQueryResult);
+            }
+            if (aggregation.isEmpty()) {
+                continue;
+            }
+            SpillFile sortedRun = new SpillFile();
+            spillFiles.add(sortedRun);
+            for (MemoryQueryResultRow row : aggregation.getSortedAggregatedRows(rowCount)) {
+                sortedRun.append(row);
+            }
+            sortedRuns.add(sortedRun);
+        }
+        return new SortedSpillFilesIterator(sortedRuns, new GroupByRowComparator(selectStatement));
     }
     
     @Override
@@ -130,6 +190,21 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
             setCurrentResultSetRow(memoryResultSetRows.next());
             return true;
         }
+        releaseResidentBytes();
         return false;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        releaseResidentBytes();
+        deleteSpillFiles();
+    }
+    
+    private void deleteSpillFiles() throws SQLException {
+        try {
+            SpillFile.deleteAll(spillFiles);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
 }
@@ -17,12 +17,10 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrimitiveValueConverter;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
@@ -46,6 +44,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatement selectStatement;
     
+    private final AggregationUnitPlan aggregationUnitPlan;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
@@ -55,14 +57,15 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatement.getOrderByItems());
         this.labelAndIndexMap = labelAndIndexMap;
         this.selectStatement = selectStatement;
+        aggregationUnitPlan = new AggregationUnitPlan(selectStatement.getAggregationSelectItems(), queryResults.get(0));
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+        currentGroupByValues = getOrderByValues().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
     }
     
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValues().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -76,13 +79,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
-        Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-            
-            @Override
-            public AggregationUnit apply(final AggregationSelectItem input) {
-                return AggregationUnitFactory.create(input.getType());
-            }
-        });
+        Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap = aggregationUnitPlan.createAggregationUnits();
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues())) {
             aggregate(aggregationUnitMap);
             cacheCurrentRow();
@@ -97,15 +94,15 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private void aggregate(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (entry.getKey().getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+                aggregationValues.add(getAggregationValue(entry.getKey()));
             } else {
                 for (AggregationSelectItem each : entry.getKey().getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(each));
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
@@ -129,7 +126,33 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return getCell(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return PrimitiveValueConverter.toLong(getCell(columnIndex));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return PrimitiveValueConverter.toInt(getCell(columnIndex));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return PrimitiveValueConverter.toDouble(getCell(columnIndex));
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) {
+        return PrimitiveValueConverter.toBoolean(getCell(columnIndex));
+    }
+    
+    private Object getCell(final int columnIndex) {
+        Object result = currentRow.get(columnIndex - 1);
+        setWasNull(null == result);
+        return result;
     }
     
     @Override
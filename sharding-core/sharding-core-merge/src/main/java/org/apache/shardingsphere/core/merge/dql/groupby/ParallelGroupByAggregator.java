@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryRowsQueryResult;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parallel aggregator for group by memory merge.
+ *
+ * <p>
+ * Aggregation runs on worker threads of sharding execute engine, so it is bounded by executor size and closed with the engine.
+ * Each query result is consumed by its own task into partial aggregations, which are partitioned by hash of group by values.
+ * Partial aggregations of the same partition are combined and sorted by one task per partition, then sorted partitions are merged pairwise.
+ * If row count is limited, each partition and each pairwise merge keep only top rows.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+final class ParallelGroupByAggregator {
+    
+    private final ShardingExecuteEngine executeEngine;
+    
+    private final SelectStatement selectStatement;
+    
+    private final AggregationUnitPlan aggregationUnitPlan;
+    
+    private final int rowCount;
+    
+    private final Optional<QueryMemoryAccount> memoryAccount;
+    
+    private final AtomicLong reservedBytes = new AtomicLong();
+    
+    /**
+     * Aggregate query results in parallel.
+     *
+     * @param queryResults query results
+     * @return aggregated rows sorted by order by items
+     * @throws SQLException SQL exception
+     */
+    List<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults) throws SQLException {
+        int partitionCount = queryResults.size();
+        List<List<GroupByAggregation>> partialAggregations = executeEngine.groupExecute(createExecuteGroups(queryResults), new PartialAggregateCallback(partitionCount));
+        List<List<GroupByAggregation>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            List<GroupByAggregation> partition = new ArrayList<>(partialAggregations.size());
+            for (List<GroupByAggregation> each : partialAggregations) {
+                partition.add(each.get(i));
+            }
+            partitions.add(partition);
+        }
+        return mergeSorted(executeEngine.groupExecute(createExecuteGroups(partitions), new CombineCallback()));
+    }
+    
+    /**
+     * Get bytes reserved from memory account during aggregation.
+     *
+     * @return reserved bytes
+     */
+    long getReservedBytes() {
+        return reservedBytes.get();
+    }
+    
+    private static int getPartitionIndex(final GroupByValue groupByValue, final int partitionCount) {
+        return (groupByValue.hashCode() & Integer.MAX_VALUE) % partitionCount;
+    }
+    
+    private static <T> Collection<ShardingExecuteGroup<T>> createExecuteGroups(final List<T> inputs) {
+        Collection<ShardingExecuteGroup<T>> result = new LinkedList<>();
+        for (T each : inputs) {
+            result.add(new ShardingExecuteGroup<>(Collections.singletonList(each)));
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> mergeSorted(final List<List<MemoryQueryResultRow>> sortedPartitions) {
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(selectStatement);
+        List<List<MemoryQueryResultRow>> result = sortedPartitions;
+        while (result.size() > 1) {
+            List<List<MemoryQueryResultRow>> merged = new ArrayList<>((result.size() + 1) / 2);
+            for (int i = 0; i < result.size(); i += 2) {
+                merged.add(i + 1 < result.size() ? merge(result.get(i), result.get(i + 1), comparator) : result.get(i));
+            }
+            result = merged;
+        }
+        return result.get(0);
+    }
+    
+    private List<MemoryQueryResultRow> merge(final List<MemoryQueryResultRow> left, final List<MemoryQueryResultRow> right, final Comparator<MemoryQueryResultRow> comparator) {
+        int size = rowCount > 0 ? Math.min(rowCount, left.size() + right.size()) : left.size() + right.size();
+        List<MemoryQueryResultRow> result = new ArrayList<>(size);
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (result.size() < size) {
+            if (rightIndex == right.size() || leftIndex < left.size() && comparator.compare(left.get(leftIndex), right.get(rightIndex)) <= 0) {
+                result.add(left.get(leftIndex++));
+            } else {
+                result.add(right.get(rightIndex++));
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private final class PartialAggregateCallback implements ShardingGroupExecuteCallback<QueryResult, List<GroupByAggregation>> {
+        
+        private final int partitionCount;
+        
+        @Override
+        public Collection<List<GroupByAggregation>> execute(final Collection<QueryResult> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+            QueryResult queryResult = inputs.iterator().next();
+            List<GroupByAggregation> result = new ArrayList<>(partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                result.add(new GroupByAggregation(selectStatement, aggregationUnitPlan));
+            }
+            while (queryResult.next()) {
+                GroupByValue groupByValue = new GroupByValue(queryResult, selectStatement.getGroupByItems());
+                long groupBytes = result.get(getPartitionIndex(groupByValue, partitionCount)).aggregate(queryResult, groupByValue);
+                if (groupBytes > 0L) {
+                    reservedBytes.addAndGet(groupBytes);
+                    if (memoryAccount.isPresent()) {
+                        memoryAccount.get().reserve(groupBytes);
+                    }
+                }
+            }
+            return Collections.singletonList(result);
+        }
+    }
+    
+    private final class CombineCallback implements ShardingGroupExecuteCallback<List<GroupByAggregation>, List<MemoryQueryResultRow>> {
+        
+        @Override
+        public Collection<List<MemoryQueryResultRow>> execute(
+                final Collection<List<GroupByAggregation>> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+            GroupByAggregation result = new GroupByAggregation(selectStatement, aggregationUnitPlan);
+            for (GroupByAggregation each : inputs.iterator().next()) {
+                if (each.isEmpty()) {
+                    continue;
+                }
+                QueryResult partialRows = new MemoryRowsQueryResult(each.getAggregatedRows().values());
+                while (partialRows.next()) {
+                    result.aggregate(partialRows);
+                }
+                each.clear();
+            }
+            return Collections.singletonList(result.getSortedAggregatedRows(rowCount));
+        }
+    }
+}
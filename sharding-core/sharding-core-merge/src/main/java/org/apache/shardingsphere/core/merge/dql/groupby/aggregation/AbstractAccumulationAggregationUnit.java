@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Abstract accumulation aggregation unit.
+ * 
+ * <p>
+ * Values are accumulated one by one, so composed units such as average can accumulate without wrapping values into list.
+ * </p>
+ * 
+ * @author agent
+ */
+public abstract class AbstractAccumulationAggregationUnit implements AggregationUnit {
+    
+    @Override
+    public final void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        accumulate(values.get(0));
+    }
+    
+    /**
+     * Accumulate value.
+     * 
+     * @param value value to be accumulated, can not be null
+     */
+    public abstract void accumulate(Comparable<?> value);
+    
+    protected static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    protected static BigDecimal toBigDecimal(final Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (isIntegral(value)) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString());
+    }
+}
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * Accumulation aggregation unit.
@@ -28,19 +27,16 @@ import java.util.List;
  * @author zhangliang
  */
 @RequiredArgsConstructor
-public final class AccumulationAggregationUnit implements AggregationUnit {
+public final class AccumulationAggregationUnit extends AbstractAccumulationAggregationUnit {
     
     private BigDecimal result;
     
     @Override
-    public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
-            return;
-        }
+    public void accumulate(final Comparable<?> value) {
         if (null == result) {
-            result = new BigDecimal("0");
+            result = BigDecimal.ZERO;
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(toBigDecimal(value));
     }
     
     @Override
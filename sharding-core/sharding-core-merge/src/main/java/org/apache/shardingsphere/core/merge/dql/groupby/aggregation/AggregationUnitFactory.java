@@ -21,6 +21,8 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.AggregationType;
 
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  * 
@@ -36,6 +38,17 @@ public final class AggregationUnitFactory {
      * @return aggregation unit instance
      */
     public static AggregationUnit create(final AggregationType type) {
+        return create(type, Types.DECIMAL);
+    }
+    
+    /**
+     * Create aggregation unit instance specialized for type of aggregation value column.
+     * 
+     * @param type aggregation function type
+     * @param valueColumnType JDBC type of aggregation value column, for average it is type of derived sum column
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final int valueColumnType) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -43,11 +56,27 @@ public final class AggregationUnitFactory {
                 return new ComparableAggregationUnit(true);
             case SUM:
             case COUNT:
-                return new AccumulationAggregationUnit();
+                return createAccumulationAggregationUnit(valueColumnType);
             case AVG:
-                return new AverageAggregationUnit();
+                return new AverageAggregationUnit(createAccumulationAggregationUnit(valueColumnType));
             default:
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    private static AbstractAccumulationAggregationUnit createAccumulationAggregationUnit(final int valueColumnType) {
+        switch (valueColumnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongAccumulationAggregationUnit();
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleAccumulationAggregationUnit();
+            default:
+                return new AccumulationAggregationUnit();
+        }
+    }
 }
@@ -17,8 +17,6 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -27,34 +25,40 @@ import java.util.List;
  * 
  * @author gaohongtao
  */
-@RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final AbstractAccumulationAggregationUnit count = new LongAccumulationAggregationUnit();
+    
+    private final AbstractAccumulationAggregationUnit sum;
+    
+    public AverageAggregationUnit() {
+        this(new AccumulationAggregationUnit());
+    }
     
-    private BigDecimal sum;
+    public AverageAggregationUnit(final AbstractAccumulationAggregationUnit sum) {
+        this.sum = sum;
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = new BigDecimal("0");
-        }
-        if (null == sum) {
-            sum = new BigDecimal("0");
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count.accumulate(values.get(0));
+        sum.accumulate(values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        Comparable<?> countResult = count.getResult();
+        if (null == countResult) {
+            return null;
+        }
+        BigDecimal countValue = AbstractAccumulationAggregationUnit.toBigDecimal(countResult);
+        if (BigDecimal.ZERO.equals(countValue)) {
+            return countValue;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
+        return AbstractAccumulationAggregationUnit.toBigDecimal(sum.getResult()).divide(countValue, 4, BigDecimal.ROUND_HALF_UP);
     }
 }
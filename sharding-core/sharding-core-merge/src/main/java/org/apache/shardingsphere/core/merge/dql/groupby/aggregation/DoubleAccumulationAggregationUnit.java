@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Accumulation aggregation unit for approximate numeric values.
+ * 
+ * <p>
+ * Values are accumulated as primitive double, result is converted to {@code BigDecimal} as other accumulation aggregation units.
+ * </p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class DoubleAccumulationAggregationUnit extends AbstractAccumulationAggregationUnit {
+    
+    private boolean accumulated;
+    
+    private double result;
+    
+    @Override
+    public void accumulate(final Comparable<?> value) {
+        accumulated = true;
+        result += value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString());
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return accumulated ? BigDecimal.valueOf(result) : null;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Accumulation aggregation unit for integral values.
+ * 
+ * <p>
+ * Values are accumulated as primitive long, and promoted to {@code BigDecimal} once the sum overflows or a non integral value arrives.
+ * Result is always {@code BigDecimal} as other accumulation aggregation units.
+ * </p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class LongAccumulationAggregationUnit extends AbstractAccumulationAggregationUnit {
+    
+    private boolean accumulated;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    @Override
+    public void accumulate(final Comparable<?> value) {
+        accumulated = true;
+        if (null == decimalResult && isIntegral(value)) {
+            long addend = ((Number) value).longValue();
+            long sum = longResult + addend;
+            if (((longResult ^ sum) & (addend ^ sum)) >= 0) {
+                longResult = sum;
+                return;
+            }
+        }
+        if (null == decimalResult) {
+            decimalResult = BigDecimal.valueOf(longResult);
+        }
+        decimalResult = decimalResult.add(toBigDecimal(value));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalResult ? BigDecimal.valueOf(longResult) : decimalResult;
+    }
+}
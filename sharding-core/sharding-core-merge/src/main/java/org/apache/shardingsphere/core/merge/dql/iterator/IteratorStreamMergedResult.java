@@ -31,9 +31,12 @@ import java.util.List;
  */
 public final class IteratorStreamMergedResult extends StreamMergedResult {
     
+    private final List<QueryResult> allQueryResults;
+    
     private final Iterator<QueryResult> queryResults;
     
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
+        allQueryResults = queryResults;
         this.queryResults = queryResults.iterator();
         setCurrentQueryResult(this.queryResults.next());
     }
@@ -43,18 +46,19 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         if (getCurrentQueryResult().next()) {
             return true;
         }
-        if (!queryResults.hasNext()) {
-            return false;
-        }
-        setCurrentQueryResult(queryResults.next());
-        boolean hasNext = getCurrentQueryResult().next();
-        if (hasNext) {
-            return true;
-        }
+        boolean hasNext = false;
         while (!hasNext && queryResults.hasNext()) {
+            getCurrentQueryResult().close();
             setCurrentQueryResult(queryResults.next());
             hasNext = getCurrentQueryResult().next();
         }
         return hasNext;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        for (QueryResult each : allQueryResults) {
+            each.close();
+        }
+    }
 }
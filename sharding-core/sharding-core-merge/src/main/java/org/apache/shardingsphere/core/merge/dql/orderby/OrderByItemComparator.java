@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Comparator for values of one order by item.
+ * 
+ * <p>
+ * Value type is resolved from the first compared values and cached, 
+ * so integral numbers, decimals, strings and date times are compared without generic {@code compareTo} dispatch.
+ * Values of other or mixed types are compared as {@code Comparable}.
+ * </p>
+ *
+ * @author agent
+ */
+final class OrderByItemComparator {
+    
+    private final OrderDirection orderDirection;
+    
+    private final OrderDirection nullOrderDirection;
+    
+    private Class<?> resolvedClass;
+    
+    private ValueType resolvedType;
+    
+    OrderByItemComparator(final OrderDirection orderDirection, final OrderDirection nullOrderDirection) {
+        this.orderDirection = orderDirection;
+        this.nullOrderDirection = nullOrderDirection;
+    }
+    
+    /**
+     * Compare two values.
+     *
+     * @param thisValue this value
+     * @param otherValue other value
+     * @return compare result
+     */
+    int compare(final Object thisValue, final Object otherValue) {
+        if (null == thisValue && null == otherValue) {
+            return 0;
+        }
+        if (null == thisValue) {
+            return orderDirection == nullOrderDirection ? -1 : 1;
+        }
+        if (null == otherValue) {
+            return orderDirection == nullOrderDirection ? 1 : -1;
+        }
+        int result = compareNotNull(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
+    
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private int compareNotNull(final Object thisValue, final Object otherValue) {
+        switch (getValueType(thisValue, otherValue)) {
+            case LONG:
+                return compare(((Number) thisValue).longValue(), ((Number) otherValue).longValue());
+            case DECIMAL:
+                return ((BigDecimal) thisValue).compareTo((BigDecimal) otherValue);
+            case STRING:
+                return ((String) thisValue).compareTo((String) otherValue);
+            case TIMESTAMP:
+                return ((Timestamp) thisValue).compareTo((Timestamp) otherValue);
+            case DATE:
+                return compare(((Date) thisValue).getTime(), ((Date) otherValue).getTime());
+            default:
+                return ((Comparable) thisValue).compareTo(otherValue);
+        }
+    }
+    
+    private int compare(final long thisValue, final long otherValue) {
+        return thisValue < otherValue ? -1 : (thisValue == otherValue ? 0 : 1);
+    }
+    
+    private ValueType getValueType(final Object thisValue, final Object otherValue) {
+        Class<?> thisClass = thisValue.getClass();
+        Class<?> otherClass = otherValue.getClass();
+        if (thisClass == resolvedClass && otherClass == resolvedClass) {
+            return resolvedType;
+        }
+        ValueType result = getValueType(thisClass);
+        if (result != getValueType(otherClass)) {
+            return ValueType.COMPARABLE;
+        }
+        if (thisClass == otherClass) {
+            resolvedClass = thisClass;
+            resolvedType = result;
+        }
+        return result;
+    }
+    
+    private ValueType getValueType(final Class<?> valueClass) {
+        if (Long.class == valueClass || Integer.class == valueClass || Short.class == valueClass || Byte.class == valueClass) {
+            return ValueType.LONG;
+        }
+        if (BigDecimal.class == valueClass) {
+            return ValueType.DECIMAL;
+        }
+        if (String.class == valueClass) {
+            return ValueType.STRING;
+        }
+        if (Timestamp.class == valueClass) {
+            return ValueType.TIMESTAMP;
+        }
+        if (Date.class.isAssignableFrom(valueClass)) {
+            return ValueType.DATE;
+        }
+        return ValueType.COMPARABLE;
+    }
+    
+    private enum ValueType {
+        
+        LONG, DECIMAL, STRING, TIMESTAMP, DATE, COMPARABLE
+    }
+}
@@ -19,13 +19,10 @@ package org.apache.shardingsphere.core.merge.dql.orderby;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,7 +30,6 @@ import java.util.List;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
@@ -41,7 +37,19 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<OrderByItemSegment> orderByItems;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderByItemComparator[] comparators;
+    
+    private final Object[] orderValues;
+    
+    public OrderByValue(final QueryResult queryResult, final List<OrderByItemSegment> orderByItems) {
+        this.queryResult = queryResult;
+        this.orderByItems = orderByItems;
+        comparators = new OrderByItemComparator[orderByItems.size()];
+        for (int i = 0; i < comparators.length; i++) {
+            comparators[i] = new OrderByItemComparator(orderByItems.get(i).getOrderDirection(), orderByItems.get(i).getNullOrderDirection());
+        }
+        orderValues = new Object[orderByItems.size()];
+    }
     
     /**
      * iterate next data.
@@ -51,25 +59,24 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItemSegment each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderValues.length; i++) {
+            Object value = queryResult.getValue(orderByItems.get(i).getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        for (int i = 0; i < orderByItems.size(); i++) {
-            OrderByItemSegment thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+        for (int i = 0; i < comparators.length; i++) {
+            int result = comparators[i].compare(orderValues[i], o.orderValues[i]);
             if (0 != result) {
                 return result;
             }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Internal nodes keep the loser of their sub tree and node 0 keeps the overall winner,
+ * so replacing the winner only replays the path from its leaf to root, which needs log k comparisons.
+ * </p>
+ *
+ * @author agent
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int remainingCount;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[Math.max(1, this.orderByValues.length)];
+        remainingCount = this.orderByValues.length;
+        Arrays.fill(losers, this.orderByValues.length);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remainingCount;
+    }
+    
+    /**
+     * Get order by value with minimum current row.
+     *
+     * @return order by value with minimum current row
+     */
+    public OrderByValue getWinner() {
+        return orderByValues[losers[0]];
+    }
+    
+    /**
+     * Move winner to its next row and replay the tree.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = losers[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+            remainingCount--;
+        }
+        adjust(winner);
+    }
+    
+    private void adjust(final int index) {
+        int winner = index;
+        for (int parent = (winner + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (beats(losers[parent], winner)) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean beats(final int candidate, final int current) {
+        if (orderByValues.length == candidate) {
+            return true;
+        }
+        if (orderByValues.length == current || exhausted[candidate]) {
+            return false;
+        }
+        if (exhausted[current]) {
+            return true;
+        }
+        int result = orderByValues[candidate].compareTo(orderByValues[current]);
+        return result < 0 || 0 == result && candidate < current;
+    }
+}
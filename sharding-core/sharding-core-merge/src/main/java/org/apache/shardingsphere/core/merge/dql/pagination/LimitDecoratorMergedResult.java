@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.core.merge.dql.pagination;
 
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResult;
 import org.apache.shardingsphere.core.optimize.pagination.Pagination;
 
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * Decorator merged result for limit pagination.
@@ -32,13 +34,16 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
     private final Pagination pagination;
     
+    private final Collection<QueryResult> queryResults;
+    
     private final boolean skipAll;
     
     private int rowNumber;
     
-    public LimitDecoratorMergedResult(final MergedResult mergedResult, final Pagination pagination) throws SQLException {
+    public LimitDecoratorMergedResult(final MergedResult mergedResult, final Pagination pagination, final Collection<QueryResult> queryResults) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
+        this.queryResults = queryResults;
         skipAll = skipOffset();
     }
     
@@ -60,6 +65,16 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next();
+        if (++rowNumber <= pagination.getActualRowCount().get()) {
+            return getMergedResult().next();
+        }
+        closeQueryResults();
+        return false;
+    }
+    
+    private void closeQueryResults() throws SQLException {
+        for (QueryResult each : queryResults) {
+            each.close();
+        }
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.spill;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.spill.SpillFile.SpillFileReader;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Iterator which merges sorted spill files into one sorted sequence.
+ *
+ * @author agent
+ */
+public final class SortedSpillFilesIterator implements Iterator<MemoryQueryResultRow> {
+    
+    private final Queue<SpillFileCursor> cursors;
+    
+    @SneakyThrows
+    public SortedSpillFilesIterator(final Collection<SpillFile> sortedSpillFiles, final Comparator<MemoryQueryResultRow> comparator) {
+        cursors = new PriorityQueue<>(Math.max(1, sortedSpillFiles.size()), new Comparator<SpillFileCursor>() {
+            
+            @Override
+            public int compare(final SpillFileCursor o1, final SpillFileCursor o2) {
+                return comparator.compare(o1.currentRow, o2.currentRow);
+            }
+        });
+        for (SpillFile each : sortedSpillFiles) {
+            SpillFileCursor cursor = new SpillFileCursor(each.openReader());
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !cursors.isEmpty();
+    }
+    
+    @SneakyThrows
+    @Override
+    public MemoryQueryResultRow next() {
+        SpillFileCursor cursor = cursors.poll();
+        if (null == cursor) {
+            throw new NoSuchElementException();
+        }
+        MemoryQueryResultRow result = cursor.currentRow;
+        if (cursor.next()) {
+            cursors.offer(cursor);
+        }
+        return result;
+    }
+    
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+    
+    private static final class SpillFileCursor {
+        
+        private final SpillFileReader reader;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        private SpillFileCursor(final SpillFileReader reader) {
+            this.reader = reader;
+        }
+        
+        private boolean next() throws IOException {
+            currentRow = reader.next();
+            return null != currentRow;
+        }
+    }
+}
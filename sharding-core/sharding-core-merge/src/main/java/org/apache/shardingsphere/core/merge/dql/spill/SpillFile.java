@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Local temporary file which rows exceeding memory budget spill to.
+ *
+ * @author agent
+ */
+public final class SpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private DataOutputStream output;
+    
+    private SpillFileReader reader;
+    
+    @Getter
+    private int rowCount;
+    
+    public SpillFile() throws IOException {
+        file = File.createTempFile("sharding-merge-", ".spill");
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Append row.
+     *
+     * @param row row to be appended
+     * @throws IOException IO exception
+     */
+    public void append(final MemoryQueryResultRow row) throws IOException {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Finish writing and open reader.
+     * 
+     * <p>
+     * The file will be deleted after all rows are read or reader is closed.
+     * </p>
+     *
+     * @return spill file reader
+     * @throws IOException IO exception
+     */
+    public SpillFileReader openReader() throws IOException {
+        closeOutput();
+        reader = new SpillFileReader(new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)));
+        return reader;
+    }
+    
+    private void closeOutput() throws IOException {
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+    }
+    
+    /**
+     * Close opened streams and delete file.
+     * 
+     * <p>
+     * Spill files are deleted explicitly rather than on JVM exit, merged results delete them when closed.
+     * </p>
+     *
+     * @throws IOException IO exception
+     */
+    public void delete() throws IOException {
+        closeOutput();
+        closeReader();
+        if (file.exists() && !file.delete()) {
+            throw new IOException(String.format("Cannot delete spill file: %s", file.getAbsolutePath()));
+        }
+    }
+    
+    private void closeReader() throws IOException {
+        if (null != reader) {
+            reader.input.close();
+            reader = null;
+        }
+    }
+    
+    /**
+     * Delete spill files and clear them from collection.
+     *
+     * @param spillFiles spill files to be deleted
+     * @throws IOException IO exception
+     */
+    public static void deleteAll(final Collection<SpillFile> spillFiles) throws IOException {
+        IOException exception = null;
+        for (SpillFile each : spillFiles) {
+            try {
+                each.delete();
+            } catch (final IOException ex) {
+                exception = ex;
+            }
+        }
+        spillFiles.clear();
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    /**
+     * Reader of spill file.
+     */
+    public final class SpillFileReader {
+        
+        private final DataInputStream input;
+        
+        private int remainingRowCount = rowCount;
+        
+        private SpillFileReader(final DataInputStream input) {
+            this.input = input;
+        }
+        
+        /**
+         * Read next row.
+         *
+         * @return next row, {@code null} if all rows are read
+         * @throws IOException IO exception
+         */
+        public MemoryQueryResultRow next() throws IOException {
+            if (0 == remainingRowCount) {
+                close();
+                return null;
+            }
+            remainingRowCount--;
+            return SpillRowCodec.read(input);
+        }
+        
+        /**
+         * Close reader and delete file.
+         *
+         * @throws IOException IO exception
+         */
+        public void close() throws IOException {
+            delete();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
@@ -37,9 +38,15 @@ import org.apache.shardingsphere.core.optimize.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.sql.context.table.Table;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -47,8 +54,10 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -279,4 +288,41 @@ public final class DQLMergeEngineTest {
         assertThat(actual, instanceOf(TopAndRowNumberDecoratorMergedResult.class));
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
+    
+    @Test
+    public void assertBuildOrderByStreamMergedResultWithGroupByShardingColumn() throws SQLException {
+        selectStatement.getTables().add(new Table("t_order", null));
+        selectStatement.getGroupByItems().add(new ColumnOrderByItemSegment(0, 0, new ColumnSegment(0, 0, "user_id"), OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new ColumnOrderByItemSegment(0, 0, new ColumnSegment(0, 0, "user_id"), OrderDirection.ASC, OrderDirection.ASC));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), mockShardingRule(), routeResult, mockQueryResults("user_id"), new ShardingProperties(new Properties()));
+        assertThat(mergeEngine.merge(), instanceOf(OrderByStreamMergedResult.class));
+    }
+    
+    @Test
+    public void assertBuildGroupByStreamMergedResultWithGroupByNotShardingColumn() throws SQLException {
+        selectStatement.getTables().add(new Table("t_order", null));
+        selectStatement.getGroupByItems().add(new ColumnOrderByItemSegment(0, 0, new ColumnSegment(0, 0, "status"), OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new ColumnOrderByItemSegment(0, 0, new ColumnSegment(0, 0, "status"), OrderDirection.ASC, OrderDirection.ASC));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), mockShardingRule(), routeResult, mockQueryResults("status"), new ShardingProperties(new Properties()));
+        assertThat(mergeEngine.merge(), instanceOf(GroupByStreamMergedResult.class));
+    }
+    
+    private ShardingRule mockShardingRule() {
+        TableRule tableRule = new TableRule(Arrays.asList("ds_0", "ds_1"), "t_order");
+        ShardingStrategy databaseShardingStrategy = mock(ShardingStrategy.class);
+        when(databaseShardingStrategy.getShardingColumns()).thenReturn(Collections.singletonList("user_id"));
+        ShardingRule result = mock(ShardingRule.class);
+        when(result.findTableRule("t_order")).thenReturn(Optional.of(tableRule));
+        when(result.getDatabaseShardingStrategy(tableRule)).thenReturn(databaseShardingStrategy);
+        return result;
+    }
+    
+    private List<QueryResult> mockQueryResults(final String columnLabel) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn(columnLabel);
+        return Lists.<QueryResult>newArrayList(new TestQueryResult(resultSet), new TestQueryResult(resultSet));
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DistinctMemoryMergedResultTest {
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        DistinctMemoryMergedResult actual = new DistinctMemoryMergedResult(
+                new HashMap<String, Integer>(), mockMergedResult(), 2, Collections.singletonList(1), new SelectStatement(), 0);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) "a"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 3));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        DistinctMemoryMergedResult actual = new DistinctMemoryMergedResult(
+                new HashMap<String, Integer>(), mockMergedResult(), 2, Collections.singletonList(1), new SelectStatement(), 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        Set<Object> spilledValues = new HashSet<>();
+        while (actual.next()) {
+            assertTrue(spilledValues.add(actual.getValue(1, Object.class)));
+        }
+        assertThat(spilledValues, is((Set<Object>) new HashSet<Object>(Arrays.<Object>asList(2, 3))));
+    }
+    
+    private MergedResult mockMergedResult() throws SQLException {
+        MergedResult result = mock(MergedResult.class);
+        when(result.next()).thenReturn(true, true, true, true, true, false);
+        when(result.getValue(1, Object.class)).thenReturn(1, 2, 1, 3, 2);
+        when(result.getValue(2, Object.class)).thenReturn("a", "b", "c", "d", "e");
+        return result;
+    }
+}
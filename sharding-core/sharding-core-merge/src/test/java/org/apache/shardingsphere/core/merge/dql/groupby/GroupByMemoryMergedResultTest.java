@@ -21,20 +21,28 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
 import org.apache.shardingsphere.core.optimize.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.condition.ShardingConditions;
+import org.apache.shardingsphere.core.optimize.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -43,11 +51,15 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -61,6 +73,8 @@ public final class GroupByMemoryMergedResultTest {
     
     private SQLRouteResult routeResult;
     
+    private ShardingExecuteEngine executeEngine;
+    
     @Before
     public void setUp() throws SQLException {
         resultSets = Lists.newArrayList(mockResultSet(), mockResultSet(), mockResultSet());
@@ -85,6 +99,12 @@ public final class GroupByMemoryMergedResultTest {
         selectStatement.getOrderByItems().add(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC));
         routeResult = new SQLRouteResult(selectStatement);
         routeResult.setOptimizeResult(new OptimizeResult(new ShardingConditions(Collections.<ShardingCondition>emptyList())));
+        executeEngine = new ShardingExecuteEngine(2);
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
     }
     
     private ResultSet mockResultSet() throws SQLException {
@@ -100,6 +120,24 @@ public final class GroupByMemoryMergedResultTest {
         return result;
     }
     
+    private void mockRows(final ResultSet resultSet, final Object[]... rows) throws SQLException {
+        final AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return rowIndex.incrementAndGet() < rows.length;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[rowIndex.get()][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+    }
+    
     @Test
     public void assertNextForResultSetsAllEmpty() throws SQLException {
         mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
@@ -137,4 +175,118 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_MEMORY_MERGE_ROWS_PER_QUERY.getKey(), "1");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), null, routeResult, queryResults, new ShardingProperties(props), executeEngine);
+        mockRows(resultSets.get(0), new Object[] {20, 0, 2, 2, 20});
+        mockRows(resultSets.get(2), new Object[] {20, 0, 2, 2, 20}, new Object[] {30, 0, 3, 3, 30});
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextInParallel() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MERGE_GROUP_BY_PARALLEL_ENABLED.getKey(), Boolean.TRUE.toString());
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), null, routeResult, queryResults, new ShardingProperties(props), executeEngine);
+        mockRows(resultSets.get(0), new Object[] {20, 0, 2, 2, 20});
+        mockRows(resultSets.get(2), new Object[] {20, 0, 2, 2, 20}, new Object[] {30, 0, 3, 3, 30});
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertSpilledAndParallelResultsEqualToSerialResults() throws SQLException {
+        Object[][][] rows = createRandomRows(new Random(0L), 3, 200, 37);
+        List<List<Object>> expected = mergeAll(new Properties(), rows);
+        assertThat(expected.size(), is(37));
+        Properties spillProps = new Properties();
+        spillProps.setProperty(ShardingPropertiesConstant.MAX_MEMORY_MERGE_ROWS_PER_QUERY.getKey(), "5");
+        assertThat(mergeAll(spillProps, rows), is(expected));
+        Properties parallelProps = new Properties();
+        parallelProps.setProperty(ShardingPropertiesConstant.MERGE_GROUP_BY_PARALLEL_ENABLED.getKey(), Boolean.TRUE.toString());
+        assertThat(mergeAll(parallelProps, rows), is(expected));
+    }
+    
+    private Object[][][] createRandomRows(final Random random, final int resultSetCount, final int rowCountPerResultSet, final int groupCount) {
+        Object[][][] result = new Object[resultSetCount][rowCountPerResultSet][];
+        for (int i = 0; i < resultSetCount; i++) {
+            for (int j = 0; j < rowCountPerResultSet; j++) {
+                int count = random.nextInt(10) + 1;
+                int sum = random.nextInt(100);
+                result[i][j] = new Object[] {count, 0, (i * rowCountPerResultSet + j) % groupCount, count, sum};
+            }
+        }
+        return result;
+    }
+    
+    private List<List<Object>> mergeAll(final Properties props, final Object[][][] rows) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(rows.length);
+        for (Object[][] each : rows) {
+            ResultSet resultSet = mockResultSet();
+            mockRows(resultSet, each);
+            queryResults.add(new TestQueryResult(resultSet));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), null, routeResult, queryResults, new ShardingProperties(props), executeEngine).merge();
+        List<List<Object>> result = new ArrayList<>();
+        while (mergedResult.next()) {
+            List<Object> row = new ArrayList<>(5);
+            for (int i = 1; i <= 5; i++) {
+                row.add(mergedResult.getValue(i, Object.class));
+            }
+            result.add(row);
+        }
+        mergedResult.close();
+        return result;
+    }
+    
+    @Test
+    public void assertNextWithRowCountLimit() throws SQLException {
+        routeResult.getOptimizeResult().setPagination(new Pagination(null, new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList()));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        when(resultSets.get(0).next()).thenReturn(true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn(20);
+        when(resultSets.get(0).getObject(2)).thenReturn(0);
+        when(resultSets.get(0).getObject(3)).thenReturn(2);
+        when(resultSets.get(0).getObject(4)).thenReturn(2);
+        when(resultSets.get(0).getObject(5)).thenReturn(20);
+        when(resultSets.get(2).next()).thenReturn(true, true, false);
+        when(resultSets.get(2).getObject(1)).thenReturn(20, 30);
+        when(resultSets.get(2).getObject(2)).thenReturn(0);
+        when(resultSets.get(2).getObject(3)).thenReturn(2, 3);
+        when(resultSets.get(2).getObject(4)).thenReturn(2, 2, 3);
+        when(resultSets.get(2).getObject(5)).thenReturn(20, 20, 30);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertFalse(actual.next());
+    }
 }
@@ -35,6 +35,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -45,11 +47,13 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -103,6 +107,24 @@ public final class GroupByStreamMergedResultTest {
         return result;
     }
     
+    private void mockRows(final ResultSet resultSet, final Object[]... rows) throws SQLException {
+        final AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return rowIndex.incrementAndGet() < rows.length;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[rowIndex.get()][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+    }
+    
     @Test
     public void assertNextForResultSetsAllEmpty() throws SQLException {
         mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
@@ -113,20 +135,8 @@ public final class GroupByStreamMergedResultTest {
     @Test
     public void assertNextForSomeResultSetsEmpty() throws SQLException {
         mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
-        when(resultSets.get(0).next()).thenReturn(true, false);
-        when(resultSets.get(0).getObject(1)).thenReturn(20);
-        when(resultSets.get(0).getObject(2)).thenReturn(0);
-        when(resultSets.get(0).getObject(3)).thenReturn(2);
-        when(resultSets.get(0).getObject(4)).thenReturn(new Date(0L));
-        when(resultSets.get(0).getObject(5)).thenReturn(2);
-        when(resultSets.get(0).getObject(6)).thenReturn(20);
-        when(resultSets.get(2).next()).thenReturn(true, true, false);
-        when(resultSets.get(2).getObject(1)).thenReturn(20, 30);
-        when(resultSets.get(2).getObject(2)).thenReturn(0);
-        when(resultSets.get(2).getObject(3)).thenReturn(2, 2, 3);
-        when(resultSets.get(2).getObject(4)).thenReturn(new Date(0L));
-        when(resultSets.get(2).getObject(5)).thenReturn(2, 2, 3);
-        when(resultSets.get(2).getObject(6)).thenReturn(20, 20, 30);
+        mockRows(resultSets.get(0), new Object[] {20, 0, 2, new Date(0L), 2, 20});
+        mockRows(resultSets.get(2), new Object[] {20, 0, 2, new Date(0L), 2, 20}, new Object[] {30, 0, 3, new Date(0L), 3, 30});
         MergedResult actual = mergeEngine.merge();
         assertTrue(actual.next());
         assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
@@ -155,24 +165,9 @@ public final class GroupByStreamMergedResultTest {
     @Test
     public void assertNextForMix() throws SQLException {
         mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
-        when(resultSets.get(0).next()).thenReturn(true, false);
-        when(resultSets.get(0).getObject(1)).thenReturn(20);
-        when(resultSets.get(0).getObject(2)).thenReturn(0);
-        when(resultSets.get(0).getObject(3)).thenReturn(2);
-        when(resultSets.get(0).getObject(5)).thenReturn(2);
-        when(resultSets.get(0).getObject(6)).thenReturn(20);
-        when(resultSets.get(1).next()).thenReturn(true, true, true, false);
-        when(resultSets.get(1).getObject(1)).thenReturn(20, 30, 30, 40);
-        when(resultSets.get(1).getObject(2)).thenReturn(0);
-        when(resultSets.get(1).getObject(3)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(resultSets.get(1).getObject(5)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(resultSets.get(1).getObject(6)).thenReturn(20, 20, 30, 30, 30, 40);
-        when(resultSets.get(2).next()).thenReturn(true, true, false);
-        when(resultSets.get(2).getObject(1)).thenReturn(10, 30);
-        when(resultSets.get(2).getObject(2)).thenReturn(10);
-        when(resultSets.get(2).getObject(3)).thenReturn(1, 1, 1, 1, 3);
-        when(resultSets.get(2).getObject(5)).thenReturn(1, 1, 3);
-        when(resultSets.get(2).getObject(6)).thenReturn(10, 10, 30);
+        mockRows(resultSets.get(0), new Object[] {20, 0, 2, null, 2, 20});
+        mockRows(resultSets.get(1), new Object[] {20, 0, 2, null, 2, 20}, new Object[] {30, 0, 3, null, 3, 30}, new Object[] {40, 0, 4, null, 4, 40});
+        mockRows(resultSets.get(2), new Object[] {10, 10, 1, null, 1, 10}, new Object[] {30, 10, 3, null, 3, 30});
         MergedResult actual = mergeEngine.merge();
         assertTrue(actual.next());
         assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(10)));
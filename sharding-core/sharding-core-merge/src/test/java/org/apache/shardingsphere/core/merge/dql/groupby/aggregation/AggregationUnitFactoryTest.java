@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
@@ -41,4 +43,13 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG), instanceOf(AverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateAccumulationAggregationUnitWithValueColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, Types.BIGINT), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.INTEGER), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.DOUBLE), instanceOf(DoubleAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.DECIMAL), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, Types.BIGINT), instanceOf(AverageAggregationUnit.class));
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class DoubleAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertAccumulationAggregation() {
+        DoubleAccumulationAggregationUnit accumulationAggregationUnit = new DoubleAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(null);
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        assertNull(accumulationAggregationUnit.getResult());
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1.5D));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(2.5F));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("5.0")));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    private final List<OrderByItemSegment> orderByItems = Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    private final Map<OrderByValue, Iterator<Long>> expectedValues = new HashMap<>();
+    
+    @Test
+    public void assertNext() throws SQLException {
+        List<OrderByValue> orderByValues = Arrays.asList(createOrderByValue(1L, 4L, 7L), createOrderByValue(2L, 5L), createOrderByValue(3L, 6L, 8L, 9L), createOrderByValue(3L));
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<Long> actual = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            actual.add(expectedValues.get(loserTree.getWinner()).next());
+            loserTree.next();
+        }
+        assertThat(actual, is(Arrays.asList(1L, 2L, 3L, 3L, 4L, 5L, 6L, 7L, 8L, 9L)));
+    }
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithSingleOrderByValue() throws SQLException {
+        OrderByValue orderByValue = createOrderByValue(1L, 2L);
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Collections.singletonList(orderByValue));
+        assertThat(loserTree.getWinner(), is(orderByValue));
+        loserTree.next();
+        assertFalse(loserTree.isEmpty());
+        assertThat(loserTree.getWinner(), is(orderByValue));
+        loserTree.next();
+        assertTrue(loserTree.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final Long... values) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        Boolean[] nextResults = new Boolean[values.length];
+        Arrays.fill(nextResults, true);
+        nextResults[values.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, nextResults);
+        when(resultSet.getObject(1)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        OrderByValue result = new OrderByValue(new TestQueryResult(resultSet), orderByItems);
+        assertTrue(result.next());
+        expectedValues.put(result, Arrays.asList(values).iterator());
+        return result;
+    }
+}
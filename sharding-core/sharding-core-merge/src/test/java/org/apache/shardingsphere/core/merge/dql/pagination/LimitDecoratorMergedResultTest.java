@@ -43,12 +43,16 @@ import java.util.List;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class LimitDecoratorMergedResultTest {
     
     private DQLMergeEngine mergeEngine;
     
+    private List<ResultSet> resultSets;
+    
     private List<QueryResult> queryResults;
     
     private SQLRouteResult routeResult;
@@ -58,7 +62,7 @@ public final class LimitDecoratorMergedResultTest {
         ResultSet resultSet = mock(ResultSet.class);
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
         when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
-        List<ResultSet> resultSets = Lists.newArrayList(resultSet, mock(ResultSet.class), mock(ResultSet.class), mock(ResultSet.class));
+        resultSets = Lists.newArrayList(resultSet, mock(ResultSet.class), mock(ResultSet.class), mock(ResultSet.class));
         for (ResultSet each : resultSets) {
             when(each.next()).thenReturn(true, true, false);
         }
@@ -100,4 +104,20 @@ public final class LimitDecoratorMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithRowCountCloseQueryResults() throws SQLException {
+        routeResult.getOptimizeResult().setPagination(new Pagination(null, new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList()));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        for (ResultSet each : resultSets) {
+            verify(each, never()).close();
+        }
+        assertFalse(actual.next());
+        for (ResultSet each : resultSets) {
+            verify(each).close();
+        }
+    }
 }
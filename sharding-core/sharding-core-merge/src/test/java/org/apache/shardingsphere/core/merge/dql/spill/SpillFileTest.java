@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.spill;
+
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.spill.SpillFile.SpillFileReader;
+import org.junit.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test(expected = FileNotFoundException.class)
+    public void assertDeleteAfterAllRowsRead() throws IOException {
+        SpillFile spillFile = createSpillFile();
+        SpillFileReader reader = spillFile.openReader();
+        assertThat(reader.next().getCell(1), is((Object) 1));
+        assertThat(reader.next().getCell(1), is((Object) 2));
+        assertNull(reader.next());
+        spillFile.openReader();
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertDeleteBeforeAllRowsRead() throws IOException {
+        SpillFile spillFile = createSpillFile();
+        SpillFileReader reader = spillFile.openReader();
+        assertThat(reader.next().getCell(1), is((Object) 1));
+        spillFile.delete();
+        reader.next();
+    }
+    
+    @Test(expected = FileNotFoundException.class)
+    public void assertDeleteAll() throws IOException {
+        SpillFile unreadSpillFile = createSpillFile();
+        Collection<SpillFile> spillFiles = new ArrayList<>(Arrays.asList(unreadSpillFile, createSpillFile()));
+        SpillFile.deleteAll(spillFiles);
+        assertTrue(spillFiles.isEmpty());
+        unreadSpillFile.openReader();
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile();
+        result.append(new MemoryQueryResultRow(new Object[]{1}));
+        result.append(new MemoryQueryResultRow(new Object[]{2}));
+        return result;
+    }
+}
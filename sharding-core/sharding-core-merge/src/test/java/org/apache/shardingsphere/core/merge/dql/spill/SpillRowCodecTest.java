@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.spill;
+
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] data = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigDecimal("7.77"), "foo", new Date(8L), timestamp};
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(byteArrayOutputStream), new MemoryQueryResultRow(data));
+        MemoryQueryResultRow actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+        assertThat(actual.getColumnCount(), is(data.length));
+        assertNull(actual.getCell(1));
+        for (int i = 2; i <= data.length; i++) {
+            assertThat(actual.getCell(i), is(data[i - 1]));
+        }
+    }
+}
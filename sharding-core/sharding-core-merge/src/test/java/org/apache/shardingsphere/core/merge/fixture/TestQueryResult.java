@@ -196,11 +196,36 @@ public final class TestQueryResult implements QueryResult {
         }
     }
     
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return resultSet.getLong(columnIndex);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return resultSet.getInt(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return resultSet.getDouble(columnIndex);
+    }
+    
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return resultSet.getBoolean(columnIndex);
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return resultSet.wasNull();
     }
     
+    @Override
+    public void close() throws SQLException {
+        resultSet.close();
+    }
+    
     @Override
     public int getColumnCount() throws SQLException {
         return resultSet.getMetaData().getColumnCount();
@@ -210,4 +235,9 @@ public final class TestQueryResult implements QueryResult {
     public String getColumnLabel(final int columnIndex) throws SQLException {
         return resultSet.getMetaData().getColumnLabel(columnIndex);
     }
+    
+    @Override
+    public int getColumnType(final int columnIndex) throws SQLException {
+        return resultSet.getMetaData().getColumnType(columnIndex);
+    }
 }
@@ -62,7 +62,7 @@ public final class GeneratedKey {
             return Optional.absent();
         }
         return isContainsGenerateKeyColumn(insertStatement, generateKeyColumnName.get()) 
-                ? findGeneratedKey(parameters, insertStatement, generateKeyColumnName.get()) : Optional.of(createGeneratedKey(shardingRule, insertStatement, generateKeyColumnName.get()));
+                ? findGeneratedKey(parameters, insertStatement, generateKeyColumnName.get()) : Optional.of(createGeneratedKey(shardingRule, parameters, insertStatement, generateKeyColumnName.get()));
     }
     
     private static boolean isContainsGenerateKeyColumn(final InsertStatement insertStatement, final String generateKeyColumnName) {
@@ -76,20 +76,28 @@ public final class GeneratedKey {
             if (null == result) {
                 result = new GeneratedKey(generateKeyColumnName);
             }
-            if (each instanceof ParameterMarkerExpressionSegment) {
-                result.getGeneratedKeys().add((Comparable<?>) parameters.get(((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex()));
-            } else if (each instanceof LiteralExpressionSegment) {
-                result.getGeneratedKeys().add((Comparable<?>) ((LiteralExpressionSegment) each).getLiterals());
+            if (each instanceof ParameterMarkerExpressionSegment || each instanceof LiteralExpressionSegment) {
+                result.getGeneratedKeys().add(findValue(parameters, each).orNull());
             }
         }
         return Optional.fromNullable(result);
     }
     
+    private static Optional<Comparable<?>> findValue(final List<Object> parameters, final ExpressionSegment expressionSegment) {
+        if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
+            return Optional.<Comparable<?>>fromNullable((Comparable<?>) parameters.get(((ParameterMarkerExpressionSegment) expressionSegment).getParameterMarkerIndex()));
+        }
+        if (expressionSegment instanceof LiteralExpressionSegment) {
+            return Optional.<Comparable<?>>fromNullable((Comparable<?>) ((LiteralExpressionSegment) expressionSegment).getLiterals());
+        }
+        return Optional.absent();
+    }
+    
     private static Collection<ExpressionSegment> findGenerateKeyExpressionSegments(final InsertStatement insertStatement, final String generateKeyColumnName) {
         Collection<ExpressionSegment> result = new LinkedList<>();
         Collection<String> columnNames = getColumnNames(insertStatement, generateKeyColumnName);
         for (InsertValue each : insertStatement.getValues()) {
-            Optional<ExpressionSegment> generateKeyExpression = findGenerateKeyExpressionSegment(generateKeyColumnName, columnNames.iterator(), each);
+            Optional<ExpressionSegment> generateKeyExpression = findExpressionSegment(generateKeyColumnName, columnNames.iterator(), each);
             if (generateKeyExpression.isPresent()) {
                 result.add(generateKeyExpression.get());
             }
@@ -106,20 +114,33 @@ public final class GeneratedKey {
         return result;
     }
     
-    private static Optional<ExpressionSegment> findGenerateKeyExpressionSegment(final String generateKeyColumnName, final Iterator<String> columnNames, final InsertValue insertValue) {
+    private static Optional<ExpressionSegment> findExpressionSegment(final String columnName, final Iterator<String> columnNames, final InsertValue insertValue) {
         for (ExpressionSegment each : insertValue.getAssignments()) {
-            if (generateKeyColumnName.equalsIgnoreCase(columnNames.next())) {
+            if (columnName.equalsIgnoreCase(columnNames.next())) {
                 return Optional.of(each);
             }
         }
         return Optional.absent();
     }
     
-    private static GeneratedKey createGeneratedKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final String generateKeyColumnName) {
+    private static GeneratedKey createGeneratedKey(final ShardingRule shardingRule, final List<Object> parameters, final InsertStatement insertStatement, final String generateKeyColumnName) {
         String tableName = insertStatement.getTables().getSingleTableName();
         GeneratedKey result = new GeneratedKey(generateKeyColumnName);
-        for (int i = 0; i < insertStatement.getValues().size(); i++) {
-            result.getGeneratedKeys().add(shardingRule.generateKey(tableName));
+        Optional<String> shardingEmbeddedColumnName = shardingRule.findShardingEmbeddedColumnName(tableName);
+        if (shardingEmbeddedColumnName.isPresent()) {
+            result.getGeneratedKeys().addAll(shardingRule.generateKeys(tableName, getShardingValues(parameters, insertStatement, generateKeyColumnName, shardingEmbeddedColumnName.get())));
+        } else {
+            result.getGeneratedKeys().addAll(shardingRule.generateKeys(tableName, insertStatement.getValues().size()));
+        }
+        return result;
+    }
+    
+    private static List<Comparable<?>> getShardingValues(final List<Object> parameters, final InsertStatement insertStatement, final String generateKeyColumnName, final String shardingColumnName) {
+        List<Comparable<?>> result = new ArrayList<>(insertStatement.getValues().size());
+        Collection<String> columnNames = getColumnNames(insertStatement, generateKeyColumnName);
+        for (InsertValue each : insertStatement.getValues()) {
+            Optional<ExpressionSegment> shardingExpression = findExpressionSegment(shardingColumnName, columnNames.iterator(), each);
+            result.add(shardingExpression.isPresent() ? findValue(parameters, shardingExpression.get()).orNull() : null);
         }
         return result;
     }
@@ -32,10 +32,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -64,11 +66,27 @@ public final class GeneratedKeyTest {
     public void assertGetGenerateKeyWhenCreateWithGenerateKeyColumnConfiguration() {
         insertStatement.getValues().add(new InsertValue(Collections.<ExpressionSegment>emptyList()));
         when(shardingRule.findGenerateKeyColumnName("tbl")).thenReturn(Optional.of("id1"));
+        when(shardingRule.findShardingEmbeddedColumnName("tbl")).thenReturn(Optional.<String>absent());
+        when(shardingRule.generateKeys("tbl", 1)).thenReturn(Collections.<Comparable<?>>singletonList(1L));
         Optional<GeneratedKey> actual = GeneratedKey.getGenerateKey(shardingRule, Collections.<Object>singletonList(1), insertStatement);
         assertTrue(actual.isPresent());
         assertThat(actual.get().getGeneratedKeys().size(), is(1));
     }
     
+    @Test
+    public void assertGetGenerateKeyWhenCreateWithShardingEmbeddedColumn() {
+        insertStatement.getColumnNames().clear();
+        insertStatement.getColumnNames().add("user_id");
+        insertStatement.getValues().add(new InsertValue(Collections.<ExpressionSegment>singletonList(new ParameterMarkerExpressionSegment(1, 2, 0))));
+        insertStatement.getValues().add(new InsertValue(Collections.<ExpressionSegment>singletonList(new LiteralExpressionSegment(1, 2, 20))));
+        when(shardingRule.findGenerateKeyColumnName("tbl")).thenReturn(Optional.of("order_id"));
+        when(shardingRule.findShardingEmbeddedColumnName("tbl")).thenReturn(Optional.of("user_id"));
+        when(shardingRule.generateKeys("tbl", Arrays.<Comparable<?>>asList(10, 20))).thenReturn(Arrays.<Comparable<?>>asList(1L, 2L));
+        Optional<GeneratedKey> actual = GeneratedKey.getGenerateKey(shardingRule, Collections.<Object>singletonList(10), insertStatement);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getGeneratedKeys(), is(Arrays.<Comparable<?>>asList(1L, 2L)));
+    }
+    
     @Test
     public void assertGetGenerateKeyWhenFind() {
         insertStatement.getValues().add(new InsertValue(Collections.<ExpressionSegment>singletonList(new ParameterMarkerExpressionSegment(1, 2, 0))));
@@ -84,4 +102,16 @@ public final class GeneratedKeyTest {
         assertThat(actual.get().getGeneratedKeys().get(2), is((Comparable) "value"));
         assertTrue(GeneratedKey.getGenerateKey(shardingRule, Collections.<Object>singletonList(1), insertStatement).isPresent());
     }
+    
+    @Test
+    public void assertGetGenerateKeyWhenFindNullValue() {
+        insertStatement.getValues().add(new InsertValue(Collections.<ExpressionSegment>singletonList(new ParameterMarkerExpressionSegment(1, 2, 0))));
+        insertStatement.getValues().add(new InsertValue(Collections.<ExpressionSegment>singletonList(new LiteralExpressionSegment(1, 2, 100))));
+        when(shardingRule.findGenerateKeyColumnName("tbl")).thenReturn(Optional.of("id"));
+        Optional<GeneratedKey> actual = GeneratedKey.getGenerateKey(shardingRule, Collections.<Object>singletonList(null), insertStatement);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getGeneratedKeys().size(), is(2));
+        assertNull(actual.get().getGeneratedKeys().get(0));
+        assertThat(actual.get().getGeneratedKeys().get(1), is((Comparable) 100));
+    }
 }
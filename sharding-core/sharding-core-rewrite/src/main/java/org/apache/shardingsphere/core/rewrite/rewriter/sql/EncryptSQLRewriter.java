@@ -48,6 +48,7 @@ import org.apache.shardingsphere.core.rewrite.token.pojo.InsertValuesToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rule.ColumnNode;
 import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorUtil;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
@@ -60,6 +61,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
 
 /**
  * SQL rewriter encrypt.
@@ -72,11 +74,22 @@ public final class EncryptSQLRewriter implements SQLRewriter {
     
     private final DMLStatement dmlStatement;
     
+    private final ExecutorService executorService;
+    
+    private final int parallelThreshold;
+    
     private final InsertOptimizeResult insertOptimizeResult;
     
     public EncryptSQLRewriter(final ShardingEncryptorEngine encryptorEngine, final DMLStatement dmlStatement, final OptimizeResult optimizeResult) {
+        this(encryptorEngine, dmlStatement, optimizeResult, null, 0);
+    }
+    
+    public EncryptSQLRewriter(final ShardingEncryptorEngine encryptorEngine, final DMLStatement dmlStatement, final OptimizeResult optimizeResult,
+                              final ExecutorService executorService, final int parallelThreshold) {
         this.encryptorEngine = encryptorEngine;
         this.dmlStatement = dmlStatement;
+        this.executorService = executorService;
+        this.parallelThreshold = parallelThreshold;
         this.insertOptimizeResult = getInsertOptimizeResult(optimizeResult);
     }
     
@@ -88,28 +101,34 @@ public final class EncryptSQLRewriter implements SQLRewriter {
         if (!insertOptimizeResult.isPresent()) {
             return null;
         }
-        for (InsertOptimizeResultUnit each : insertOptimizeResult.get().getUnits()) {
-            encryptInsertOptimizeResultUnit(each, insertOptimizeResult.get().getColumnNames());
-        }
-        return insertOptimizeResult.get();
-    }
-    
-    private void encryptInsertOptimizeResultUnit(final InsertOptimizeResultUnit unit, final Collection<String> columnNames) {
-        for (String each : columnNames) {
+        for (String each : insertOptimizeResult.get().getColumnNames()) {
             Optional<ShardingEncryptor> shardingEncryptor = encryptorEngine.getShardingEncryptor(dmlStatement.getTables().getSingleTableName(), each);
             if (shardingEncryptor.isPresent()) {
-                encryptInsertOptimizeResult(unit, each, shardingEncryptor.get());
+                encryptInsertOptimizeResult(insertOptimizeResult.get().getUnits(), each, shardingEncryptor.get());
             }
         }
+        return insertOptimizeResult.get();
     }
     
-    private void encryptInsertOptimizeResult(final InsertOptimizeResultUnit unit, final String columnName, final ShardingEncryptor shardingEncryptor) {
+    private void encryptInsertOptimizeResult(final List<InsertOptimizeResultUnit> units, final String columnName, final ShardingEncryptor shardingEncryptor) {
+        List<Object> plaintexts = new ArrayList<>(units.size());
+        for (InsertOptimizeResultUnit each : units) {
+            plaintexts.add(each.getColumnValue(columnName));
+        }
         if (shardingEncryptor instanceof ShardingQueryAssistedEncryptor) {
             Optional<String> assistedColumnName = encryptorEngine.getAssistedQueryColumn(dmlStatement.getTables().getSingleTableName(), columnName);
             Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
-            unit.setColumnValue(assistedColumnName.get(), ((ShardingQueryAssistedEncryptor) shardingEncryptor).queryAssistedEncrypt(unit.getColumnValue(columnName).toString()));
+            List<String> assistedCiphertexts = ShardingEncryptorUtil.queryAssistedEncrypt((ShardingQueryAssistedEncryptor) shardingEncryptor, plaintexts, executorService, parallelThreshold);
+            int index = 0;
+            for (InsertOptimizeResultUnit each : units) {
+                each.setColumnValue(assistedColumnName.get(), assistedCiphertexts.get(index++));
+            }
+        }
+        List<String> ciphertexts = ShardingEncryptorUtil.encrypt(shardingEncryptor, plaintexts, executorService, parallelThreshold);
+        int index = 0;
+        for (InsertOptimizeResultUnit each : units) {
+            each.setColumnValue(columnName, ciphertexts.get(index++));
         }
-        unit.setColumnValue(columnName, shardingEncryptor.encrypt(unit.getColumnValue(columnName)));
     }
     
     @Override
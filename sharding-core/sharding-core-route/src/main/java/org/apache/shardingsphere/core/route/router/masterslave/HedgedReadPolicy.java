@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.masterslave;
+
+import com.google.common.base.Optional;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hedged read policy for slave routed queries.
+ * 
+ * <p>
+ * Hedge delay is the configured percentile of recent read latencies.
+ * Hedged reads are limited by budget, which is the percentage of hedged reads to all slave reads.
+ * </p>
+ *
+ * @author agent
+ */
+public final class HedgedReadPolicy {
+    
+    static final int SAMPLE_SIZE = 1024;
+    
+    static final int MIN_SAMPLE_COUNT = 100;
+    
+    private static final int REFRESH_INTERVAL = 64;
+    
+    private final int delayPercentile;
+    
+    private final int budgetPercent;
+    
+    private final long[] latencySamples = new long[SAMPLE_SIZE];
+    
+    private long sampleCount;
+    
+    private volatile long hedgeDelayNanos = -1L;
+    
+    private final AtomicLong readCount = new AtomicLong();
+    
+    private final AtomicLong hedgedReadCount = new AtomicLong();
+    
+    public HedgedReadPolicy(final int delayPercentile, final int budgetPercent) {
+        this.delayPercentile = normalizeDelayPercentile(delayPercentile);
+        this.budgetPercent = normalizeBudgetPercent(budgetPercent);
+    }
+    
+    private static int normalizeDelayPercentile(final int delayPercentile) {
+        return Math.max(1, Math.min(100, delayPercentile));
+    }
+    
+    private static int normalizeBudgetPercent(final int budgetPercent) {
+        return Math.max(0, budgetPercent);
+    }
+    
+    /**
+     * Judge whether policy is configured with the same delay percentile and budget percent.
+     *
+     * @param delayPercentile percentile of read latencies used as hedge delay
+     * @param budgetPercent percentage of hedged reads to all slave reads
+     * @return configured with the same values or not
+     */
+    public boolean isConfiguredWith(final int delayPercentile, final int budgetPercent) {
+        return this.delayPercentile == normalizeDelayPercentile(delayPercentile) && this.budgetPercent == normalizeBudgetPercent(budgetPercent);
+    }
+    
+    /**
+     * Record read latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public synchronized void recordLatency(final long latencyNanos) {
+        latencySamples[(int) (sampleCount % SAMPLE_SIZE)] = latencyNanos;
+        sampleCount++;
+        if (sampleCount >= MIN_SAMPLE_COUNT && 0 == (sampleCount - MIN_SAMPLE_COUNT) % REFRESH_INTERVAL) {
+            hedgeDelayNanos = calculatePercentile();
+        }
+    }
+    
+    private long calculatePercentile() {
+        long[] samples = Arrays.copyOf(latencySamples, (int) Math.min(sampleCount, SAMPLE_SIZE));
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(samples.length * delayPercentile / 100.0D) - 1;
+        return samples[Math.max(0, index)];
+    }
+    
+    /**
+     * Get hedge delay.
+     *
+     * @return hedge delay in nanoseconds, absent if not enough latency samples
+     */
+    public Optional<Long> getHedgeDelayNanos() {
+        long result = hedgeDelayNanos;
+        return result < 0L ? Optional.<Long>absent() : Optional.of(result);
+    }
+    
+    /**
+     * Record one slave read.
+     */
+    public void recordRead() {
+        readCount.incrementAndGet();
+    }
+    
+    /**
+     * Try to acquire hedged read from budget.
+     *
+     * @return acquired or not
+     */
+    public boolean tryAcquireHedgedRead() {
+        while (true) {
+            long hedged = hedgedReadCount.get();
+            if ((hedged + 1) * 100 > budgetPercent * readCount.get()) {
+                return false;
+            }
+            if (hedgedReadCount.compareAndSet(hedged, hedged + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.route.router.masterslave;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.parse.entry.MasterSlaveSQLParseEntry;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Master slave router interface.
@@ -69,6 +71,20 @@ public final class MasterSlaveRouter {
                 masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())));
     }
     
+    /**
+     * Route another slave data source for hedged read.
+     *
+     * @param routedDataSourceName data source name already routed
+     * @return another slave data source name, absent if routed data source is not slave or no other slave
+     */
+    public Optional<String> routeHedgedRead(final String routedDataSourceName) {
+        List<String> slaveDataSourceNames = new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames());
+        if (!slaveDataSourceNames.remove(routedDataSourceName) || slaveDataSourceNames.isEmpty()) {
+            return Optional.absent();
+        }
+        return Optional.of(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames));
+    }
+    
     private boolean isMasterRoute(final SQLStatement sqlStatement) {
         return !(sqlStatement instanceof SelectStatement) || MasterVisitedManager.isMasterVisited() || HintManager.isMasterRouteOnly();
     }
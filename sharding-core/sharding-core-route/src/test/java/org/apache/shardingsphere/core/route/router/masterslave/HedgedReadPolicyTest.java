@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.masterslave;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HedgedReadPolicyTest {
+    
+    @Test
+    public void assertGetHedgeDelayWithoutEnoughSamples() {
+        HedgedReadPolicy policy = new HedgedReadPolicy(95, 10);
+        for (int i = 0; i < HedgedReadPolicy.MIN_SAMPLE_COUNT - 1; i++) {
+            policy.recordLatency(i);
+        }
+        assertFalse(policy.getHedgeDelayNanos().isPresent());
+    }
+    
+    @Test
+    public void assertGetHedgeDelay() {
+        HedgedReadPolicy policy = new HedgedReadPolicy(95, 10);
+        for (int i = 1; i <= HedgedReadPolicy.MIN_SAMPLE_COUNT; i++) {
+            policy.recordLatency(i);
+        }
+        assertThat(policy.getHedgeDelayNanos().get(), is(95L));
+    }
+    
+    @Test
+    public void assertTryAcquireHedgedReadWithinBudget() {
+        HedgedReadPolicy policy = new HedgedReadPolicy(95, 10);
+        assertFalse(policy.tryAcquireHedgedRead());
+        for (int i = 0; i < 20; i++) {
+            policy.recordRead();
+        }
+        assertTrue(policy.tryAcquireHedgedRead());
+        assertTrue(policy.tryAcquireHedgedRead());
+        assertFalse(policy.tryAcquireHedgedRead());
+    }
+    
+    @Test
+    public void assertIsConfiguredWith() {
+        HedgedReadPolicy policy = new HedgedReadPolicy(100, 10);
+        assertTrue(policy.isConfiguredWith(100, 10));
+        assertTrue(policy.isConfiguredWith(101, 10));
+        assertFalse(policy.isConfiguredWith(95, 10));
+        assertFalse(policy.isConfiguredWith(100, 20));
+    }
+}
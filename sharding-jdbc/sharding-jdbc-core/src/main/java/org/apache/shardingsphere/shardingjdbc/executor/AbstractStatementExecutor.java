@@ -24,21 +24,31 @@ import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.memory.MemoryAccountant;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+import org.apache.shardingsphere.core.execute.metadata.AlteredTableMetaDataBuilder;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrefetchQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.execute.sql.prepare.StreamingFetchPolicy;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.AlterTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -94,8 +104,12 @@ public class AbstractStatementExecutor {
     @Getter
     private final List<ResultSet> resultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<QueryResult> prefetchQueryResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
     
+    private QueryMemoryAccount memoryAccount;
+    
     public AbstractStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final ShardingConnection shardingConnection) {
         this.databaseType = shardingConnection.getShardingContext().getDatabaseType();
         this.resultSetType = resultSetType;
@@ -134,6 +148,61 @@ public class AbstractStatementExecutor {
         return result;
     }
     
+    protected final void openMemoryAccount() {
+        closeMemoryAccount();
+        memoryAccount = MemoryAccountant.getInstance().newQueryMemoryAccount(connection.getShardingContext().getShardingProperties());
+        memoryAccount.bind();
+    }
+    
+    private void closeMemoryAccount() {
+        if (null != memoryAccount) {
+            memoryAccount.close();
+            memoryAccount = null;
+        }
+    }
+    
+    /**
+     * Apply streaming fetch policy of database to statements of query which are in MEMORY_STRICTLY connection mode.
+     *
+     * @param fetchSize fetch size of logic statement, 0 means not set
+     * @throws SQLException SQL exception
+     */
+    public final void applyStreamingFetchPolicy(final int fetchSize) throws SQLException {
+        ShardingProperties shardingProperties = connection.getShardingContext().getShardingProperties();
+        if (!(sqlStatement instanceof SelectStatement) || !shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.QUERY_STREAMING_ENABLED)) {
+            return;
+        }
+        StreamingFetchPolicy streamingFetchPolicy = StreamingFetchPolicy.valueFrom(databaseType);
+        int actualFetchSize = fetchSize > 0 ? fetchSize : shardingProperties.<Integer>getValue(ShardingPropertiesConstant.QUERY_STREAMING_FETCH_SIZE);
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : executeGroups) {
+            for (StatementExecuteUnit executeUnit : each.getInputs()) {
+                if (ConnectionMode.MEMORY_STRICTLY == executeUnit.getConnectionMode()) {
+                    streamingFetchPolicy.apply(executeUnit.getStatement(), actualFetchSize);
+                }
+            }
+        }
+    }
+    
+    protected final boolean addResultSet(final ResultSet resultSet) {
+        synchronized (resultSets) {
+            boolean result = resultSets.isEmpty();
+            resultSets.add(resultSet);
+            return result;
+        }
+    }
+    
+    protected final QueryResult getStreamQueryResult(final ResultSet resultSet, final StreamQueryResult streamQueryResult, final boolean isFirstResultSet) throws SQLException {
+        if (isFirstResultSet) {
+            streamQueryResult.retainResultSet();
+        }
+        if (!connection.getShardingContext().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.QUERY_RESULT_PREFETCH_ENABLED)) {
+            return streamQueryResult;
+        }
+        QueryResult result = new PrefetchQueryResult(streamQueryResult, resultSet.getFetchSize(), connection.getShardingContext().getExecuteEngine().getPrefetchExecutorService());
+        prefetchQueryResults.add(result);
+        return result;
+    }
+    
     protected final boolean isAccumulate() {
         return !connection.getShardingContext().getShardingRule().isAllBroadcastTables(sqlStatement.getTables().getTableNames());
     }
@@ -144,7 +213,9 @@ public class AbstractStatementExecutor {
      * @throws SQLException sql exception
      */
     public void clear() throws SQLException {
+        closePrefetchQueryResults();
         clearStatements();
+        closeMemoryAccount();
         statements.clear();
         parameterSets.clear();
         connections.clear();
@@ -152,6 +223,13 @@ public class AbstractStatementExecutor {
         executeGroups.clear();
     }
     
+    private void closePrefetchQueryResults() throws SQLException {
+        for (QueryResult each : prefetchQueryResults) {
+            each.close();
+        }
+        prefetchQueryResults.clear();
+    }
+    
     private void clearStatements() throws SQLException {
         for (Statement each : getStatements()) {
             each.close();
@@ -179,7 +257,13 @@ public class AbstractStatementExecutor {
     
     private void refreshTableMetaData(final ShardingContext shardingContext, final AlterTableStatement alterTableStatement) {
         String tableName = alterTableStatement.getTables().getSingleTableName();
-        shardingContext.getMetaData().getTable().put(tableName, getTableMetaDataInitializer().load(tableName, shardingContext.getShardingRule()));
+        ShardingTableMetaData shardingTableMetaData = shardingContext.getMetaData().getTable();
+        if (!shardingTableMetaData.containsTable(tableName)) {
+            shardingTableMetaData.put(tableName, getTableMetaDataInitializer().load(tableName, shardingContext.getShardingRule()));
+            return;
+        }
+        shardingTableMetaData.put(tableName, AlteredTableMetaDataBuilder.build(shardingTableMetaData.get(tableName), alterTableStatement));
+        getTableMetaDataInitializer().revalidateAsynchronously(shardingTableMetaData, tableName, shardingContext.getShardingRule());
     }
     
     private void refreshTableMetaData(final ShardingContext shardingContext, final DropTableStatement dropTableStatement) {
@@ -218,6 +302,7 @@ public class AbstractStatementExecutor {
         return new TableMetaDataInitializer(connection.getShardingContext().getMetaData().getDataSource(), 
                 connection.getShardingContext().getExecuteEngine(), new JDBCTableMetaDataConnectionManager(connection.getDataSourceMap()),
                 shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY),
-                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED),
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.LOAD_TABLE_METADATA_IN_BULK));
     }
 }
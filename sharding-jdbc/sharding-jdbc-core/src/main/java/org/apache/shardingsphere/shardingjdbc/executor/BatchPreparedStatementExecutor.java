@@ -18,10 +18,6 @@
 package org.apache.shardingsphere.shardingjdbc.executor;
 
 import com.google.common.base.Function;
-import com.google.common.base.Optional;
-import com.google.common.base.Predicate;
-import com.google.common.collect.Collections2;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
@@ -41,6 +37,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +54,9 @@ import java.util.Map.Entry;
  */
 public final class BatchPreparedStatementExecutor extends AbstractStatementExecutor {
     
-    private final Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+    private final Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
+    
+    private final Map<Statement, BatchRouteUnit> statementRouteUnits = new HashMap<>();
     
     @Getter
     private final boolean returnGeneratedKeys;
@@ -76,7 +77,12 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public void init(final SQLRouteResult routeResult) throws SQLException {
         setSqlStatement(routeResult.getSqlStatement());
-        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits));
+        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits.values()));
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
+            for (StatementExecuteUnit eachUnit : each.getInputs()) {
+                statementRouteUnits.put(eachUnit.getStatement(), routeUnits.get(eachUnit.getRouteUnit()));
+            }
+        }
     }
     
     private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<BatchRouteUnit> routeUnits) throws SQLException {
@@ -112,45 +118,17 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @param routeResult route result
      */
     public void addBatchForRouteUnits(final SQLRouteResult routeResult) {
-        handleOldRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        handleNewRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        batchCount++;
-    }
-    
-    private Collection<BatchRouteUnit> createBatchRouteUnits(final Collection<RouteUnit> routeUnits) {
-        Collection<BatchRouteUnit> result = new LinkedList<>();
-        for (RouteUnit each : routeUnits) {
-            result.add(new BatchRouteUnit(each));
-        }
-        return result;
-    }
-    
-    private void handleOldRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        for (final BatchRouteUnit each : newRouteUnits) {
-            Optional<BatchRouteUnit> batchRouteUnitOptional = Iterators.tryFind(routeUnits.iterator(), new Predicate<BatchRouteUnit>() {
-                
-                @Override
-                public boolean apply(final BatchRouteUnit input) {
-                    return input.equals(each);
-                }
-            });
-            if (batchRouteUnitOptional.isPresent()) {
-                reviseBatchRouteUnit(batchRouteUnitOptional.get(), each);
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            BatchRouteUnit batchRouteUnit = routeUnits.get(each);
+            if (null == batchRouteUnit) {
+                batchRouteUnit = new BatchRouteUnit(each);
+                routeUnits.put(each, batchRouteUnit);
+            } else {
+                batchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
             }
+            batchRouteUnit.mapAddBatchCount(batchCount);
         }
-    }
-    
-    private void reviseBatchRouteUnit(final BatchRouteUnit oldBatchRouteUnit, final BatchRouteUnit newBatchRouteUnit) {
-        oldBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(newBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters());
-        oldBatchRouteUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        newRouteUnits.removeAll(routeUnits);
-        for (BatchRouteUnit each : newRouteUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        routeUnits.addAll(newRouteUnits);
+        batchCount++;
     }
     
     /**
@@ -178,21 +156,15 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     
     private int[] accumulate(final List<int[]> results) {
         int[] result = new int[batchCount];
-        int count = 0;
+        Iterator<int[]> resultIterator = results.iterator();
         for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
             for (StatementExecuteUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null;
-                for (BatchRouteUnit eachRouteUnit : routeUnits) {
-                    if (eachRouteUnit.getRouteUnit().equals(eachUnit.getRouteUnit())) {
-                        jdbcAndActualAddBatchCallTimesMap = eachRouteUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                int[] unitResult = resultIterator.next();
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = routeUnits.get(eachUnit.getRouteUnit()).getJdbcAndActualAddBatchCallTimesMap();
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
+                    int value = null == unitResult ? 0 : unitResult[entry.getValue()];
                     result[entry.getKey()] += value;
                 }
-                count++;
             }
         }
         return result;
@@ -225,37 +197,8 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @return parameter sets
      */
     public List<List<Object>> getParameterSet(final Statement statement) {
-        List<List<Object>> result = new LinkedList<>();
-        for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
-            Optional<StatementExecuteUnit> target = getStatementExecuteUnit(statement, each);
-            if (target.isPresent()) {
-                result = getParameterSets(target.get());
-                break;
-            }
-        }
-        return result;
-    }
-    
-    private Optional<StatementExecuteUnit> getStatementExecuteUnit(final Statement statement, final ShardingExecuteGroup<StatementExecuteUnit> executeGroup) {
-        return Iterators.tryFind(executeGroup.getInputs().iterator(), new Predicate<StatementExecuteUnit>() {
-            
-            @Override
-            public boolean apply(final StatementExecuteUnit input) {
-                return input.getStatement().equals(statement);
-                }
-        });
-    }
-    
-    private List<List<Object>> getParameterSets(final StatementExecuteUnit executeUnit) {
-        List<List<Object>> result;
-        result = Collections2.filter(routeUnits, new Predicate<BatchRouteUnit>() {
-
-            @Override
-            public boolean apply(final BatchRouteUnit input) {
-                return input.getRouteUnit().equals(executeUnit.getRouteUnit());
-            }
-        }).iterator().next().getParameterSets();
-        return result;
+        BatchRouteUnit batchRouteUnit = statementRouteUnits.get(statement);
+        return null == batchRouteUnit ? new LinkedList<List<Object>>() : batchRouteUnit.getParameterSets();
     }
     
     @Override
@@ -263,6 +206,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         super.clear();
         batchCount = 0;
         routeUnits.clear();
+        statementRouteUnits.clear();
     }
 }
 
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+import org.apache.shardingsphere.core.execute.ShardingExecutorService;
+import org.apache.shardingsphere.core.route.router.masterslave.HedgedReadPolicy;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor for hedged read of slave routed queries.
+ * 
+ * <p>
+ * If the routed slave does not return in hedge delay and the budget allows, the same query is sent to another slave.
+ * The first succeeded result set wins, the other statement is cancelled and closed in background.
+ * Only latency of the routed slave is recorded, because latency of a won hedged read is not the latency of the routed slave.
+ * If the executor is already closed, the query is executed on the routed slave in current thread.
+ * </p>
+ *
+ * @author agent
+ */
+public final class HedgedReadExecutor implements AutoCloseable {
+    
+    private static final String NAME_FORMAT = "HedgedRead-%d";
+    
+    @Getter
+    private final HedgedReadPolicy policy;
+    
+    private final ShardingExecutorService executorService;
+    
+    public HedgedReadExecutor(final HedgedReadPolicy policy) {
+        this.policy = policy;
+        executorService = new ShardingExecutorService(0, NAME_FORMAT);
+    }
+    
+    /**
+     * Execute query with hedged read.
+     *
+     * @param statement statement of routed slave
+     * @param sql SQL
+     * @param hedgedStatementCreator creator of statement for another slave, only called when hedged read is sent
+     * @return result set of first succeeded statement
+     * @throws SQLException SQL exception
+     */
+    public ResultSet executeQuery(final Statement statement, final String sql, final HedgedStatementCreator hedgedStatementCreator) throws SQLException {
+        policy.recordRead();
+        long startTime = System.nanoTime();
+        Optional<Long> hedgeDelayNanos = policy.getHedgeDelayNanos();
+        if (!hedgeDelayNanos.isPresent()) {
+            return executeQueryDirectly(statement, sql, startTime);
+        }
+        CompletionService<ResultSet> completionService = new ExecutorCompletionService<>(executorService.getExecutorService());
+        Future<ResultSet> routedQuery;
+        try {
+            routedQuery = completionService.submit(createQueryTask(statement, sql));
+        } catch (final RejectedExecutionException ex) {
+            return executeQueryDirectly(statement, sql, startTime);
+        }
+        Map<Future<ResultSet>, Statement> runningQueries = new HashMap<>(2, 1);
+        runningQueries.put(routedQuery, statement);
+        try {
+            Future<ResultSet> completedQuery = completionService.poll(hedgeDelayNanos.get(), TimeUnit.NANOSECONDS);
+            if (null == completedQuery && policy.tryAcquireHedgedRead()) {
+                Statement hedgedStatement = hedgedStatementCreator.create();
+                if (null != hedgedStatement) {
+                    submitHedgedQuery(completionService, runningQueries, hedgedStatement, sql);
+                }
+            }
+            return getFirstSucceededResult(completionService, completedQuery, routedQuery, runningQueries, startTime);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel(runningQueries.entrySet());
+            throw new SQLException(ex);
+        }
+    }
+    
+    private ResultSet executeQueryDirectly(final Statement statement, final String sql, final long startTime) throws SQLException {
+        ResultSet result = statement.executeQuery(sql);
+        policy.recordLatency(System.nanoTime() - startTime);
+        return result;
+    }
+    
+    private void submitHedgedQuery(final CompletionService<ResultSet> completionService, final Map<Future<ResultSet>, Statement> runningQueries, final Statement hedgedStatement, final String sql) {
+        try {
+            runningQueries.put(completionService.submit(createQueryTask(hedgedStatement, sql)), hedgedStatement);
+        } catch (final RejectedExecutionException ex) {
+            close(hedgedStatement);
+        }
+    }
+    
+    private Callable<ResultSet> createQueryTask(final Statement statement, final String sql) {
+        return new Callable<ResultSet>() {
+            
+            @Override
+            public ResultSet call() throws SQLException {
+                return statement.executeQuery(sql);
+            }
+        };
+    }
+    
+    private ResultSet getFirstSucceededResult(final CompletionService<ResultSet> completionService, final Future<ResultSet> completedQuery, final Future<ResultSet> routedQuery, 
+                                              final Map<Future<ResultSet>, Statement> runningQueries, final long startTime) throws InterruptedException, SQLException {
+        SQLException failure = null;
+        Future<ResultSet> each = null == completedQuery ? completionService.take() : completedQuery;
+        while (true) {
+            runningQueries.remove(each);
+            try {
+                ResultSet result = each.get();
+                if (routedQuery == each) {
+                    policy.recordLatency(System.nanoTime() - startTime);
+                }
+                cancel(runningQueries.entrySet());
+                return result;
+            } catch (final ExecutionException ex) {
+                failure = ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+            }
+            if (runningQueries.isEmpty()) {
+                throw failure;
+            }
+            each = completionService.take();
+        }
+    }
+    
+    private void cancel(final Collection<Entry<Future<ResultSet>, Statement>> runningQueries) {
+        for (final Entry<Future<ResultSet>, Statement> each : runningQueries) {
+            try {
+                executorService.getExecutorService().execute(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        cancel(each.getValue());
+                        try {
+                            each.getKey().get();
+                        } catch (final InterruptedException | ExecutionException ignore) {
+                        }
+                        close(each.getValue());
+                    }
+                });
+            } catch (final RejectedExecutionException ex) {
+                cancel(each.getValue());
+                close(each.getValue());
+            }
+        }
+    }
+    
+    private void cancel(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    private void close(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    @Override
+    public void close() {
+        executorService.close();
+    }
+}
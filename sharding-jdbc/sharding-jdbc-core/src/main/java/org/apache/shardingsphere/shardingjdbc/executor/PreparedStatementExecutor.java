@@ -99,6 +99,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      * @throws SQLException SQL exception
      */
     public List<QueryResult> executeQuery() throws SQLException {
+        openMemoryAccount();
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         SQLExecuteCallback<QueryResult> executeCallback = new SQLExecuteCallback<QueryResult>(getDatabaseType(), isExceptionThrown) {
             
@@ -114,8 +115,8 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         PreparedStatement preparedStatement = (PreparedStatement) statement;
         ResultSet resultSet = preparedStatement.executeQuery();
         ShardingRule shardingRule = getConnection().getShardingContext().getShardingRule();
-        getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new StreamQueryResult(resultSet, shardingRule) 
+        boolean isFirstResultSet = addResultSet(resultSet);
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? getStreamQueryResult(resultSet, new StreamQueryResult(resultSet, shardingRule), isFirstResultSet) 
                 : new MemoryQueryResult(resultSet, shardingRule);
     }
     
@@ -151,6 +152,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      * @throws SQLException SQL exception
      */
     public boolean execute() throws SQLException {
+        openMemoryAccount();
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         SQLExecuteCallback<Boolean> executeCallback = SQLExecuteCallbackFactory.getPreparedSQLExecuteCallback(getDatabaseType(), isExceptionThrown);
         List<Boolean> result = executeCallback(executeCallback);
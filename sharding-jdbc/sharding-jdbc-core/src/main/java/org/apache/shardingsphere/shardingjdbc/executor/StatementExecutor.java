@@ -88,6 +88,7 @@ public final class StatementExecutor extends AbstractStatementExecutor {
      * @throws SQLException SQL exception
      */
     public List<QueryResult> executeQuery() throws SQLException {
+        openMemoryAccount();
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         SQLExecuteCallback<QueryResult> executeCallback = new SQLExecuteCallback<QueryResult>(getDatabaseType(), isExceptionThrown) {
             
@@ -102,8 +103,8 @@ public final class StatementExecutor extends AbstractStatementExecutor {
     private QueryResult getQueryResult(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
         ResultSet resultSet = statement.executeQuery(routeUnit.getSqlUnit().getSql());
         ShardingRule shardingRule = getConnection().getShardingContext().getShardingRule();
-        getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new StreamQueryResult(resultSet, shardingRule) 
+        boolean isFirstResultSet = addResultSet(resultSet);
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? getStreamQueryResult(resultSet, new StreamQueryResult(resultSet, shardingRule), isFirstResultSet) 
                 : new MemoryQueryResult(resultSet, shardingRule);
     }
     
@@ -267,6 +268,7 @@ public final class StatementExecutor extends AbstractStatementExecutor {
     }
     
     private boolean execute(final Executor executor) throws SQLException {
+        openMemoryAccount();
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         SQLExecuteCallback<Boolean> executeCallback = new SQLExecuteCallback<Boolean>(getDatabaseType(), isExceptionThrown) {
             
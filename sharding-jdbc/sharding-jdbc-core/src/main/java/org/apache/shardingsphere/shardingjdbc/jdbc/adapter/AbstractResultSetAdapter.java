@@ -76,15 +76,21 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
-            
-            @Override
-            public void execute(final ResultSet resultSet) throws SQLException {
-                resultSet.close();
-            }
-        });
+        try {
+            closeMergedResult();
+        } finally {
+            forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+                
+                @Override
+                public void execute(final ResultSet resultSet) throws SQLException {
+                    resultSet.close();
+                }
+            });
+        }
     }
     
+    protected abstract void closeMergedResult() throws SQLException;
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core;
 
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshot;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -32,6 +35,7 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataCon
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import javax.sql.DataSource;
+import java.io.File;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -71,7 +75,7 @@ public final class ShardingContext implements AutoCloseable {
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
         executeEngine = new ShardingExecuteEngine(executorSize);
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData));
         metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
         parsingResultCache = new ParsingResultCache();
     }
@@ -96,10 +100,21 @@ public final class ShardingContext implements AutoCloseable {
         }
     }
     
+    private ShardingTableMetaData createShardingTableMetaData(final TableMetaDataInitializer tableMetaDataInitializer) {
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.LOAD_TABLE_METADATA_LAZILY)) {
+            String eagerLoadedTables = shardingProperties.getValue(ShardingPropertiesConstant.EAGER_LOADED_TABLES);
+            return tableMetaDataInitializer.loadLazily(shardingRule, Splitter.on(",").trimResults().omitEmptyStrings().splitToList(eagerLoadedTables));
+        }
+        String snapshotFile = shardingProperties.getValue(ShardingPropertiesConstant.TABLE_METADATA_SNAPSHOT_FILE);
+        return Strings.isNullOrEmpty(snapshotFile)
+                ? new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule)) : tableMetaDataInitializer.load(shardingRule, new TableMetaDataSnapshot(new File(snapshotFile)));
+    }
+    
     private TableMetaDataInitializer getTableMetaDataInitializer(final Map<String, DataSource> dataSourceMap, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         return new TableMetaDataInitializer(shardingDataSourceMetaData, executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap),
                 shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY),
-                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED),
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.LOAD_TABLE_METADATA_IN_BULK));
     }
     
     @Override
@@ -20,8 +20,11 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.parse.entry.MasterSlaveSQLParseEntry;
+import org.apache.shardingsphere.core.route.router.masterslave.HedgedReadPolicy;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.shardingjdbc.executor.HedgedReadExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractDataSourceAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
@@ -51,20 +54,46 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
     
     private final ShardingProperties shardingProperties;
     
+    private final HedgedReadExecutor hedgedReadExecutor;
+    
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRuleConfiguration masterSlaveRuleConfig, final Properties props) throws SQLException {
         super(dataSourceMap);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
         this.masterSlaveRule = new MasterSlaveRule(masterSlaveRuleConfig);
         parseEngine = new MasterSlaveSQLParseEntry(getDatabaseType());
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        hedgedReadExecutor = createHedgedReadExecutor(shardingProperties);
     }
     
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRule masterSlaveRule, final Properties props) throws SQLException {
+        this(dataSourceMap, masterSlaveRule, props, null);
+    }
+    
+    public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRule masterSlaveRule, final Properties props, 
+                                 final HedgedReadExecutor previousHedgedReadExecutor) throws SQLException {
         super(dataSourceMap);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
         this.masterSlaveRule = masterSlaveRule;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
         parseEngine = new MasterSlaveSQLParseEntry(getDatabaseType());
+        hedgedReadExecutor = createHedgedReadExecutor(shardingProperties, previousHedgedReadExecutor);
+    }
+    
+    private HedgedReadExecutor createHedgedReadExecutor(final ShardingProperties shardingProperties) {
+        return createHedgedReadExecutor(shardingProperties, null);
+    }
+    
+    private HedgedReadExecutor createHedgedReadExecutor(final ShardingProperties shardingProperties, final HedgedReadExecutor previousHedgedReadExecutor) {
+        boolean enabled = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.MASTER_SLAVE_HEDGED_READ_ENABLED);
+        int delayPercentile = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MASTER_SLAVE_HEDGED_READ_DELAY_PERCENTILE);
+        int budgetPercent = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MASTER_SLAVE_HEDGED_READ_BUDGET_PERCENT);
+        if (null != previousHedgedReadExecutor) {
+            if (enabled && previousHedgedReadExecutor.getPolicy().isConfiguredWith(delayPercentile, budgetPercent)) {
+                return previousHedgedReadExecutor;
+            }
+            previousHedgedReadExecutor.close();
+        }
+        return enabled ? new HedgedReadExecutor(new HedgedReadPolicy(delayPercentile, budgetPercent)) : null;
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -77,4 +106,16 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
     public final MasterSlaveConnection getConnection() {
         return new MasterSlaveConnection(this, getDataSourceMap(), parseEngine);
     }
+    
+    @Override
+    public final void close() throws Exception {
+        super.close();
+        closeHedgedReadExecutor();
+    }
+    
+    private void closeHedgedReadExecutor() {
+        if (null != hedgedReadExecutor) {
+            hedgedReadExecutor.close();
+        }
+    }
 }
@@ -57,8 +57,9 @@ public final class EncryptResultSet extends AbstractUnsupportedOperationResultSe
     public EncryptResultSet(final Statement encryptStatement, final ResultSet resultSet, final EncryptRule encryptRule) {
         this.encryptStatement = encryptStatement;
         originalResultSet = resultSet;
-        QueryResult queryResult = new StreamQueryResult(resultSet, encryptRule);
-        this.resultSet = new IteratorStreamMergedResult(Collections.singletonList(queryResult));
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet, encryptRule);
+        queryResult.retainResultSet();
+        this.resultSet = new IteratorStreamMergedResult(Collections.<QueryResult>singletonList(queryResult));
     }
     
     @Override
@@ -347,7 +348,11 @@ public final class EncryptResultSet extends AbstractUnsupportedOperationResultSe
     
     @Override
     public void close() throws SQLException {
-        originalResultSet.close();
+        try {
+            resultSet.close();
+        } finally {
+            originalResultSet.close();
+        }
     }
     
     @Override
@@ -51,6 +51,11 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         this.mergeResultSet = mergeResultSet;
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
@@ -93,7 +98,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public int getInt(final int columnIndex) throws SQLException {
-        return (int) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, int.class), int.class);
+        return mergeResultSet.getInt(columnIndex);
     }
     
     @Override
@@ -103,7 +108,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public long getLong(final int columnIndex) throws SQLException {
-        return (long) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, long.class), long.class);
+        return mergeResultSet.getLong(columnIndex);
     }
     
     @Override
@@ -123,7 +128,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
-        return (double) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, double.class), double.class);
+        return mergeResultSet.getDouble(columnIndex);
     }
     
     @Override
@@ -212,7 +217,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
         return (Time) ResultSetUtil.convertValue(mergeResultSet.getCalendarValue(columnLabel, Time.class, cal), Time.class);
     }
-            
+    
     @Override
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
         return (Timestamp) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, Timestamp.class), Timestamp.class);
@@ -289,7 +294,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Clob getClob(final int columnIndex) throws SQLException {
         return (Clob) mergeResultSet.getValue(columnIndex, Clob.class);
     }
-        
+    
     @Override
     public Clob getClob(final String columnLabel) throws SQLException {
         return (Clob) mergeResultSet.getValue(columnLabel, Clob.class);
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.shardingjdbc.executor.HedgedReadExecutor;
+import org.apache.shardingsphere.shardingjdbc.executor.HedgedStatementCreator;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 
@@ -76,9 +79,30 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         clearPrevious();
         Collection<String> dataSourceNames = masterSlaveRouter.route(sql, false);
         Preconditions.checkState(1 == dataSourceNames.size(), "Cannot support executeQuery for DML or DDL");
-        Statement statement = connection.getConnection(dataSourceNames.iterator().next()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        final String dataSourceName = dataSourceNames.iterator().next();
+        Statement statement = connection.getConnection(dataSourceName).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
         routedStatements.add(statement);
-        return statement.executeQuery(sql);
+        HedgedReadExecutor hedgedReadExecutor = connection.getMasterSlaveDataSource().getHedgedReadExecutor();
+        if (null == hedgedReadExecutor || !isHedgedReadAvailable(dataSourceName)) {
+            return statement.executeQuery(sql);
+        }
+        ResultSet result = hedgedReadExecutor.executeQuery(statement, sql, new HedgedStatementCreator() {
+            
+            @Override
+            public Statement create() throws SQLException {
+                Optional<String> hedgedDataSourceName = masterSlaveRouter.routeHedgedRead(dataSourceName);
+                return hedgedDataSourceName.isPresent()
+                        ? connection.getConnection(hedgedDataSourceName.get()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability) : null;
+            }
+        });
+        routedStatements.clear();
+        routedStatements.add(result.getStatement());
+        return result;
+    }
+    
+    private boolean isHedgedReadAvailable(final String dataSourceName) {
+        Collection<String> slaveDataSourceNames = connection.getMasterSlaveDataSource().getMasterSlaveRule().getSlaveDataSourceNames();
+        return slaveDataSourceNames.size() > 1 && slaveDataSourceNames.contains(dataSourceName);
     }
     
     @Override
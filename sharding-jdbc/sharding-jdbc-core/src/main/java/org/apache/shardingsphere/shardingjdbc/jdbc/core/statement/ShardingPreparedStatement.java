@@ -95,7 +95,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingContext();
         shardingEngine = new PreparedQueryShardingEngine(sql, shardingContext.getShardingRule(), 
-                shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
+                shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache(), shardingContext.getExecuteEngine());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
@@ -108,7 +108,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             shard();
             initPreparedStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery(), connection.getShardingContext().getExecuteEngine());
             result = getResultSet(mergeEngine);
         } finally {
             clearBatch();
@@ -130,12 +130,16 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         List<QueryResult> queryResults = new ArrayList<>(preparedStatementExecutor.getStatements().size());
         for (Statement each : preparedStatementExecutor.getStatements()) {
             ResultSet resultSet = each.getResultSet();
+            StreamQueryResult queryResult = new StreamQueryResult(resultSet, connection.getShardingContext().getShardingRule());
+            if (resultSets.isEmpty()) {
+                queryResult.retainResultSet();
+            }
             resultSets.add(resultSet);
-            queryResults.add(new StreamQueryResult(resultSet, connection.getShardingContext().getShardingRule()));
+            queryResults.add(queryResult);
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults, connection.getShardingContext().getExecuteEngine());
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -196,6 +200,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     private void initPreparedStatementExecutor() throws SQLException {
         preparedStatementExecutor.init(routeResult);
         setParametersForStatements();
+        replayMethodForStatements(preparedStatementExecutor.getStatements());
+        preparedStatementExecutor.applyStreamingFetchPolicy(getFetchSize());
     }
     
     private void setParametersForStatements() {
@@ -204,6 +210,12 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
     }
     
+    private void replayMethodForStatements(final Collection<Statement> statements) {
+        for (Statement each : statements) {
+            replayMethodsInvocation(each);
+        }
+    }
+    
     private void clearPrevious() throws SQLException {
         preparedStatementExecutor.clear();
     }
@@ -236,6 +248,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     private void initBatchPreparedStatementExecutor() throws SQLException {
         batchPreparedStatementExecutor.init(routeResult);
         setBatchParametersForStatements();
+        replayMethodForStatements(batchPreparedStatementExecutor.getStatements());
     }
     
     private void setBatchParametersForStatements() throws SQLException {
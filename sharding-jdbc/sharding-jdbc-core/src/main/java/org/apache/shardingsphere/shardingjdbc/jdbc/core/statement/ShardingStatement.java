@@ -89,7 +89,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
             shard(sql);
             initStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery(), connection.getShardingContext().getExecuteEngine());
             result = getResultSet(mergeEngine);
         } finally {
             currentResultSet = null;
@@ -111,12 +111,16 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         List<QueryResult> queryResults = new ArrayList<>(statementExecutor.getStatements().size());
         for (Statement each : statementExecutor.getStatements()) {
             ResultSet resultSet = each.getResultSet();
+            StreamQueryResult queryResult = new StreamQueryResult(resultSet, connection.getShardingContext().getShardingRule());
+            if (resultSets.isEmpty()) {
+                queryResult.retainResultSet();
+            }
             resultSets.add(resultSet);
-            queryResults.add(new StreamQueryResult(resultSet, connection.getShardingContext().getShardingRule()));
+            queryResults.add(queryResult);
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), connection.getShardingContext().getShardingProperties(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults, connection.getShardingContext().getExecuteEngine());
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
         return currentResultSet;
@@ -239,6 +243,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private void initStatementExecutor() throws SQLException {
         statementExecutor.init(routeResult);
         replayMethodForStatements();
+        statementExecutor.applyStreamingFetchPolicy(getFetchSize());
     }
     
     private void replayMethodForStatements() {
@@ -250,7 +255,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private void shard(final String sql) {
         ShardingContext shardingContext = connection.getShardingContext();
         SimpleQueryShardingEngine shardingEngine = new SimpleQueryShardingEngine(shardingContext.getShardingRule(), 
-                shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
+                shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache(), shardingContext.getExecuteEngine());
         routeResult = shardingEngine.shard(sql, Collections.emptyList());
     }
     
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.route.BatchRouteUnit;
 import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.junit.Test;
 
@@ -31,14 +32,19 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -121,24 +127,63 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertAddBatchForRouteUnits() throws ReflectiveOperationException {
+        actual.addBatchForRouteUnits(createSQLRouteResult(new RouteUnit("ds_0", new SQLUnit(SQL, new LinkedList<Object>(Collections.singletonList(1)))),
+                new RouteUnit("ds_1", new SQLUnit(SQL, new LinkedList<Object>(Collections.singletonList(1))))));
+        actual.addBatchForRouteUnits(createSQLRouteResult(new RouteUnit("ds_0", new SQLUnit(SQL, new LinkedList<Object>(Collections.singletonList(2))))));
+        Field field = BatchPreparedStatementExecutor.class.getDeclaredField("routeUnits");
+        field.setAccessible(true);
+        Map<RouteUnit, BatchRouteUnit> routeUnits = (Map<RouteUnit, BatchRouteUnit>) field.get(actual);
+        assertThat(routeUnits.size(), is(2));
+        BatchRouteUnit batchRouteUnit = routeUnits.get(new RouteUnit("ds_0", new SQLUnit(SQL, Collections.emptyList())));
+        assertThat(batchRouteUnit.getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2))));
+        assertThat(batchRouteUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+        assertThat(routeUnits.get(new RouteUnit("ds_1", new SQLUnit(SQL, Collections.emptyList()))).getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(1))));
+    }
+    
+    private SQLRouteResult createSQLRouteResult(final RouteUnit... routeUnits) {
+        SQLRouteResult result = new SQLRouteResult(null);
+        result.getRouteUnits().addAll(Arrays.asList(routeUnits));
+        return result;
+    }
+    
+    @Test
+    public void assertGetParameterSet() {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        Map<Statement, BatchRouteUnit> statementRouteUnits = new HashMap<>();
+        statementRouteUnits.put(preparedStatement, new BatchRouteUnit(new RouteUnit("ds_0", new SQLUnit(SQL, Collections.<Object>singletonList(1)))));
+        setField("statementRouteUnits", statementRouteUnits);
+        assertThat(actual.getParameterSet(preparedStatement).size(), is(1));
+        assertTrue(actual.getParameterSet(mock(PreparedStatement.class)).isEmpty());
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) throws SQLException {
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new ShardingExecuteGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit(SQL, Collections.singletonList((Object) 1)));
             BatchRouteUnit batchRouteUnit = new BatchRouteUnit(routeUnit);
             batchRouteUnit.mapAddBatchCount(0);
             batchRouteUnit.mapAddBatchCount(1);
-            routeUnits.add(batchRouteUnit);
+            routeUnits.put(routeUnit, batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(routeUnit, each, ConnectionMode.MEMORY_STRICTLY));
         }
         setFields(executeGroups, routeUnits);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setField(final String fieldName, final Object value) {
+        Field field = BatchPreparedStatementExecutor.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(actual, value);
+    }
+    
+    @SneakyThrows
+    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Map<RouteUnit, BatchRouteUnit> routeUnits) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.executor;
+
+import org.apache.shardingsphere.core.route.router.masterslave.HedgedReadPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class HedgedReadExecutorTest {
+    
+    private static final String SQL = "SELECT * FROM table_0";
+    
+    private HedgedReadPolicy policy;
+    
+    private HedgedReadExecutor hedgedReadExecutor;
+    
+    @Before
+    public void setUp() {
+        policy = new HedgedReadPolicy(50, 100);
+        hedgedReadExecutor = new HedgedReadExecutor(policy);
+    }
+    
+    @After
+    public void tearDown() {
+        hedgedReadExecutor.close();
+    }
+    
+    @Test
+    public void assertExecuteQueryWithoutLatencySamples() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet expected = mock(ResultSet.class);
+        when(statement.executeQuery(SQL)).thenReturn(expected);
+        HedgedStatementCreator hedgedStatementCreator = mock(HedgedStatementCreator.class);
+        assertThat(hedgedReadExecutor.executeQuery(statement, SQL, hedgedStatementCreator), is(expected));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithHedgedRead() throws SQLException {
+        for (int i = 0; i < 100; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(10L));
+        }
+        final CountDownLatch cancelLatch = new CountDownLatch(1);
+        Statement slowStatement = mock(Statement.class);
+        when(slowStatement.executeQuery(SQL)).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) throws InterruptedException {
+                cancelLatch.await(5L, TimeUnit.SECONDS);
+                return mock(ResultSet.class);
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                cancelLatch.countDown();
+                return null;
+            }
+        }).when(slowStatement).cancel();
+        final Statement fastStatement = mock(Statement.class);
+        ResultSet expected = mock(ResultSet.class);
+        when(fastStatement.executeQuery(SQL)).thenReturn(expected);
+        ResultSet actual = hedgedReadExecutor.executeQuery(slowStatement, SQL, new HedgedStatementCreator() {
+            
+            @Override
+            public Statement create() {
+                return fastStatement;
+            }
+        });
+        assertThat(actual, is(expected));
+        verify(slowStatement, timeout(5000L)).close();
+    }
+    
+    @Test
+    public void assertExecuteQueryWithHedgedReadNotRecordLatency() throws SQLException {
+        policy = new HedgedReadPolicy(100, 100);
+        hedgedReadExecutor.close();
+        hedgedReadExecutor = new HedgedReadExecutor(policy);
+        long hedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(1L);
+        for (int i = 0; i < 163; i++) {
+            policy.recordLatency(hedgeDelayNanos);
+        }
+        assertThat(policy.getHedgeDelayNanos().get(), is(hedgeDelayNanos));
+        final CountDownLatch cancelLatch = new CountDownLatch(1);
+        Statement slowStatement = mock(Statement.class);
+        when(slowStatement.executeQuery(SQL)).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) throws InterruptedException {
+                cancelLatch.await(5L, TimeUnit.SECONDS);
+                return mock(ResultSet.class);
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                cancelLatch.countDown();
+                return null;
+            }
+        }).when(slowStatement).cancel();
+        final Statement fastStatement = mock(Statement.class);
+        ResultSet expected = mock(ResultSet.class);
+        when(fastStatement.executeQuery(SQL)).thenReturn(expected);
+        assertThat(hedgedReadExecutor.executeQuery(slowStatement, SQL, new HedgedStatementCreator() {
+            
+            @Override
+            public Statement create() {
+                return fastStatement;
+            }
+        }), is(expected));
+        assertThat(policy.getHedgeDelayNanos().get(), is(hedgeDelayNanos));
+    }
+    
+    @Test
+    public void assertExecuteQueryAfterClosed() throws SQLException {
+        for (int i = 0; i < 100; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(10L));
+        }
+        hedgedReadExecutor.close();
+        Statement statement = mock(Statement.class);
+        ResultSet expected = mock(ResultSet.class);
+        when(statement.executeQuery(SQL)).thenReturn(expected);
+        HedgedStatementCreator hedgedStatementCreator = mock(HedgedStatementCreator.class);
+        assertThat(hedgedReadExecutor.executeQuery(statement, SQL, hedgedStatementCreator), is(expected));
+    }
+}
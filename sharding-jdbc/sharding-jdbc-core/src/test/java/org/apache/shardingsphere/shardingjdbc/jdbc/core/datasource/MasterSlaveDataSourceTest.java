@@ -20,9 +20,11 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource;
 import org.apache.shardingsphere.api.config.masterslave.LoadBalanceStrategyConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
 import org.apache.shardingsphere.core.spi.database.H2DatabaseType;
 import org.apache.shardingsphere.shardingjdbc.api.MasterSlaveDataSourceFactory;
+import org.apache.shardingsphere.shardingjdbc.executor.HedgedReadExecutor;
 import org.apache.shardingsphere.shardingjdbc.fixture.TestDataSource;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -43,7 +45,9 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -139,4 +143,35 @@ public final class MasterSlaveDataSourceTest {
         assertThat(connection.getDataSourceMap().values().size(), is(2));
         assertThat(connection.getTransactionType(), is(TransactionType.LOCAL));
     }
+    
+    @Test
+    public void assertRenewWithSameHedgedReadProperties() throws SQLException {
+        MasterSlaveDataSource previousDataSource = createHedgedReadDataSource(95, null);
+        MasterSlaveDataSource actual = createHedgedReadDataSource(95, previousDataSource.getHedgedReadExecutor());
+        assertThat(actual.getHedgedReadExecutor(), is(previousDataSource.getHedgedReadExecutor()));
+        actual.getHedgedReadExecutor().close();
+    }
+    
+    @Test
+    public void assertRenewWithChangedHedgedReadProperties() throws SQLException {
+        MasterSlaveDataSource previousDataSource = createHedgedReadDataSource(95, null);
+        MasterSlaveDataSource actual = createHedgedReadDataSource(99, previousDataSource.getHedgedReadExecutor());
+        assertThat(actual.getHedgedReadExecutor(), not(previousDataSource.getHedgedReadExecutor()));
+        actual.getHedgedReadExecutor().close();
+    }
+    
+    @Test
+    public void assertRenewWithHedgedReadDisabled() throws SQLException {
+        MasterSlaveDataSource previousDataSource = createHedgedReadDataSource(95, null);
+        MasterSlaveDataSource actual = new MasterSlaveDataSource(
+                masterSlaveDataSource.getDataSourceMap(), masterSlaveDataSource.getMasterSlaveRule(), new Properties(), previousDataSource.getHedgedReadExecutor());
+        assertNull(actual.getHedgedReadExecutor());
+    }
+    
+    private MasterSlaveDataSource createHedgedReadDataSource(final int delayPercentile, final HedgedReadExecutor previousHedgedReadExecutor) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MASTER_SLAVE_HEDGED_READ_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ShardingPropertiesConstant.MASTER_SLAVE_HEDGED_READ_DELAY_PERCENTILE.getKey(), String.valueOf(delayPercentile));
+        return new MasterSlaveDataSource(masterSlaveDataSource.getDataSourceMap(), masterSlaveDataSource.getMasterSlaveRule(), props, previousHedgedReadExecutor);
+    }
 }
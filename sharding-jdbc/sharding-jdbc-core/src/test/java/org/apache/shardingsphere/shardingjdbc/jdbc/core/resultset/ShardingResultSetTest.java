@@ -146,7 +146,7 @@ public final class ShardingResultSetTest {
     
     @Test
     public void assertGetIntWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, int.class)).thenReturn(1);
+        when(mergeResultSet.getInt(1)).thenReturn(1);
         assertThat(shardingResultSet.getInt(1), is(1));
     }
     
@@ -158,7 +158,7 @@ public final class ShardingResultSetTest {
     
     @Test
     public void assertGetLongWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, long.class)).thenReturn(1L);
+        when(mergeResultSet.getLong(1)).thenReturn(1L);
         assertThat(shardingResultSet.getLong(1), is(1L));
     }
     
@@ -182,7 +182,7 @@ public final class ShardingResultSetTest {
     
     @Test
     public void assertGetDoubleWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, double.class)).thenReturn(1D);
+        when(mergeResultSet.getDouble(1)).thenReturn(1D);
         assertThat(shardingResultSet.getDouble(1), is(1D));
     }
     
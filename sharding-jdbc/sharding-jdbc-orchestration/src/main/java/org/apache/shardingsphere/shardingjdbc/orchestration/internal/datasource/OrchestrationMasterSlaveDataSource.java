@@ -92,7 +92,8 @@ public class OrchestrationMasterSlaveDataSource extends AbstractOrchestrationDat
     @SneakyThrows
     public final synchronized void renew(final MasterSlaveRuleChangedEvent masterSlaveRuleChangedEvent) {
         dataSource = new MasterSlaveDataSource(
-                dataSource.getDataSourceMap(), new OrchestrationMasterSlaveRule(masterSlaveRuleChangedEvent.getMasterSlaveRuleConfiguration()), dataSource.getShardingProperties().getProps());
+                dataSource.getDataSourceMap(), new OrchestrationMasterSlaveRule(masterSlaveRuleChangedEvent.getMasterSlaveRuleConfiguration()), dataSource.getShardingProperties().getProps(), 
+                dataSource.getHedgedReadExecutor());
     }
     
     /**
@@ -107,7 +108,7 @@ public class OrchestrationMasterSlaveDataSource extends AbstractOrchestrationDat
         dataSource.close(getDeletedDataSources(dataSourceConfigurations));
         dataSource.close(getModifiedDataSources(dataSourceConfigurations).keySet());
         dataSource = new MasterSlaveDataSource(getChangedDataSources(dataSource.getDataSourceMap(), 
-                dataSourceConfigurations), dataSource.getMasterSlaveRule(), dataSource.getShardingProperties().getProps());
+                dataSourceConfigurations), dataSource.getMasterSlaveRule(), dataSource.getShardingProperties().getProps(), dataSource.getHedgedReadExecutor());
         getDataSourceConfigurations().clear();
         getDataSourceConfigurations().putAll(dataSourceConfigurations);
     }
@@ -120,7 +121,7 @@ public class OrchestrationMasterSlaveDataSource extends AbstractOrchestrationDat
     @SneakyThrows
     @Subscribe
     public final synchronized void renew(final PropertiesChangedEvent propertiesChangedEvent) {
-        dataSource = new MasterSlaveDataSource(dataSource.getDataSourceMap(), dataSource.getMasterSlaveRule(), propertiesChangedEvent.getProps());
+        dataSource = new MasterSlaveDataSource(dataSource.getDataSourceMap(), dataSource.getMasterSlaveRule(), propertiesChangedEvent.getProps(), dataSource.getHedgedReadExecutor());
     }
     
     /**
@@ -20,21 +20,34 @@ package org.apache.shardingsphere.orchestration.internal.keygen;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
 import org.apache.shardingsphere.orchestration.internal.registry.RegistryCenterServiceLoader;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Key generator implemented by leaf segment algorithms.
  *
+ * <p>
+ * Ids are handed out from current segment by atomic counter.
+ * Next segment is allocated from registry center asynchronously when current segment is half consumed, so that switching segment rarely waits for registry center.
+ * Step of segment is doubled if one segment is consumed in less than segment duration, and is halved down to configured step if it lasts more than twice of segment duration.
+ * Value stored in registry center is the next id which has not been allocated.
+ * </p>
+ *
  * @author wangguangyuan
  */
 public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
@@ -55,17 +68,25 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
 
     private static final float THRESHOLD = 0.5F;
 
-    private boolean isInitialized = Boolean.FALSE;
+    private static final long SEGMENT_DURATION_MILLISECONDS = 15 * 60 * 1000L;
+
+    private static final long MAX_STEP = 1000000L;
+
+    private static final int MAX_LOCK_RETRY_TIMES = 10;
+
+    private final AtomicReference<FutureTask<Segment>> nextSegment = new AtomicReference<>();
+
+    private volatile Segment currentSegment;
 
     private RegistryCenter leafRegistryCenter;
 
-    private long id;
+    private String leafKey;
 
-    private ExecutorService incrementCacheIdExecutor;
+    private long minStep;
 
-    private SynchronousQueue<Long> cacheIdQueue;
+    private long skippedStep;
 
-    private long step;
+    private ExecutorService incrementCacheIdExecutor;
 
     @Getter
     @Setter
@@ -77,90 +98,110 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
     }
 
     @Override
-    public synchronized Comparable<?> generateKey() {
-        String leafKey = getLeafKey();
-        if (isInitialized == Boolean.FALSE) {
-            initLeafSegmentKeyGenerator(leafKey);
-            isInitialized = Boolean.TRUE;
-            return id;
+    public Comparable<?> generateKey() {
+        if (null == currentSegment) {
+            initLeafSegmentKeyGenerator();
+        }
+        while (true) {
+            Segment segment = currentSegment;
+            long result = segment.getValue().getAndIncrement();
+            if (result < segment.getMax()) {
+                if (result - segment.getStart() >= segment.getStep() * THRESHOLD - 1) {
+                    incrementCacheIdAsynchronous(segment.getNextStep());
+                }
+                return result;
+            }
+            switchToNextSegment(segment);
         }
-        id = generateKeyWhenLeafKeyStoredInCenter(leafKey);
-        return id;
     }
 
-    private void initLeafSegmentKeyGenerator(final String leafKey) {
-        RegistryCenterConfiguration leafConfiguration = getRegistryCenterConfiguration();
-        leafRegistryCenter = new RegistryCenterServiceLoader().load(leafConfiguration);
+    private synchronized void initLeafSegmentKeyGenerator() {
+        if (null != currentSegment) {
+            return;
+        }
+        leafKey = getLeafKey();
+        minStep = getStep();
+        long initialValue = getInitialValue();
+        leafRegistryCenter = new RegistryCenterServiceLoader().load(getRegistryCenterConfiguration());
         if (leafRegistryCenter.isExisted(leafKey)) {
-            id = incrementCacheId(leafKey, getStep());
+            skippedStep = minStep;
         } else {
-            id = getInitialValue();
-            leafRegistryCenter.persist(leafKey, String.valueOf(id));
-            leafRegistryCenter.initLock(leafKey);
+            leafRegistryCenter.persist(leafKey, String.valueOf(initialValue));
         }
-        incrementCacheIdExecutor = Executors.newSingleThreadExecutor();
-        cacheIdQueue = new SynchronousQueue<>();
-        step = getStep();
+        leafRegistryCenter.initLock(leafKey);
+        incrementCacheIdExecutor = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("LeafSegment-%d"));
+        currentSegment = incrementCacheId(minStep);
     }
 
-    private long generateKeyWhenLeafKeyStoredInCenter(final String leafKey) {
-        ++id;
-        if (((id % step) >= (step * THRESHOLD - 1)) && cacheIdQueue.isEmpty()) {
-            incrementCacheIdAsynchronous(leafKey, step);
+    private void incrementCacheIdAsynchronous(final long step) {
+        if (null != nextSegment.get()) {
+            return;
         }
-        if ((id % step) == (step - 1)) {
-            id = tryTakeCacheId();
+        FutureTask<Segment> task = createIncrementCacheIdTask(step);
+        if (nextSegment.compareAndSet(null, task)) {
+            incrementCacheIdExecutor.execute(task);
         }
-        return id;
-    }
-
-    private RegistryCenterConfiguration getRegistryCenterConfiguration() {
-        RegistryCenterConfiguration result = new RegistryCenterConfiguration(getRegistryCenterType(), properties);
-        result.setNamespace(NAMESPACE);
-        result.setServerLists(getServerList());
-        result.setDigest(getDigest());
-        return result;
     }
 
-    private void incrementCacheIdAsynchronous(final String leafKey, final long step) {
-        incrementCacheIdExecutor.execute(new Runnable() {
+    private FutureTask<Segment> createIncrementCacheIdTask(final long step) {
+        return new FutureTask<>(new Callable<Segment>() {
             @Override
-            public void run() {
-                long id = incrementCacheId(leafKey, step);
-                tryPutCacheId(id);
+            public Segment call() {
+                return incrementCacheId(step);
             }
         });
     }
 
     @SneakyThrows
-    private long incrementCacheId(final String leafKey, final long step) {
-        long result = Long.MIN_VALUE;
-        boolean lockIsAcquired = leafRegistryCenter.tryLock();
-        if (lockIsAcquired) {
-            result = updateCacheIdInCenter(leafKey, step);
-            leafRegistryCenter.tryRelease();
+    private synchronized void switchToNextSegment(final Segment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        FutureTask<Segment> task = nextSegment.get();
+        if (null == task) {
+            task = createIncrementCacheIdTask(exhaustedSegment.getNextStep());
+            nextSegment.set(task);
+        }
+        // run on calling thread if allocation has not been started by executor yet
+        task.run();
+        try {
+            currentSegment = task.get();
+        } catch (final ExecutionException ex) {
+            throw ex.getCause();
+        } finally {
+            nextSegment.set(null);
         }
-        return result;
     }
 
     @SneakyThrows
-    private void tryPutCacheId(final long id) {
-        cacheIdQueue.put(id);
+    private Segment incrementCacheId(final long step) {
+        for (int i = 0; i < MAX_LOCK_RETRY_TIMES; i++) {
+            if (leafRegistryCenter.tryLock()) {
+                try {
+                    return updateCacheIdInCenter(step);
+                } finally {
+                    leafRegistryCenter.tryRelease();
+                }
+            }
+            Thread.sleep(Math.min(1L << i, 100L));
+        }
+        throw new IllegalStateException(String.format("Can not acquire lock of leaf key `%s` from registry center.", leafKey));
     }
 
-    @SneakyThrows
-    private long tryTakeCacheId() {
-        return cacheIdQueue.take();
+    private Segment updateCacheIdInCenter(final long step) {
+        String cacheIdInString = leafRegistryCenter.getDirectly(leafKey);
+        Preconditions.checkState(!Strings.isNullOrEmpty(cacheIdInString), "Can not find value of leaf key `%s` from registry center.", leafKey);
+        long start = Long.parseLong(cacheIdInString) + skippedStep;
+        skippedStep = 0L;
+        leafRegistryCenter.update(leafKey, String.valueOf(start + step));
+        return new Segment(start, step);
     }
 
-    private long updateCacheIdInCenter(final String leafKey, final long step) {
-        String cacheIdInString = leafRegistryCenter.getDirectly(leafKey);
-        if (Strings.isNullOrEmpty(cacheIdInString)) {
-            return Long.MIN_VALUE;
-        }
-        long cacheId = Long.parseLong(cacheIdInString);
-        long result = cacheId + step;
-        leafRegistryCenter.update(leafKey, String.valueOf(result));
+    private RegistryCenterConfiguration getRegistryCenterConfiguration() {
+        RegistryCenterConfiguration result = new RegistryCenterConfiguration(getRegistryCenterType(), properties);
+        result.setNamespace(NAMESPACE);
+        result.setServerLists(getServerList());
+        result.setDigest(getDigest());
         return result;
     }
 
@@ -196,4 +237,36 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
     private String getRegistryCenterType() {
         return properties.getProperty("registryCenterType", DEFAULT_REGISTRY_CENTER);
     }
+
+    @RequiredArgsConstructor
+    @Getter
+    private final class Segment {
+
+        private final long start;
+
+        private final long step;
+
+        private final AtomicLong value;
+
+        private final long allocatedMilliseconds = System.currentTimeMillis();
+
+        Segment(final long start, final long step) {
+            this(start, step, new AtomicLong(start));
+        }
+
+        long getMax() {
+            return start + step;
+        }
+
+        long getNextStep() {
+            long duration = System.currentTimeMillis() - allocatedMilliseconds;
+            if (duration < SEGMENT_DURATION_MILLISECONDS) {
+                return Math.min(step << 1, Math.max(MAX_STEP, minStep));
+            }
+            if (duration >= SEGMENT_DURATION_MILLISECONDS << 1) {
+                return Math.max(step >> 1, minStep);
+            }
+            return step;
+        }
+    }
 }
@@ -17,14 +17,17 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry;
 
+import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.api.config.RuleConfiguration;
 import org.apache.shardingsphere.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.orchestration.config.OrchestrationConfiguration;
+import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.service.ConfigurationService;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationListenerManager;
+import org.apache.shardingsphere.orchestration.internal.registry.state.event.TableMetaDataRefreshedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.state.service.StateService;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 
@@ -61,6 +64,7 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
         stateService = new StateService(orchestrationConfig.getName(), regCenter);
         listenerManager = shardingSchemaNames.isEmpty() ? new ShardingOrchestrationListenerManager(orchestrationConfig.getName(), regCenter, configService.getAllShardingSchemaNames())
                 : new ShardingOrchestrationListenerManager(orchestrationConfig.getName(), regCenter, shardingSchemaNames);
+        ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
     /**
@@ -90,8 +94,20 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
         listenerManager.initListeners();
     }
     
+    /**
+     * Persist table meta data refreshed on current instance, in order to broadcast to other instances.
+     *
+     * @param tableMetaDataRefreshedEvent table meta data refreshed event
+     */
+    @Subscribe
+    public void persistTableMetaData(final TableMetaDataRefreshedEvent tableMetaDataRefreshedEvent) {
+        stateService.persistTableMetaData(tableMetaDataRefreshedEvent.getShardingSchemaName(), 
+                tableMetaDataRefreshedEvent.getLogicTableName(), tableMetaDataRefreshedEvent.getTableMetaData(), tableMetaDataRefreshedEvent.getVersion());
+    }
+    
     @Override
     public void close() {
+        ShardingOrchestrationEventBus.getInstance().unregister(this);
         try {
             regCenter.close();
             // CHECKSTYLE:OFF
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.internal.registry.state.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationEvent;
+
+/**
+ * Table meta data changed event.
+ * 
+ * <p>Table meta data are changed by DDL executed on any instance, and read from registry center, table meta data are null if table is dropped.</p>
+ * 
+ * <p>Instance id and version identify the instance which changed table meta data and its local version of them.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class TableMetaDataChangedEvent implements ShardingOrchestrationEvent {
+    
+    private final String shardingSchemaName;
+    
+    private final String logicTableName;
+    
+    private final TableMetaData tableMetaData;
+    
+    private final String instanceId;
+    
+    private final long version;
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.internal.registry.state.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+
+/**
+ * Table meta data refreshed event.
+ * 
+ * <p>Table meta data are refreshed by DDL executed on current instance, and need to be persisted into registry center, table meta data are null if table is dropped.</p>
+ * 
+ * <p>Version is the local version of table meta data on current instance, which is increased on every change.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class TableMetaDataRefreshedEvent {
+    
+    private final String shardingSchemaName;
+    
+    private final String logicTableName;
+    
+    private final TableMetaData tableMetaData;
+    
+    private final long version;
+}
@@ -31,9 +31,12 @@ public final class StateChangedListenerManager {
     
     private final DataSourceStateChangedListener dataSourceStateChangedListener;
     
+    private final TableMetaDataChangedListener tableMetaDataChangedListener;
+    
     public StateChangedListenerManager(final String name, final RegistryCenter regCenter) {
         instanceStateChangedListener = new InstanceStateChangedListener(name, regCenter);
         dataSourceStateChangedListener = new DataSourceStateChangedListener(name, regCenter);
+        tableMetaDataChangedListener = new TableMetaDataChangedListener(name, regCenter);
     }
     
     /**
@@ -42,5 +45,6 @@ public final class StateChangedListenerManager {
     public void initListeners() {
         instanceStateChangedListener.watch(ChangedType.UPDATED);
         dataSourceStateChangedListener.watch(ChangedType.UPDATED, ChangedType.DELETED);
+        tableMetaDataChangedListener.watch(ChangedType.UPDATED);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.internal.registry.state.listener;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.TableMetaDataYamlSwapper;
+import org.apache.shardingsphere.orchestration.internal.registry.config.event.IgnoredShardingOrchestrationEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.PostShardingOrchestrationEventListener;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.state.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.state.node.StateNode;
+import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.orchestration.yaml.config.YamlTableMetaDataState;
+
+import java.util.List;
+
+/**
+ * Table meta data changed listener.
+ *
+ * @author agent
+ */
+public final class TableMetaDataChangedListener extends PostShardingOrchestrationEventListener {
+    
+    private final StateNode stateNode;
+    
+    public TableMetaDataChangedListener(final String name, final RegistryCenter regCenter) {
+        super(regCenter, new StateNode(name).getTableMetaDataNodeFullRootPath());
+        stateNode = new StateNode(name);
+    }
+    
+    @Override
+    protected ShardingOrchestrationEvent createShardingOrchestrationEvent(final DataChangedEvent event) {
+        Optional<List<String>> schemaAndTableName = stateNode.getSchemaAndTableName(event.getKey());
+        if (!schemaAndTableName.isPresent() || Strings.isNullOrEmpty(event.getValue())) {
+            return new IgnoredShardingOrchestrationEvent();
+        }
+        YamlTableMetaDataState tableMetaDataState = YamlEngine.unmarshal(event.getValue(), YamlTableMetaDataState.class);
+        return new TableMetaDataChangedEvent(schemaAndTableName.get().get(0), schemaAndTableName.get().get(1), 
+                null == tableMetaDataState.getTableMetaData() ? null : new TableMetaDataYamlSwapper().swap(tableMetaDataState.getTableMetaData()), 
+                tableMetaDataState.getInstanceId(), tableMetaDataState.getVersion());
+    }
+}
@@ -18,9 +18,13 @@
 package org.apache.shardingsphere.orchestration.internal.registry.state.node;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import com.google.common.base.Splitter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
 
+import java.util.List;
+
 /**
  * State node.
  *
@@ -35,6 +39,8 @@ public final class StateNode {
     
     private static final String DATA_SOURCES_NODE_PATH = "datasources";
     
+    private static final String TABLE_META_DATA_NODE_PATH = "metadata";
+    
     private final String name;
     
     /**
@@ -66,6 +72,26 @@ public final class StateNode {
         return Joiner.on("/").join("", name, ROOT, DATA_SOURCES_NODE_PATH, schemaDataSourceName);
     }
     
+    /**
+     * Get table meta data node full root path.
+     *
+     * @return table meta data node full root path
+     */
+    public String getTableMetaDataNodeFullRootPath() {
+        return Joiner.on("/").join("", name, ROOT, TABLE_META_DATA_NODE_PATH);
+    }
+    
+    /**
+     * Get table meta data node full path.
+     *
+     * @param shardingSchemaName sharding schema name
+     * @param logicTableName logic table name
+     * @return table meta data node full path
+     */
+    public String getTableMetaDataNodeFullPath(final String shardingSchemaName, final String logicTableName) {
+        return Joiner.on("/").join("", name, ROOT, TABLE_META_DATA_NODE_PATH, shardingSchemaName, logicTableName);
+    }
+    
     /**
      * Get orchestration sharding schema.
      *
@@ -75,4 +101,15 @@ public final class StateNode {
     public OrchestrationShardingSchema getOrchestrationShardingSchema(final String dataSourceNodeFullPath) {
         return new OrchestrationShardingSchema(dataSourceNodeFullPath.replace(getDataSourcesNodeFullRootPath() + '/', ""));
     }
+    
+    /**
+     * Get sharding schema name and logic table name.
+     *
+     * @param tableMetaDataNodeFullPath table meta data node full path
+     * @return sharding schema name and logic table name, absent if not a table meta data node
+     */
+    public Optional<List<String>> getSchemaAndTableName(final String tableMetaDataNodeFullPath) {
+        List<String> result = Splitter.on("/").splitToList(tableMetaDataNodeFullPath.replace(getTableMetaDataNodeFullRootPath() + '/', ""));
+        return 2 == result.size() ? Optional.of(result) : Optional.<List<String>>absent();
+    }
 }
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.state.service;
 
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.orchestration.internal.registry.state.instance.OrchestrationInstance;
 import org.apache.shardingsphere.orchestration.internal.registry.state.node.StateNode;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
+import org.apache.shardingsphere.orchestration.yaml.config.YamlTableMetaDataState;
 
 /**
  * Instance state service.
@@ -54,4 +58,28 @@ public final class StateService {
     public void persistDataSourcesNode() {
         regCenter.persist(stateNode.getDataSourcesNodeFullRootPath(), "");
     }
+    
+    /**
+     * Persist table meta data.
+     * 
+     * <p>Node is created before table meta data are persisted, because only updated events are watched.</p>
+     * 
+     * <p>Table meta data are persisted with current instance id and their version, so instances can skip their own or outdated changes.</p>
+     *
+     * @param shardingSchemaName sharding schema name
+     * @param logicTableName logic table name
+     * @param tableMetaData table meta data, null means table is dropped
+     * @param version local version of table meta data
+     */
+    public void persistTableMetaData(final String shardingSchemaName, final String logicTableName, final TableMetaData tableMetaData, final long version) {
+        String key = stateNode.getTableMetaDataNodeFullPath(shardingSchemaName, logicTableName);
+        if (!regCenter.isExisted(key)) {
+            regCenter.persist(key, "");
+        }
+        YamlTableMetaDataState tableMetaDataState = new YamlTableMetaDataState();
+        tableMetaDataState.setInstanceId(instance.getInstanceId());
+        tableMetaDataState.setVersion(version);
+        tableMetaDataState.setTableMetaData(null == tableMetaData ? null : new TableMetaDataYamlSwapper().swap(tableMetaData));
+        regCenter.persist(key, YamlEngine.marshal(tableMetaDataState));
+    }
 }
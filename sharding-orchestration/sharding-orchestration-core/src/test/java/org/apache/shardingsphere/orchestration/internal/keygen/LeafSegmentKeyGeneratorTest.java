@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -170,6 +171,54 @@ public class LeafSegmentKeyGeneratorTest {
         assertThat(actual.size(), is(taskNumber));
     }
 
+    @Test
+    public void assertGenerateKeyContinuouslyAcrossSegments() {
+        Properties properties = new Properties();
+        properties.setProperty("serverList", "127.0.0.1:2181");
+        properties.setProperty("initialValue", "1");
+        properties.setProperty("step", "3");
+        properties.setProperty("leafKey", "test_table_18");
+        properties.setProperty("registryCenterType", "ThirdTestRegistryCenter");
+        leafSegmentKeyGenerator.setProperties(properties);
+        for (long i = 1L; i <= 10000L; i++) {
+            assertThat((Long) leafSegmentKeyGenerator.generateKey(), is(i));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeyWithConcurrentThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Properties properties = new Properties();
+        properties.setProperty("serverList", "127.0.0.1:2181");
+        properties.setProperty("initialValue", "1");
+        properties.setProperty("step", "3");
+        properties.setProperty("leafKey", "test_table_19");
+        properties.setProperty("registryCenterType", "ThirdTestRegistryCenter");
+        leafSegmentKeyGenerator.setProperties(properties);
+        final int keyNumberPerThread = 1000;
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>(keyNumberPerThread);
+                    for (int j = 0; j < keyNumberPerThread; j++) {
+                        result.add(leafSegmentKeyGenerator.generateKey());
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * keyNumberPerThread));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void assertSetStepFailureWhenNegative() {
         Properties properties = new Properties();
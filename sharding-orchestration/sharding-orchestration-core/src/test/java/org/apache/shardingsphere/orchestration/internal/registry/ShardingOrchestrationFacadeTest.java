@@ -19,11 +19,14 @@ package org.apache.shardingsphere.orchestration.internal.registry;
 
 import org.apache.shardingsphere.api.config.RuleConfiguration;
 import org.apache.shardingsphere.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.core.rule.ProxyUser;
 import org.apache.shardingsphere.orchestration.config.OrchestrationConfiguration;
 import org.apache.shardingsphere.orchestration.internal.registry.config.service.ConfigurationService;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationListenerManager;
+import org.apache.shardingsphere.orchestration.internal.registry.state.event.TableMetaDataRefreshedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.state.service.StateService;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
@@ -93,6 +96,13 @@ public final class ShardingOrchestrationFacadeTest {
         verify(listenerManager).initListeners();
     }
     
+    @Test
+    public void assertPersistTableMetaData() {
+        TableMetaData tableMetaData = new TableMetaData(Collections.<ColumnMetaData>emptyList(), Collections.<String>emptySet());
+        shardingOrchestrationFacade.persistTableMetaData(new TableMetaDataRefreshedEvent("sharding_db", "t_order", tableMetaData, 1L));
+        verify(stateService).persistTableMetaData("sharding_db", "t_order", tableMetaData, 1L);
+    }
+    
     @Test
     public void assertCloseSuccess() {
         shardingOrchestrationFacade.close();
@@ -39,13 +39,18 @@ public final class StateChangedListenerManagerTest {
     @Mock
     private DataSourceStateChangedListener dataSourceStateChangedListener;
     
+    @Mock
+    private TableMetaDataChangedListener tableMetaDataChangedListener;
+    
     @Test
     public void assertInitListeners() {
         StateChangedListenerManager actual = new StateChangedListenerManager("test", regCenter);
         FieldUtil.setField(actual, "instanceStateChangedListener", instanceStateChangedListener);
         FieldUtil.setField(actual, "dataSourceStateChangedListener", dataSourceStateChangedListener);
+        FieldUtil.setField(actual, "tableMetaDataChangedListener", tableMetaDataChangedListener);
         actual.initListeners();
         verify(instanceStateChangedListener).watch(ChangedType.UPDATED);
         verify(dataSourceStateChangedListener).watch(ChangedType.UPDATED, ChangedType.DELETED);
+        verify(tableMetaDataChangedListener).watch(ChangedType.UPDATED);
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.internal.registry.state.listener;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.TableMetaDataYamlSwapper;
+import org.apache.shardingsphere.orchestration.internal.registry.config.event.IgnoredShardingOrchestrationEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.state.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent.ChangedType;
+import org.apache.shardingsphere.orchestration.yaml.config.YamlTableMetaDataState;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class TableMetaDataChangedListenerTest {
+    
+    private TableMetaDataChangedListener tableMetaDataChangedListener;
+    
+    @Mock
+    private RegistryCenter regCenter;
+    
+    @Before
+    public void setUp() {
+        tableMetaDataChangedListener = new TableMetaDataChangedListener("test", regCenter);
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataChangedEvent() {
+        TableMetaData expected = new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "INT", true)), Collections.singleton("order_index"));
+        YamlTableMetaDataState tableMetaDataState = createTableMetaDataState(2L);
+        tableMetaDataState.setTableMetaData(new TableMetaDataYamlSwapper().swap(expected));
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/test/state/metadata/sharding_db/t_order", YamlEngine.marshal(tableMetaDataState), ChangedType.UPDATED);
+        TableMetaDataChangedEvent actual = (TableMetaDataChangedEvent) tableMetaDataChangedListener.createShardingOrchestrationEvent(dataChangedEvent);
+        assertThat(actual.getShardingSchemaName(), is("sharding_db"));
+        assertThat(actual.getLogicTableName(), is("t_order"));
+        assertThat(actual.getTableMetaData(), is(expected));
+        assertThat(actual.getInstanceId(), is("127.0.0.1@1@id"));
+        assertThat(actual.getVersion(), is(2L));
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataChangedEventForDroppedTable() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/test/state/metadata/sharding_db/t_order", YamlEngine.marshal(createTableMetaDataState(3L)), ChangedType.UPDATED);
+        TableMetaDataChangedEvent actual = (TableMetaDataChangedEvent) tableMetaDataChangedListener.createShardingOrchestrationEvent(dataChangedEvent);
+        assertThat(actual.getLogicTableName(), is("t_order"));
+        assertNull(actual.getTableMetaData());
+        assertThat(actual.getVersion(), is(3L));
+    }
+    
+    @Test
+    public void assertCreateIgnoredEventForCreatedTableNode() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/test/state/metadata/sharding_db/t_order", "", ChangedType.UPDATED);
+        assertThat(tableMetaDataChangedListener.createShardingOrchestrationEvent(dataChangedEvent), instanceOf(IgnoredShardingOrchestrationEvent.class));
+    }
+    
+    private YamlTableMetaDataState createTableMetaDataState(final long version) {
+        YamlTableMetaDataState result = new YamlTableMetaDataState();
+        result.setInstanceId("127.0.0.1@1@id");
+        result.setVersion(version);
+        return result;
+    }
+    
+    @Test
+    public void assertCreateIgnoredEventForSchemaNode() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/test/state/metadata/sharding_db", "", ChangedType.UPDATED);
+        assertThat(tableMetaDataChangedListener.createShardingOrchestrationEvent(dataChangedEvent), instanceOf(IgnoredShardingOrchestrationEvent.class));
+    }
+}
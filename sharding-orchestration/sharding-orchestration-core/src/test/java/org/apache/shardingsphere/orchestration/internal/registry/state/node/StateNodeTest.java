@@ -19,7 +19,10 @@ package org.apache.shardingsphere.orchestration.internal.registry.state.node;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class StateNodeTest {
@@ -41,6 +44,26 @@ public final class StateNodeTest {
         assertThat(stateNode.getDataSourcesNodeFullPath("sharding_db"), is("/test/state/datasources/sharding_db"));
     }
     
+    @Test
+    public void assertGetTableMetaDataNodeFullRootPath() {
+        assertThat(stateNode.getTableMetaDataNodeFullRootPath(), is("/test/state/metadata"));
+    }
+    
+    @Test
+    public void assertGetTableMetaDataNodeFullPath() {
+        assertThat(stateNode.getTableMetaDataNodeFullPath("sharding_db", "t_order"), is("/test/state/metadata/sharding_db/t_order"));
+    }
+    
+    @Test
+    public void assertGetSchemaAndTableName() {
+        assertThat(stateNode.getSchemaAndTableName("/test/state/metadata/sharding_db/t_order").get(), is(Arrays.asList("sharding_db", "t_order")));
+    }
+    
+    @Test
+    public void assertGetSchemaAndTableNameWithSchemaNode() {
+        assertFalse(stateNode.getSchemaAndTableName("/test/state/metadata/sharding_db").isPresent());
+    }
+    
     @Test
     public void assertGetOrchestrationShardingSchema() {
         assertThat(stateNode.getOrchestrationShardingSchema("/test/state/datasources/master_slave_db.slave_ds_0").getSchemaName(), is("master_slave_db"));
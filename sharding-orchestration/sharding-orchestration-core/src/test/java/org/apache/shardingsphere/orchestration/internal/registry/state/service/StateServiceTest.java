@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.state.service;
 
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,9 +27,14 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class StateServiceTest {
@@ -56,4 +63,20 @@ public final class StateServiceTest {
         stateService.persistDataSourcesNode();
         verify(regCenter).persist("/test/state/datasources", "");
     }
+    
+    @Test
+    public void assertPersistTableMetaDataWithoutNode() {
+        stateService.persistTableMetaData("sharding_db", "t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "INT", true)), Collections.<String>emptySet()), 1L);
+        verify(regCenter).persist("/test/state/metadata/sharding_db/t_order", "");
+        verify(regCenter).persist(eq("/test/state/metadata/sharding_db/t_order"), contains("order_id"));
+        verify(regCenter).persist(eq("/test/state/metadata/sharding_db/t_order"), contains("version: 1"));
+    }
+    
+    @Test
+    public void assertPersistDroppedTableMetaData() {
+        when(regCenter.isExisted("/test/state/metadata/sharding_db/t_order")).thenReturn(true);
+        stateService.persistTableMetaData("sharding_db", "t_order", null, 2L);
+        verify(regCenter).persist(eq("/test/state/metadata/sharding_db/t_order"), contains("version: 2"));
+        verify(regCenter, never()).persist(eq("/test/state/metadata/sharding_db/t_order"), contains("tableMetaData"));
+    }
 }
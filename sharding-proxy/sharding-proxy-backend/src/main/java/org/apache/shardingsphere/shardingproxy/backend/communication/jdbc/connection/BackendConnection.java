@@ -25,7 +25,12 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.memory.MemoryAccountant;
+import org.apache.shardingsphere.core.execute.memory.QueryMemoryAccount;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
@@ -71,8 +76,14 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<QueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
+    private QueryMemoryAccount memoryAccount;
+    
     @Getter
     private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
     
@@ -225,6 +236,44 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
+    /**
+     * Add query result which holds resources besides its result set.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final QueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
+    /**
+     * Open memory account for current query and bind it to current thread.
+     *
+     * @param shardingProperties sharding properties
+     * @return memory account of current query
+     */
+    public QueryMemoryAccount openMemoryAccount(final ShardingProperties shardingProperties) {
+        closeMemoryAccount();
+        memoryAccount = MemoryAccountant.getInstance().newQueryMemoryAccount(shardingProperties);
+        memoryAccount.bind();
+        return memoryAccount;
+    }
+    
+    private void closeMemoryAccount() {
+        if (null != memoryAccount) {
+            memoryAccount.close();
+            memoryAccount = null;
+        }
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -239,8 +288,11 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(closeMergedResults());
+        exceptions.addAll(closeQueryResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
+        closeMemoryAccount();
         if (!stateHandler.isInTransaction() || forceClose) {
             exceptions.addAll(releaseConnections(forceClose));
         }
@@ -248,6 +300,32 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
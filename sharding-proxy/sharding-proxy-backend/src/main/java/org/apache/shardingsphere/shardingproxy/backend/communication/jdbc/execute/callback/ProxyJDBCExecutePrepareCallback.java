@@ -21,9 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareCallback;
+import org.apache.shardingsphere.core.execute.sql.prepare.StreamingFetchPolicy;
 import org.apache.shardingsphere.core.route.RouteUnit;
-import org.apache.shardingsphere.core.spi.database.MySQLDatabaseType;
-import org.apache.shardingsphere.core.spi.database.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
@@ -41,9 +40,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class ProxyJDBCExecutePrepareCallback implements SQLExecutePrepareCallback {
     
-    private static final Integer MYSQL_MEMORY_FETCH_ONE_ROW_A_TIME = Integer.MIN_VALUE;
-    
-    private static final int POSTGRESQL_MEMORY_FETCH_ONE_ROW_A_TIME = 1;
+    private static final int MEMORY_FETCH_ONE_ROW_A_TIME = 1;
     
     private final BackendConnection backendConnection;
     
@@ -60,10 +57,9 @@ public final class ProxyJDBCExecutePrepareCallback implements SQLExecutePrepareC
     public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
         Statement statement = jdbcExecutorWrapper.createStatement(connection, routeUnit.getSqlUnit(), isReturnGeneratedKeys);
         if (connectionMode.equals(ConnectionMode.MEMORY_STRICTLY)) {
-            if (LogicSchemas.getInstance().getDatabaseType() instanceof MySQLDatabaseType) {
-                statement.setFetchSize(MYSQL_MEMORY_FETCH_ONE_ROW_A_TIME);
-            } else if (LogicSchemas.getInstance().getDatabaseType() instanceof PostgreSQLDatabaseType) {
-                statement.setFetchSize(POSTGRESQL_MEMORY_FETCH_ONE_ROW_A_TIME);
+            StreamingFetchPolicy streamingFetchPolicy = StreamingFetchPolicy.valueFrom(LogicSchemas.getInstance().getDatabaseType());
+            if (StreamingFetchPolicy.DEFAULT != streamingFetchPolicy) {
+                streamingFetchPolicy.apply(statement, MEMORY_FETCH_ONE_ROW_A_TIME);
             }
         }
         return new StatementExecuteUnit(routeUnit, statement, connectionMode);
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback;
 
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrefetchQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.route.RouteUnit;
@@ -30,11 +32,13 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execut
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -97,17 +101,26 @@ public final class ProxySQLExecuteCallback extends SQLExecuteCallback<ExecuteRes
         return result;
     }
     
-    private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) {
+    private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
         LogicSchema logicSchema = backendConnection.getLogicSchema();
         if (logicSchema instanceof ShardingSchema) {
             ShardingRule shardingRule = logicSchema.getShardingRule();
-            return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet, shardingRule) : new MemoryQueryResult(resultSet, shardingRule);
+            return connectionMode == ConnectionMode.MEMORY_STRICTLY ? getStreamQueryResult(resultSet, new StreamQueryResult(resultSet, shardingRule)) : new MemoryQueryResult(resultSet, shardingRule);
         }
         if (logicSchema instanceof EncryptSchema) {
             EncryptRule encryptRule = ((EncryptSchema) logicSchema).getEncryptRule();
-            return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet, encryptRule) : new MemoryQueryResult(resultSet, encryptRule);
+            return connectionMode == ConnectionMode.MEMORY_STRICTLY ? getStreamQueryResult(resultSet, new StreamQueryResult(resultSet, encryptRule)) : new MemoryQueryResult(resultSet, encryptRule);
         }
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? getStreamQueryResult(resultSet, new StreamQueryResult(resultSet)) : new MemoryQueryResult(resultSet);
+    }
+    
+    private QueryResult getStreamQueryResult(final ResultSet resultSet, final QueryResult streamQueryResult) throws SQLException {
+        if (!ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.QUERY_RESULT_PREFETCH_ENABLED)) {
+            return streamQueryResult;
+        }
+        QueryResult result = new PrefetchQueryResult(streamQueryResult, resultSet.getFetchSize(), BackendExecutorContext.getInstance().getExecuteEngine().getPrefetchExecutorService());
+        backendConnection.add(result);
+        return result;
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
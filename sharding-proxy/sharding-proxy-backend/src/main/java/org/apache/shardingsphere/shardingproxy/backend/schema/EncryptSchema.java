@@ -59,7 +59,7 @@ public final class EncryptSchema extends LogicSchema {
     
     private ShardingMetaData createShardingMetaData() {
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(getDataSources()), shardingRule, LogicSchemas.getInstance().getDatabaseType());
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(shardingDataSourceMetaData, shardingRule);
         return new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
     }
     
@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.schema;
 
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshot;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -35,6 +39,7 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParamet
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 
+import java.io.File;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -92,12 +97,25 @@ public abstract class LogicSchema {
         return result;
     }
     
+    protected final ShardingTableMetaData createShardingTableMetaData(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingRule shardingRule) {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        TableMetaDataInitializer tableMetaDataInitializer = getTableMetaDataInitializer(shardingDataSourceMetaData);
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.LOAD_TABLE_METADATA_LAZILY)) {
+            String eagerLoadedTables = shardingProperties.getValue(ShardingPropertiesConstant.EAGER_LOADED_TABLES);
+            return tableMetaDataInitializer.loadLazily(shardingRule, Splitter.on(",").trimResults().omitEmptyStrings().splitToList(eagerLoadedTables));
+        }
+        String snapshotFile = shardingProperties.getValue(ShardingPropertiesConstant.TABLE_METADATA_SNAPSHOT_FILE);
+        return Strings.isNullOrEmpty(snapshotFile) ? new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule))
+                : tableMetaDataInitializer.load(shardingRule, new TableMetaDataSnapshot(new File(snapshotFile + "." + name)));
+    }
+    
     protected final TableMetaDataInitializer getTableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
         return new TableMetaDataInitializer(
                 shardingDataSourceMetaData, BackendExecutorContext.getInstance().getExecuteEngine(), new ProxyTableMetaDataConnectionManager(getBackendDataSource()),
                 shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY),
-                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED),
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.LOAD_TABLE_METADATA_IN_BULK));
     }
     
     /**
@@ -20,11 +20,15 @@ package org.apache.shardingsphere.shardingproxy.backend.schema;
 import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.execute.metadata.AlteredTableMetaDataBuilder;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataRevalidatedCallback;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.AlterTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStatement;
@@ -33,14 +37,19 @@ import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.ShardingRuleChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.state.event.DisabledStateChangedEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.state.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.state.event.TableMetaDataRefreshedEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.state.instance.OrchestrationInstance;
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationMasterSlaveRule;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardingRule;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -59,8 +68,14 @@ public final class ShardingSchema extends LogicSchema {
     
     private final ShardingMetaData metaData;
     
+    private final boolean isUsingRegistry;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> changedTableMetaDataVersions = new HashMap<>();
+    
     public ShardingSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) {
         super(name, dataSources);
+        this.isUsingRegistry = isUsingRegistry;
         shardingRule = createShardingRule(shardingRuleConfig, dataSources.keySet(), isUsingRegistry);
         metaData = createShardingMetaData();
     }
@@ -71,7 +86,7 @@ public final class ShardingSchema extends LogicSchema {
     
     private ShardingMetaData createShardingMetaData() {
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(getDataSources()), shardingRule, LogicSchemas.getInstance().getDatabaseType());
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(shardingDataSourceMetaData, shardingRule);
         return new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
     }
     
@@ -102,6 +117,43 @@ public final class ShardingSchema extends LogicSchema {
         }
     }
     
+    /**
+     * Renew table meta data changed by other instances.
+     * 
+     * <p>
+     * Changes made by current instance are skipped, because they are already applied and local meta data may be newer than the broadcast.
+     * Changes of another instance are skipped if they are not newer than the last applied change of that instance, or meta data are unchanged.
+     * </p>
+     *
+     * @param tableMetaDataChangedEvent table meta data changed event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataChangedEvent tableMetaDataChangedEvent) {
+        if (!getName().equals(tableMetaDataChangedEvent.getShardingSchemaName()) 
+                || OrchestrationInstance.getInstance().getInstanceId().equals(tableMetaDataChangedEvent.getInstanceId()) || !isNewerTableMetaDataChange(tableMetaDataChangedEvent)) {
+            return;
+        }
+        String logicTableName = tableMetaDataChangedEvent.getLogicTableName();
+        ShardingTableMetaData shardingTableMetaData = getMetaData().getTable();
+        if (null == tableMetaDataChangedEvent.getTableMetaData()) {
+            if (shardingTableMetaData.containsTable(logicTableName)) {
+                shardingTableMetaData.remove(logicTableName);
+            }
+        } else if (!shardingTableMetaData.containsTable(logicTableName) || !tableMetaDataChangedEvent.getTableMetaData().equals(shardingTableMetaData.get(logicTableName))) {
+            shardingTableMetaData.put(logicTableName, tableMetaDataChangedEvent.getTableMetaData());
+        }
+    }
+    
+    private boolean isNewerTableMetaDataChange(final TableMetaDataChangedEvent tableMetaDataChangedEvent) {
+        String key = tableMetaDataChangedEvent.getInstanceId() + "/" + tableMetaDataChangedEvent.getLogicTableName();
+        Long appliedVersion = changedTableMetaDataVersions.get(key);
+        if (null != appliedVersion && appliedVersion >= tableMetaDataChangedEvent.getVersion()) {
+            return false;
+        }
+        changedTableMetaDataVersions.put(key, tableMetaDataChangedEvent.getVersion());
+        return true;
+    }
+    
     @Override
     public void refreshTableMetaData(final SQLStatement sqlStatement) {
         if (sqlStatement instanceof CreateTableStatement) {
@@ -118,18 +170,36 @@ public final class ShardingSchema extends LogicSchema {
     }
     
     private void refreshTableMetaData(final CreateTableStatement createTableStatement) {
-        String tableName = createTableStatement.getTables().getSingleTableName();
-        getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, shardingRule));
+        refreshTableMetaData(createTableStatement.getTables().getSingleTableName());
     }
     
     private void refreshTableMetaData(final AlterTableStatement alterTableStatement) {
         String tableName = alterTableStatement.getTables().getSingleTableName();
+        ShardingTableMetaData shardingTableMetaData = getMetaData().getTable();
+        if (!shardingTableMetaData.containsTable(tableName)) {
+            refreshTableMetaData(tableName);
+            return;
+        }
+        shardingTableMetaData.put(tableName, AlteredTableMetaDataBuilder.build(shardingTableMetaData.get(tableName), alterTableStatement));
+        broadcastTableMetaData(tableName);
+        getTableMetaDataInitializer(metaData.getDataSource()).revalidateAsynchronously(shardingTableMetaData, tableName, shardingRule, new TableMetaDataRevalidatedCallback() {
+            
+            @Override
+            public void onChanged(final String logicTableName, final TableMetaData tableMetaData) {
+                broadcastTableMetaData(logicTableName);
+            }
+        });
+    }
+    
+    private void refreshTableMetaData(final String tableName) {
         getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, shardingRule));
+        broadcastTableMetaData(tableName);
     }
     
     private void refreshTableMetaData(final DropTableStatement dropTableStatement) {
         for (String each : dropTableStatement.getTables().getTableNames()) {
             getMetaData().getTable().remove(each);
+            broadcastTableMetaData(each);
         }
     }
     
@@ -139,6 +209,7 @@ public final class ShardingSchema extends LogicSchema {
         }
         String tableName = createIndexStatement.getTables().getSingleTableName();
         getMetaData().getTable().get(tableName).getLogicIndexes().add(createIndexStatement.getIndexName());
+        broadcastTableMetaData(tableName);
     }
     
     private void refreshTableMetaData(final DropIndexStatement dropIndexStatement) {
@@ -148,6 +219,7 @@ public final class ShardingSchema extends LogicSchema {
         Optional<String> logicTableName = getLogicTableName(dropIndexStatement);
         if (logicTableName.isPresent()) {
             getMetaData().getTable().get(logicTableName.get()).getLogicIndexes().remove(dropIndexStatement.getIndexName());
+            broadcastTableMetaData(logicTableName.get());
         }
     }
     
@@ -157,4 +229,12 @@ public final class ShardingSchema extends LogicSchema {
         }
         return Optional.of(dropIndexStatement.getTables().getSingleTableName());
     }
+    
+    private void broadcastTableMetaData(final String logicTableName) {
+        if (isUsingRegistry) {
+            long version = getMetaData().getTable().getVersion(logicTableName);
+            TableMetaData tableMetaData = getMetaData().getTable().containsTable(logicTableName) ? getMetaData().getTable().get(logicTableName) : null;
+            ShardingOrchestrationEventBus.getInstance().post(new TableMetaDataRefreshedEvent(getName(), logicTableName, tableMetaData, version));
+        }
+    }
 }
@@ -48,7 +48,7 @@ public final class TransparentSchema extends LogicSchema {
     
     private ShardingMetaData createShardingMetaData() {
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(getDataSources()), shardingRule, LogicSchemas.getInstance().getDatabaseType());
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(shardingDataSourceMetaData, shardingRule);
         return new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 
 import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.execute.memory.MemoryAccountant;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dal.show.ShowShardingCTLMergedResult;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
@@ -64,6 +65,8 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "MEMORY_USAGE":
+                return createResponsePackets("MEMORY_USAGE", MemoryAccountant.getInstance().getUsedBytes());
             default:
                 return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
         }
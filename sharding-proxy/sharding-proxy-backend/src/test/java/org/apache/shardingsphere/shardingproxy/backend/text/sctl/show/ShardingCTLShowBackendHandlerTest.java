@@ -62,6 +62,18 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(queryData.getData().iterator().next(), CoreMatchers.<Object>is(0));
     }
     
+    @Test
+    public void assertShowMemoryUsage() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show memory_usage", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(1));
+        backendHandler.next();
+        QueryData queryData = backendHandler.getQueryData();
+        assertThat(queryData.getData().iterator().next(), instanceOf(Long.class));
+    }
+    
     @Test
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");